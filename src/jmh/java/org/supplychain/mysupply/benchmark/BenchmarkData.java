@@ -0,0 +1,27 @@
+package org.supplychain.mysupply.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BenchmarkData {
+
+    private final long[] productIds;
+    private final long[] customerIds;
+    private final long[] materialIds;
+    private final long[] supplierIds;
+    private final int materialsPerSupplier;
+    private final int customerOrderCount;
+    private final int supplyOrderCount;
+    private final int productionOrderCount;
+    private final int deliveryCount;
+
+    public long[] materialsOf(int supplierIndex) {
+        long[] materials = new long[materialsPerSupplier];
+        for (int i = 0; i < materialsPerSupplier; i++) {
+            materials[i] = materialIds[i * supplierIds.length + supplierIndex];
+        }
+        return materials;
+    }
+}
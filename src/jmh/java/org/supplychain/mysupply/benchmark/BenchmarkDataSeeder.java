@@ -0,0 +1,177 @@
+package org.supplychain.mysupply.benchmark;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class BenchmarkDataSeeder {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int SUPPLIER_COUNT = 50;
+    private static final int MATERIALS_PER_SUPPLIER = 20;
+    private static final int CUSTOMER_COUNT = 1000;
+    private static final int BOM_LINES_PER_PRODUCT = 3;
+    private static final int LINES_PER_ORDER = 3;
+    private static final int UNLIMITED_STOCK = 1_000_000_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BenchmarkData seed(int productCount, int orderCount) {
+        long[] supplierIds = seedSuppliers();
+        long[] materialIds = seedMaterials(supplierIds);
+        long[] productIds = seedProducts(productCount, materialIds);
+        long[] customerIds = seedCustomers();
+
+        long[] customerOrderIds = seedCustomerOrders(orderCount, customerIds, productIds);
+        int deliveryCount = seedDeliveries(customerOrderIds);
+        int supplyOrderCount = Math.max(1, orderCount / 10);
+        seedSupplyOrders(supplyOrderCount, supplierIds, materialIds);
+        int productionOrderCount = Math.max(1, orderCount / 10);
+        seedProductionOrders(productionOrderCount, productIds);
+
+        return new BenchmarkData(productIds, customerIds, materialIds, supplierIds, MATERIALS_PER_SUPPLIER,
+                orderCount, supplyOrderCount, productionOrderCount, deliveryCount);
+    }
+
+    private long[] seedSuppliers() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < SUPPLIER_COUNT; i++) {
+            rows.add(new Object[]{"Bench Supplier " + i, "Bench contact", "supplier" + i + "@bench.local", 3.0 + (i % 20) / 10.0, 2 + i % 15});
+        }
+        insert("INSERT INTO suppliers (id_supplier, name, contact, email, rating, lead_time) " +
+                "VALUES (NEXT VALUE FOR suppliers_seq, ?, ?, ?, ?, ?)", rows);
+        return ids("SELECT id_supplier FROM suppliers WHERE email LIKE '%@bench.local' ORDER BY id_supplier");
+    }
+
+    private long[] seedMaterials(long[] supplierIds) {
+        int materialCount = SUPPLIER_COUNT * MATERIALS_PER_SUPPLIER;
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < materialCount; i++) {
+            rows.add(new Object[]{"Bench Material " + i, UNLIMITED_STOCK, 0, 100, "KG"});
+        }
+        insert("INSERT INTO raw_materials (id_material, name, stock, reserved_stock, stock_min, unit) " +
+                "VALUES (NEXT VALUE FOR raw_materials_seq, ?, ?, ?, ?, ?)", rows);
+        long[] materialIds = ids("SELECT id_material FROM raw_materials WHERE name LIKE 'Bench Material %' ORDER BY id_material");
+
+        List<Object[]> links = new ArrayList<>();
+        for (int i = 0; i < materialIds.length; i++) {
+            links.add(new Object[]{materialIds[i], supplierIds[i % supplierIds.length]});
+        }
+        insert("INSERT INTO material_suppliers (material_id, supplier_id) VALUES (?, ?)", links);
+        return materialIds;
+    }
+
+    private long[] seedProducts(int productCount, long[] materialIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            rows.add(new Object[]{"Bench Product " + i, 1 + i % 8, BigDecimal.valueOf(10 + i % 90), UNLIMITED_STOCK, 10, "UNIT"});
+        }
+        insert("INSERT INTO products (id_product, name, production_time, cost, stock, minimum_stock, unit) " +
+                "VALUES (NEXT VALUE FOR products_seq, ?, ?, ?, ?, ?, ?)", rows);
+        long[] productIds = ids("SELECT id_product FROM products WHERE name LIKE 'Bench Product %' ORDER BY id_product");
+
+        List<Object[]> bomRows = new ArrayList<>();
+        for (int i = 0; i < productIds.length; i++) {
+            for (int j = 0; j < BOM_LINES_PER_PRODUCT; j++) {
+                long materialId = materialIds[(i * BOM_LINES_PER_PRODUCT + j) % materialIds.length];
+                bomRows.add(new Object[]{productIds[i], materialId, 1 + j});
+            }
+        }
+        insert("INSERT INTO bill_of_materials (idbom, product_id, material_id, quantity) " +
+                "VALUES (NEXT VALUE FOR bill_of_materials_seq, ?, ?, ?)", bomRows);
+        return productIds;
+    }
+
+    private long[] seedCustomers() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < CUSTOMER_COUNT; i++) {
+            rows.add(new Object[]{"Bench Customer " + i, "customer" + i + "@bench.local", i + " Bench Street", "City " + (i % 40)});
+        }
+        insert("INSERT INTO customers (id_customer, name, email, address, city) " +
+                "VALUES (NEXT VALUE FOR customers_seq, ?, ?, ?, ?)", rows);
+        return ids("SELECT id_customer FROM customers WHERE email LIKE '%@bench.local' ORDER BY id_customer");
+    }
+
+    private long[] seedCustomerOrders(int orderCount, long[] customerIds, long[] productIds) {
+        Date orderDate = Date.valueOf(LocalDate.now().minusDays(30));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            rows.add(new Object[]{"BENCH-CO-" + i, customerIds[i % customerIds.length], orderDate, BigDecimal.valueOf(60), "EN_PREPARATION"});
+        }
+        insert("INSERT INTO customer_orders (id_order, order_number, customer_id, order_date, total_amount, status) " +
+                "VALUES (NEXT VALUE FOR customer_orders_seq, ?, ?, ?, ?, ?)", rows);
+        long[] orderIds = ids("SELECT id_order FROM customer_orders WHERE order_number LIKE 'BENCH-CO-%' ORDER BY id_order");
+
+        List<Object[]> lineRows = new ArrayList<>();
+        for (int i = 0; i < orderIds.length; i++) {
+            for (int j = 0; j < LINES_PER_ORDER; j++) {
+                long productId = productIds[(i * LINES_PER_ORDER + j) % productIds.length];
+                lineRows.add(new Object[]{orderIds[i], productId, 2, BigDecimal.TEN, BigDecimal.valueOf(20)});
+            }
+        }
+        insert("INSERT INTO customer_order_lines (id_order_line, customer_order_id, product_id, quantity, unit_price, total_price) " +
+                "VALUES (NEXT VALUE FOR customer_order_lines_seq, ?, ?, ?, ?, ?)", lineRows);
+        return orderIds;
+    }
+
+    private int seedDeliveries(long[] customerOrderIds) {
+        Date scheduledDate = Date.valueOf(LocalDate.now().plusDays(2));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < customerOrderIds.length; i += 2) {
+            rows.add(new Object[]{customerOrderIds[i], i + " Delivery Avenue", "City " + (i % 40), "Driver " + (i % 25),
+                    "Truck " + (i % 10), "PLANIFIEE", scheduledDate, BigDecimal.valueOf(45), "BENCH-TRK-" + i});
+        }
+        insert("INSERT INTO deliveries (id_delivery, customer_order_id, delivery_address, city, driver, vehicle, status, scheduled_date, delivery_cost, tracking_number) " +
+                "VALUES (NEXT VALUE FOR deliveries_seq, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        return rows.size();
+    }
+
+    private void seedSupplyOrders(int orderCount, long[] supplierIds, long[] materialIds) {
+        Date orderDate = Date.valueOf(LocalDate.now().minusDays(10));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            rows.add(new Object[]{"BENCH-SO-" + i, supplierIds[i % supplierIds.length], orderDate, "EN_COURS", BigDecimal.valueOf(300)});
+        }
+        insert("INSERT INTO supply_orders (id_order, order_number, supplier_id, order_date, status, total_amount) " +
+                "VALUES (NEXT VALUE FOR supply_orders_seq, ?, ?, ?, ?, ?)", rows);
+        long[] orderIds = ids("SELECT id_order FROM supply_orders WHERE order_number LIKE 'BENCH-SO-%' ORDER BY id_order");
+
+        List<Object[]> lineRows = new ArrayList<>();
+        for (int i = 0; i < orderIds.length; i++) {
+            for (int j = 0; j < LINES_PER_ORDER; j++) {
+                long materialId = materialIds[(j * supplierIds.length + i % supplierIds.length) % materialIds.length];
+                lineRows.add(new Object[]{orderIds[i], materialId, 10, BigDecimal.TEN});
+            }
+        }
+        insert("INSERT INTO supply_order_lines (id_line, supply_order_id, raw_material_id, quantity, unit_price) " +
+                "VALUES (NEXT VALUE FOR supply_order_lines_seq, ?, ?, ?, ?)", lineRows);
+    }
+
+    private void seedProductionOrders(int orderCount, long[] productIds) {
+        Date orderDate = Date.valueOf(LocalDate.now().minusDays(5));
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            rows.add(new Object[]{"BENCH-PO-" + i, productIds[i % productIds.length], 5, "TERMINE", "STANDARD", orderDate, 40});
+        }
+        insert("INSERT INTO production_orders (id_order, order_number, product_id, quantity, status, priority, order_date, estimated_production_time_hours) " +
+                "VALUES (NEXT VALUE FOR production_orders_seq, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    private long[] ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}
@@ -0,0 +1,53 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.supplychain.mysupply.livraison.dto.OrderDTO;
+import org.supplychain.mysupply.livraison.dto.OrderLineDTO;
+import org.supplychain.mysupply.livraison.dto.OrderResponseDTO;
+import org.supplychain.mysupply.livraison.service.interf.ICustomerOrderService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CustomerOrderBenchmark {
+
+    private static final int LINES_PER_ORDER = 5;
+
+    @Benchmark
+    public OrderResponseDTO createOrder(SupplyChainState state) {
+        BenchmarkData data = state.data();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        List<OrderLineDTO> lines = new ArrayList<>();
+        for (int i = 0; i < LINES_PER_ORDER; i++) {
+            OrderLineDTO line = new OrderLineDTO();
+            line.setProductId(data.getProductIds()[random.nextInt(data.getProductIds().length)]);
+            line.setQuantity(1 + random.nextInt(3));
+            line.setUnitPrice(BigDecimal.valueOf(25));
+            lines.add(line);
+        }
+
+        OrderDTO order = new OrderDTO();
+        order.setOrderNumber(state.nextOrderNumber("JMH-CO"));
+        order.setCustomerId(data.getCustomerIds()[random.nextInt(data.getCustomerIds().length)]);
+        order.setOrderDate(LocalDate.now().toString());
+        order.setOrderLines(lines);
+
+        return state.bean(ICustomerOrderService.class).createOrder(order);
+    }
+}
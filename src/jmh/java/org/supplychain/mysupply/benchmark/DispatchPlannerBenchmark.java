@@ -0,0 +1,67 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.supplychain.mysupply.livraison.dto.DispatchVehicleDTO;
+import org.supplychain.mysupply.livraison.repository.projection.DispatchStopRow;
+import org.supplychain.mysupply.livraison.service.DispatchPlan;
+import org.supplychain.mysupply.livraison.service.DispatchPlanner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DispatchPlannerBenchmark {
+
+    private static final int CITIES = 40;
+    private static final int POSTAL_CODES_PER_CITY = 200;
+
+    @Param({"1000", "5000"})
+    private int stops;
+
+    @Param("100")
+    private int vehicleCapacity;
+
+    private DispatchPlanner planner;
+    private List<DispatchStopRow> rows;
+    private List<DispatchVehicleDTO> fleet;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(7);
+        rows = new ArrayList<>(stops);
+        for (long id = 1; id <= stops; id++) {
+            int city = random.nextInt(CITIES);
+            rows.add(new DispatchStopRow(id, "BENCH-TRK-" + id, id + " Delivery Avenue", "City " + city,
+                    String.valueOf(10000 + city * 1000 + random.nextInt(POSTAL_CODES_PER_CITY) * 5)));
+        }
+
+        fleet = new ArrayList<>();
+        for (int i = 0; i < stops * 5 / (vehicleCapacity * 4); i++) {
+            fleet.add(new DispatchVehicleDTO("Driver " + i, "Truck " + i, vehicleCapacity));
+        }
+        planner = new DispatchPlanner("City 0");
+    }
+
+    @Benchmark
+    public DispatchPlan planDay() {
+        return planner.plan(rows, fleet);
+    }
+}
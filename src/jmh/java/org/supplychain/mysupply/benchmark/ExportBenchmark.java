@@ -0,0 +1,61 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.supplychain.mysupply.approvisionnement.service.interf.ISupplyOrderService;
+import org.supplychain.mysupply.common.export.ExportFormat;
+import org.supplychain.mysupply.livraison.service.DeliveryService;
+import org.supplychain.mysupply.livraison.service.interf.ICustomerOrderService;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ExportBenchmark {
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Rows {
+
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Benchmark
+    public void exportCustomerOrdersNdjson(SupplyChainState state, Rows counter) {
+        counter.rows += state.bean(ICustomerOrderService.class).exportOrders(ExportFormat.NDJSON, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void exportCustomerOrdersCsv(SupplyChainState state, Rows counter) {
+        counter.rows += state.bean(ICustomerOrderService.class).exportOrders(ExportFormat.CSV, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void exportSupplyOrdersNdjson(SupplyChainState state, Rows counter) {
+        counter.rows += state.bean(ISupplyOrderService.class).exportSupplyOrders(ExportFormat.NDJSON, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void exportDeliveriesNdjson(SupplyChainState state, Rows counter) {
+        counter.rows += state.bean(DeliveryService.class).exportDeliveries(ExportFormat.NDJSON, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,62 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderResponseDTO;
+import org.supplychain.mysupply.approvisionnement.service.interf.ISupplyOrderService;
+import org.supplychain.mysupply.livraison.dto.OrderResponseDTO;
+import org.supplychain.mysupply.livraison.service.interf.ICustomerOrderService;
+import org.supplychain.mysupply.production.dto.ProductResponseDTO;
+import org.supplychain.mysupply.production.dto.ProductionOrderResponseDTO;
+import org.supplychain.mysupply.production.service.interf.IProductService;
+import org.supplychain.mysupply.production.service.interf.IProductionOrderService;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ListingBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Benchmark
+    public Page<OrderResponseDTO> listCustomerOrders(SupplyChainState state) {
+        return state.bean(ICustomerOrderService.class)
+                .getAllOrders(randomPage(state.data().getCustomerOrderCount()));
+    }
+
+    @Benchmark
+    public Page<SupplyOrderResponseDTO> listSupplyOrders(SupplyChainState state) {
+        return state.bean(ISupplyOrderService.class)
+                .getAllSupplyOrders(randomPage(state.data().getSupplyOrderCount()));
+    }
+
+    @Benchmark
+    public Page<ProductionOrderResponseDTO> listProductionOrders(SupplyChainState state) {
+        return state.bean(IProductionOrderService.class)
+                .getAllProductionOrders(randomPage(state.data().getProductionOrderCount()));
+    }
+
+    @Benchmark
+    public Page<ProductResponseDTO> listProducts(SupplyChainState state) {
+        return state.bean(IProductService.class)
+                .getAllProducts(randomPage(state.data().getProductIds().length));
+    }
+
+    private Pageable randomPage(int rowCount) {
+        int pages = Math.max(1, rowCount / PAGE_SIZE);
+        return PageRequest.of(ThreadLocalRandom.current().nextInt(pages), PAGE_SIZE);
+    }
+}
@@ -0,0 +1,103 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.supplychain.mysupply.livraison.dto.OrderResponseDTO;
+import org.supplychain.mysupply.livraison.enums.CustomerOrderStatus;
+import org.supplychain.mysupply.livraison.mapper.CustomerOrderMapper;
+import org.supplychain.mysupply.livraison.model.Customer;
+import org.supplychain.mysupply.livraison.model.CustomerOrder;
+import org.supplychain.mysupply.livraison.model.CustomerOrderLine;
+import org.supplychain.mysupply.production.dto.ProductResponseDTO;
+import org.supplychain.mysupply.production.mapper.ProductMapper;
+import org.supplychain.mysupply.production.model.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private static final int LINES_PER_ORDER = 10;
+
+    @State(Scope.Benchmark)
+    public static class Graph {
+
+        private CustomerOrderMapper customerOrderMapper;
+        private ProductMapper productMapper;
+        private CustomerOrder order;
+        private Product product;
+
+        @Setup(Level.Trial)
+        public void build(SupplyChainState state) {
+            customerOrderMapper = state.bean(CustomerOrderMapper.class);
+            productMapper = state.bean(ProductMapper.class);
+
+            Customer customer = new Customer();
+            customer.setIdCustomer(1L);
+            customer.setName("Mapper Customer");
+            customer.setEmail("mapper@bench.local");
+            customer.setAddress("1 Mapper Street");
+            customer.setCity("Rabat");
+
+            order = new CustomerOrder();
+            order.setIdOrder(1L);
+            order.setOrderNumber("MAP-1");
+            order.setCustomer(customer);
+            order.setOrderDate(LocalDate.now());
+            order.setStatus(CustomerOrderStatus.EN_PREPARATION);
+
+            for (int i = 0; i < LINES_PER_ORDER; i++) {
+                Product lineProduct = product(i);
+
+                CustomerOrderLine line = new CustomerOrderLine();
+                line.setIdOrderLine((long) i);
+                line.setCustomerOrder(order);
+                line.setProduct(lineProduct);
+                line.setQuantity(2);
+                line.setUnitPrice(BigDecimal.valueOf(15));
+                line.setTotalPrice(BigDecimal.valueOf(30));
+                order.getOrderLines().add(line);
+            }
+            order.setTotalAmount(BigDecimal.valueOf(30L * LINES_PER_ORDER));
+
+            product = product(LINES_PER_ORDER);
+        }
+
+        private Product product(int index) {
+            Product product = new Product();
+            product.setIdProduct((long) index);
+            product.setName("Mapper Product " + index);
+            product.setProductionTime(2);
+            product.setCost(BigDecimal.TEN);
+            product.setStock(100);
+            product.setMinimumStock(10);
+            product.setUnit("UNIT");
+            return product;
+        }
+    }
+
+    @Benchmark
+    public OrderResponseDTO mapCustomerOrder(Graph graph) {
+        return graph.customerOrderMapper.toResponseDTO(graph.order);
+    }
+
+    @Benchmark
+    public ProductResponseDTO mapProduct(Graph graph) {
+        return graph.productMapper.toResponseDTO(graph.product);
+    }
+}
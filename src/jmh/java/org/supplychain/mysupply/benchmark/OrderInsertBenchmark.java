@@ -0,0 +1,146 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.supplychain.mysupply.MySupplyApplication;
+import org.supplychain.mysupply.livraison.dto.OrderDTO;
+import org.supplychain.mysupply.livraison.dto.OrderLineDTO;
+import org.supplychain.mysupply.livraison.dto.OrderResponseDTO;
+import org.supplychain.mysupply.livraison.enums.CustomerOrderStatus;
+import org.supplychain.mysupply.livraison.model.CustomerOrder;
+import org.supplychain.mysupply.livraison.model.CustomerOrderLine;
+import org.supplychain.mysupply.livraison.repository.CustomerOrderRepository;
+import org.supplychain.mysupply.livraison.repository.CustomerRepository;
+import org.supplychain.mysupply.livraison.service.interf.ICustomerOrderService;
+import org.supplychain.mysupply.production.repository.ProductRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OrderInsertBenchmark {
+
+    private static final int LINES_PER_ORDER = 100;
+
+    @State(Scope.Benchmark)
+    public static class InsertState {
+
+        @Param({"1", "50"})
+        public int jdbcBatchSize;
+
+        private ConfigurableApplicationContext context;
+        private BenchmarkData data;
+        private TransactionTemplate transactionTemplate;
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = new SpringApplicationBuilder(MySupplyApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .profiles("jmh")
+                    .properties("spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize)
+                    .run();
+            data = new BenchmarkDataSeeder(context.getBean(JdbcTemplate.class)).seed(LINES_PER_ORDER, 0);
+            transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    /**
+     * End to end: validation, one conditional stock UPDATE per line, then the order and line inserts.
+     */
+    @Benchmark
+    public OrderResponseDTO createHundredLineOrder(InsertState state) {
+        List<OrderLineDTO> lines = new ArrayList<>();
+        for (long productId : state.data.getProductIds()) {
+            OrderLineDTO line = new OrderLineDTO();
+            line.setProductId(productId);
+            line.setQuantity(1);
+            line.setUnitPrice(BigDecimal.valueOf(25));
+            lines.add(line);
+        }
+
+        OrderDTO order = new OrderDTO();
+        order.setOrderNumber("JMH-BATCH-" + state.sequence.incrementAndGet());
+        order.setCustomerId(state.data.getCustomerIds()[0]);
+        order.setOrderDate(LocalDate.now().toString());
+        order.setOrderLines(lines);
+
+        return state.context.getBean(ICustomerOrderService.class).createOrder(order);
+    }
+
+    /**
+     * Only the order and line inserts, the part {@code jdbcBatchSize} affects.
+     */
+    @Benchmark
+    public Long insertHundredLineOrder(InsertState state) {
+        CustomerOrderRepository customerOrderRepository = state.context.getBean(CustomerOrderRepository.class);
+        CustomerRepository customerRepository = state.context.getBean(CustomerRepository.class);
+        ProductRepository productRepository = state.context.getBean(ProductRepository.class);
+
+        return state.transactionTemplate.execute(status -> {
+            CustomerOrder order = new CustomerOrder();
+            order.setOrderNumber("JMH-INSERT-" + state.sequence.incrementAndGet());
+            order.setCustomer(customerRepository.getReferenceById(state.data.getCustomerIds()[0]));
+            order.setOrderDate(LocalDate.now());
+            order.setStatus(CustomerOrderStatus.EN_PREPARATION);
+            order.setTotalAmount(BigDecimal.valueOf(25L * LINES_PER_ORDER));
+
+            for (long productId : state.data.getProductIds()) {
+                CustomerOrderLine line = new CustomerOrderLine();
+                line.setCustomerOrder(order);
+                line.setProduct(productRepository.getReferenceById(productId));
+                line.setQuantity(1);
+                line.setUnitPrice(BigDecimal.valueOf(25));
+                line.setTotalPrice(BigDecimal.valueOf(25));
+                order.getOrderLines().add(line);
+            }
+            return customerOrderRepository.save(order).getIdOrder();
+        });
+    }
+
+    /**
+     * Only the per-line conditional stock UPDATEs, which JDBC batching cannot merge.
+     */
+    @Benchmark
+    public int decrementHundredProductStocks(InsertState state) {
+        ProductRepository productRepository = state.context.getBean(ProductRepository.class);
+
+        return state.transactionTemplate.execute(status -> {
+            int decremented = 0;
+            for (long productId : state.data.getProductIds()) {
+                decremented += productRepository.decrementStock(productId, 1);
+            }
+            return decremented;
+        });
+    }
+}
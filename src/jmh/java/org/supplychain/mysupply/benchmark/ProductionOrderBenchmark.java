@@ -0,0 +1,54 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.supplychain.mysupply.production.dto.ProductionOrderDTO;
+import org.supplychain.mysupply.production.dto.ProductionOrderResponseDTO;
+import org.supplychain.mysupply.production.enums.Priority;
+import org.supplychain.mysupply.production.service.interf.IProductionOrderService;
+
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProductionOrderBenchmark {
+
+    @State(Scope.Thread)
+    public static class PendingOrder {
+
+        private Long orderId;
+
+        @Setup(Level.Invocation)
+        public void create(SupplyChainState state) {
+            long[] productIds = state.data().getProductIds();
+
+            ProductionOrderDTO order = new ProductionOrderDTO();
+            order.setOrderNumber(state.nextOrderNumber("JMH-PO"));
+            order.setProductId(productIds[ThreadLocalRandom.current().nextInt(productIds.length)]);
+            order.setQuantity(5);
+            order.setPriority(Priority.STANDARD);
+            order.setOrderDate(LocalDate.now());
+
+            orderId = state.bean(IProductionOrderService.class).createProductionOrder(order).getIdOrder();
+        }
+    }
+
+    @Benchmark
+    public ProductionOrderResponseDTO startProduction(SupplyChainState state, PendingOrder pending) {
+        return state.bean(IProductionOrderService.class).startProduction(pending.orderId);
+    }
+}
@@ -0,0 +1,86 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.supplychain.mysupply.production.enums.Priority;
+import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
+import org.supplychain.mysupply.production.repository.ProductionOrderRepository;
+import org.supplychain.mysupply.production.repository.projection.ProductionOrderScheduleRow;
+import org.supplychain.mysupply.production.service.ProductionQueueEntry;
+import org.supplychain.mysupply.production.service.ProductionSchedule;
+import org.supplychain.mysupply.production.service.ProductionScheduler;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProductionScheduleBenchmark {
+
+    @Param("100000")
+    private int openOrders;
+
+    @Param("4")
+    private int lines;
+
+    private ProductionScheduler scheduler;
+    private long nextId;
+    private boolean started;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(7);
+        LocalDate today = LocalDate.now();
+        List<ProductionOrderScheduleRow> rows = new ArrayList<>(openOrders);
+        for (long id = 1; id <= openOrders; id++) {
+            boolean running = id <= lines;
+            rows.add(new ProductionOrderScheduleRow(id, "PO-" + id,
+                    running ? ProductionOrderStatus.EN_PRODUCTION : ProductionOrderStatus.EN_ATTENTE,
+                    Priority.values()[random.nextInt(Priority.values().length)],
+                    today.minusDays(random.nextInt(90)), running ? today : null, 1 + random.nextInt(40)));
+        }
+
+        ProductionOrderRepository repository = (ProductionOrderRepository) Proxy.newProxyInstance(
+                ProductionOrderRepository.class.getClassLoader(),
+                new Class<?>[]{ProductionOrderRepository.class},
+                (proxy, method, args) -> rows);
+        scheduler = new ProductionScheduler(repository, lines, 8);
+        scheduler.schedule();
+        nextId = openOrders + 1;
+    }
+
+    @Benchmark
+    public ProductionSchedule replanAfterStartOrComplete() {
+        started = !started;
+        scheduler.track(new ProductionQueueEntry(1L, "PO-1",
+                started ? ProductionOrderStatus.EN_PRODUCTION : ProductionOrderStatus.TERMINE,
+                Priority.STANDARD, LocalDate.now(), LocalDate.now(), 16));
+        return scheduler.schedule();
+    }
+
+    @Benchmark
+    public ProductionSchedule replanAfterLowPriorityOrderAdded() {
+        long id = nextId++;
+        scheduler.track(new ProductionQueueEntry(id, "PO-" + id, ProductionOrderStatus.EN_ATTENTE,
+                Priority.LOW, LocalDate.now(), null, 8));
+        return scheduler.schedule();
+    }
+}
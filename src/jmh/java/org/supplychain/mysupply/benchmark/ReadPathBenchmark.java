@@ -0,0 +1,117 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.supplychain.mysupply.approvisionnement.dto.RawMaterialResponseDTO;
+import org.supplychain.mysupply.approvisionnement.mapper.RawMaterialMapper;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.service.interf.IRawMaterialService;
+import org.supplychain.mysupply.livraison.dto.CustomerResponseDTO;
+import org.supplychain.mysupply.livraison.dto.DeliveryResponseDTO;
+import org.supplychain.mysupply.livraison.mapper.CustomerMapper;
+import org.supplychain.mysupply.livraison.mapper.DeliveryMapper;
+import org.supplychain.mysupply.livraison.repository.CustomerRepository;
+import org.supplychain.mysupply.livraison.repository.DeliveryRepository;
+import org.supplychain.mysupply.livraison.service.DeliveryService;
+import org.supplychain.mysupply.livraison.service.interf.ICustomerService;
+import org.supplychain.mysupply.production.dto.ProductResponseDTO;
+import org.supplychain.mysupply.production.mapper.ProductMapper;
+import org.supplychain.mysupply.production.repository.ProductRepository;
+import org.supplychain.mysupply.production.service.interf.IProductService;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @State(Scope.Benchmark)
+    public static class EntityPath {
+
+        private TransactionTemplate readOnly;
+
+        @Setup(Level.Trial)
+        public void setUp(SupplyChainState state) {
+            readOnly = new TransactionTemplate(state.bean(PlatformTransactionManager.class));
+            readOnly.setReadOnly(true);
+        }
+    }
+
+    @Benchmark
+    public Page<ProductResponseDTO> productsFromEntities(SupplyChainState state, EntityPath entityPath) {
+        Pageable pageable = randomPage(state.data().getProductIds().length);
+        return entityPath.readOnly.execute(status -> state.bean(ProductRepository.class).findAll(pageable)
+                .map(state.bean(ProductMapper.class)::toResponseDTO));
+    }
+
+    @Benchmark
+    public Page<ProductResponseDTO> productsFromProjection(SupplyChainState state) {
+        return state.bean(IProductService.class).getAllProducts(randomPage(state.data().getProductIds().length));
+    }
+
+    @Benchmark
+    public Page<RawMaterialResponseDTO> rawMaterialsFromEntities(SupplyChainState state, EntityPath entityPath) {
+        Pageable pageable = randomPage(state.data().getMaterialIds().length);
+        return entityPath.readOnly.execute(status -> state.bean(RawMaterialRepository.class).findAll(pageable)
+                .map(state.bean(RawMaterialMapper.class)::toResponseDTO));
+    }
+
+    @Benchmark
+    public Page<RawMaterialResponseDTO> rawMaterialsFromProjection(SupplyChainState state) {
+        return state.bean(IRawMaterialService.class).getAllRawMaterials(randomPage(state.data().getMaterialIds().length));
+    }
+
+    @Benchmark
+    public Page<CustomerResponseDTO> customersFromEntities(SupplyChainState state, EntityPath entityPath) {
+        Pageable pageable = randomPage(state.data().getCustomerIds().length);
+        return entityPath.readOnly.execute(status -> state.bean(CustomerRepository.class).findAll(pageable)
+                .map(state.bean(CustomerMapper.class)::toResponseDTO));
+    }
+
+    @Benchmark
+    public Page<CustomerResponseDTO> customersFromProjection(SupplyChainState state) {
+        return state.bean(ICustomerService.class).getAllCustomers(randomPage(state.data().getCustomerIds().length));
+    }
+
+    @Benchmark
+    public Page<DeliveryResponseDTO> deliveriesFromEntities(SupplyChainState state, EntityPath entityPath) {
+        Pageable pageable = randomPage(state.data().getDeliveryCount());
+        DeliveryMapper deliveryMapper = state.bean(DeliveryMapper.class);
+        return entityPath.readOnly.execute(status -> state.bean(DeliveryRepository.class).findAll(pageable)
+                .map(delivery -> {
+                    DeliveryResponseDTO responseDTO = deliveryMapper.toResponseDTO(delivery);
+                    responseDTO.setOrder(deliveryMapper.toOrderSummaryDTO(delivery.getCustomerOrder()));
+                    return responseDTO;
+                }));
+    }
+
+    @Benchmark
+    public Page<DeliveryResponseDTO> deliveriesFromProjection(SupplyChainState state) {
+        return state.bean(DeliveryService.class).getAllDeliveries(randomPage(state.data().getDeliveryCount()));
+    }
+
+    private Pageable randomPage(int rowCount) {
+        int pages = Math.max(1, rowCount / PAGE_SIZE);
+        return PageRequest.of(ThreadLocalRandom.current().nextInt(pages), PAGE_SIZE);
+    }
+}
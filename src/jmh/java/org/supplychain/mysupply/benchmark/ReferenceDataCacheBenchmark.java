@@ -0,0 +1,111 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.supplychain.mysupply.MySupplyApplication;
+import org.supplychain.mysupply.approvisionnement.dto.SupplierResponseDTO;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderDTO;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderLineDTO;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderResponseDTO;
+import org.supplychain.mysupply.approvisionnement.service.interf.ISupplierService;
+import org.supplychain.mysupply.approvisionnement.service.interf.ISupplyOrderService;
+import org.supplychain.mysupply.production.dto.ProductResponseDTO;
+import org.supplychain.mysupply.production.service.interf.IProductService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReferenceDataCacheBenchmark {
+
+    private static final int PRODUCT_COUNT = 10_000;
+    private static final int LINES_PER_ORDER = 5;
+
+    @State(Scope.Benchmark)
+    public static class CacheState {
+
+        @Param({"false", "true"})
+        public boolean secondLevelCache;
+
+        private ConfigurableApplicationContext context;
+        private BenchmarkData data;
+        private final AtomicLong sequence = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            context = new SpringApplicationBuilder(MySupplyApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .profiles("jmh")
+                    .properties("spring.jpa.properties.hibernate.cache.use_second_level_cache=" + secondLevelCache)
+                    .run();
+            data = new BenchmarkDataSeeder(context.getBean(JdbcTemplate.class)).seed(PRODUCT_COUNT, 0);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public ProductResponseDTO productWithBillOfMaterials(CacheState state) {
+        long[] productIds = state.data.getProductIds();
+        long productId = productIds[ThreadLocalRandom.current().nextInt(productIds.length)];
+        return state.context.getBean(IProductService.class).getProductById(productId);
+    }
+
+    @Benchmark
+    public SupplierResponseDTO supplier(CacheState state) {
+        long[] supplierIds = state.data.getSupplierIds();
+        long supplierId = supplierIds[ThreadLocalRandom.current().nextInt(supplierIds.length)];
+        return state.context.getBean(ISupplierService.class).getSupplierById(supplierId);
+    }
+
+    @Benchmark
+    public SupplyOrderResponseDTO createSupplyOrder(CacheState state) {
+        BenchmarkData data = state.data;
+        int supplierIndex = ThreadLocalRandom.current().nextInt(data.getSupplierIds().length);
+        long[] materialIds = data.materialsOf(supplierIndex);
+
+        List<SupplyOrderLineDTO> lines = new ArrayList<>();
+        for (int i = 0; i < LINES_PER_ORDER; i++) {
+            SupplyOrderLineDTO line = new SupplyOrderLineDTO();
+            line.setRawMaterialId(materialIds[i % materialIds.length]);
+            line.setQuantity(50);
+            line.setUnitPrice(BigDecimal.valueOf(4));
+            lines.add(line);
+        }
+
+        SupplyOrderDTO order = new SupplyOrderDTO();
+        order.setOrderNumber("JMH-CACHE-" + state.sequence.incrementAndGet());
+        order.setSupplierId(data.getSupplierIds()[supplierIndex]);
+        order.setOrderDate(LocalDate.now());
+        order.setOrderLines(lines);
+
+        return state.context.getBean(ISupplyOrderService.class).createSupplyOrder(order);
+    }
+}
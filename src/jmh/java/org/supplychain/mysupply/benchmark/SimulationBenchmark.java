@@ -0,0 +1,58 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.supplychain.mysupply.production.dto.BuildableProductDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationLineDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationResponseDTO;
+import org.supplychain.mysupply.production.service.interf.IProductionSimulationService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SimulationBenchmark {
+
+    private static final int MIX_SIZE = 50;
+
+    @State(Scope.Benchmark)
+    public static class OrderMix {
+
+        private ProductionSimulationDTO simulation;
+
+        @Setup(Level.Trial)
+        public void setUp(SupplyChainState state) {
+            long[] productIds = state.data().getProductIds();
+            List<ProductionSimulationLineDTO> lines = new ArrayList<>();
+            for (int i = 0; i < MIX_SIZE; i++) {
+                lines.add(new ProductionSimulationLineDTO(productIds[i * productIds.length / MIX_SIZE], 100));
+            }
+            simulation = new ProductionSimulationDTO(lines);
+        }
+    }
+
+    @Benchmark
+    public List<BuildableProductDTO> maxBuildableCatalogue(SupplyChainState state) {
+        return state.bean(IProductionSimulationService.class).getMaxBuildable();
+    }
+
+    @Benchmark
+    public ProductionSimulationResponseDTO simulateOrderMix(SupplyChainState state, OrderMix mix) {
+        return state.bean(IProductionSimulationService.class).simulate(mix.simulation);
+    }
+}
@@ -0,0 +1,55 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.supplychain.mysupply.MySupplyApplication;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+public class SupplyChainState {
+
+    @Param("10000")
+    public int productCount;
+
+    @Param("100000")
+    public int orderCount;
+
+    private ConfigurableApplicationContext context;
+    private BenchmarkData data;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(MySupplyApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("jmh")
+                .run();
+        data = new BenchmarkDataSeeder(context.getBean(JdbcTemplate.class)).seed(productCount, orderCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public BenchmarkData data() {
+        return data;
+    }
+
+    public String nextOrderNumber(String prefix) {
+        return prefix + "-" + sequence.incrementAndGet();
+    }
+}
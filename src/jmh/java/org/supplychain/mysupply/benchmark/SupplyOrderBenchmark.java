@@ -0,0 +1,85 @@
+package org.supplychain.mysupply.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderDTO;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderLineDTO;
+import org.supplychain.mysupply.approvisionnement.enums.SupplyOrderStatus;
+import org.supplychain.mysupply.approvisionnement.service.interf.IStockReceiptService;
+import org.supplychain.mysupply.approvisionnement.service.interf.ISupplyOrderService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SupplyOrderBenchmark {
+
+    private static final int LINES_PER_ORDER = 5;
+
+    /**
+     * Marking an order RECUE only queues a stock receipt; the stock is applied by
+     * {@link IStockReceiptService#processPendingReceipts()}, which is what this measures.
+     * The scheduled processor is disabled in the jmh profile so the queue holds exactly the
+     * receipts created here.
+     */
+    @State(Scope.Thread)
+    public static class ReceivedOrders {
+
+        @Param({"1", "20"})
+        private int receiptsPerBatch;
+
+        @Setup(Level.Invocation)
+        public void receive(SupplyChainState state) {
+            ISupplyOrderService supplyOrderService = state.bean(ISupplyOrderService.class);
+            for (int i = 0; i < receiptsPerBatch; i++) {
+                Long orderId = supplyOrderService.createSupplyOrder(openOrder(state)).getIdOrder();
+                supplyOrderService.updateSupplyOrderStatus(orderId, SupplyOrderStatus.RECUE);
+            }
+        }
+
+        private static SupplyOrderDTO openOrder(SupplyChainState state) {
+            BenchmarkData data = state.data();
+            int supplierIndex = ThreadLocalRandom.current().nextInt(data.getSupplierIds().length);
+            long[] materialIds = data.materialsOf(supplierIndex);
+
+            List<SupplyOrderLineDTO> lines = new ArrayList<>();
+            for (int i = 0; i < LINES_PER_ORDER; i++) {
+                SupplyOrderLineDTO line = new SupplyOrderLineDTO();
+                line.setRawMaterialId(materialIds[i % materialIds.length]);
+                line.setQuantity(50);
+                line.setUnitPrice(BigDecimal.valueOf(4));
+                lines.add(line);
+            }
+
+            SupplyOrderDTO order = new SupplyOrderDTO();
+            order.setOrderNumber(state.nextOrderNumber("JMH-SO"));
+            order.setSupplierId(data.getSupplierIds()[supplierIndex]);
+            order.setOrderDate(LocalDate.now());
+            order.setOrderLines(lines);
+            return order;
+        }
+    }
+
+    @Benchmark
+    public int processReceipts(SupplyChainState state, ReceivedOrders received) {
+        return state.bean(IStockReceiptService.class).processPendingReceipts();
+    }
+}
@@ -9,7 +9,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.supplychain.mysupply.approvisionnement.dto.RawMaterialDTO;
 import org.supplychain.mysupply.approvisionnement.dto.RawMaterialResponseDTO;
+import org.supplychain.mysupply.approvisionnement.dto.ReplenishmentRunDTO;
 import org.supplychain.mysupply.approvisionnement.service.RawMaterialService;
+import org.supplychain.mysupply.approvisionnement.service.ReplenishmentService;
+import org.supplychain.mysupply.common.metrics.SqlBudget;
 
 @RestController
 @RequestMapping("/api/raw-materials")
@@ -17,6 +20,7 @@ import org.supplychain.mysupply.approvisionnement.service.RawMaterialService;
 public class RawMaterialController {
 
     private final RawMaterialService rawMaterialService;
+    private final ReplenishmentService replenishmentService;
 
     @PostMapping
     public ResponseEntity<RawMaterialResponseDTO> createRawMaterial(@Valid @RequestBody RawMaterialDTO rawMaterialDTO) {
@@ -50,6 +54,13 @@ public class RawMaterialController {
         return ResponseEntity.ok(materials);
     }
 
+    @SqlBudget(SqlBudget.UNLIMITED)
+    @PostMapping("/replenish")
+    public ResponseEntity<ReplenishmentRunDTO> replenishLowStockMaterials() {
+        ReplenishmentRunDTO run = replenishmentService.replenish();
+        return ResponseEntity.ok(run);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<RawMaterialResponseDTO> updateRawMaterial(
             @PathVariable Long id,
@@ -4,13 +4,24 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderDTO;
 import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderResponseDTO;
 import org.supplychain.mysupply.approvisionnement.enums.SupplyOrderStatus;
 import org.supplychain.mysupply.approvisionnement.service.SupplyOrderService;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.bulk.NdjsonReader;
+import org.supplychain.mysupply.common.export.ExportFormat;
+import org.supplychain.mysupply.common.metrics.SqlBudget;
+import org.supplychain.mysupply.common.pagination.KeysetPage;
+
+import java.io.InputStream;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/supply-orders")
@@ -18,6 +29,7 @@ import org.supplychain.mysupply.approvisionnement.service.SupplyOrderService;
 public class SupplyOrderController {
 
     private final SupplyOrderService supplyOrderService;
+    private final NdjsonReader ndjsonReader;
 
     @PostMapping
     public ResponseEntity<SupplyOrderResponseDTO> createSupplyOrder(@Valid @RequestBody SupplyOrderDTO supplyOrderDTO) {
@@ -25,18 +37,44 @@ public class SupplyOrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
     }
 
+    @SqlBudget(SqlBudget.UNLIMITED)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportReport> importSupplyOrders(@RequestBody List<SupplyOrderDTO> supplyOrderDTOs) {
+        BulkImportReport report = supplyOrderService.importSupplyOrders(supplyOrderDTOs);
+        return ResponseEntity.ok(report);
+    }
+
+    @SqlBudget(SqlBudget.UNLIMITED)
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<BulkImportReport> importSupplyOrdersNdjson(InputStream body) {
+        BulkImportReport report = ndjsonReader.importChunks(body, SupplyOrderDTO.class, supplyOrderService::importSupplyOrders);
+        return ResponseEntity.ok(report);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportSupplyOrders(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = outputStream -> supplyOrderService.exportSupplyOrders(format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=supply-orders." + format.getFileExtension())
+                .body(body);
+    }
+
+    @SqlBudget(10)
     @GetMapping("/{id}")
     public ResponseEntity<SupplyOrderResponseDTO> getSupplyOrderById(@PathVariable Long id) {
         SupplyOrderResponseDTO order = supplyOrderService.getSupplyOrderById(id);
         return ResponseEntity.ok(order);
     }
 
+    @SqlBudget(15)
     @GetMapping
     public ResponseEntity<Page<SupplyOrderResponseDTO>> getAllSupplyOrders(Pageable pageable) {
         Page<SupplyOrderResponseDTO> orders = supplyOrderService.getAllSupplyOrders(pageable);
         return ResponseEntity.ok(orders);
     }
 
+    @SqlBudget(15)
     @GetMapping("/status/{status}")
     public ResponseEntity<Page<SupplyOrderResponseDTO>> getSupplyOrdersByStatus(
             @PathVariable SupplyOrderStatus status,
@@ -45,6 +83,7 @@ public class SupplyOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @SqlBudget(15)
     @GetMapping("/supplier/{supplierId}")
     public ResponseEntity<Page<SupplyOrderResponseDTO>> getSupplyOrdersBySupplier(
             @PathVariable Long supplierId,
@@ -53,6 +92,16 @@ public class SupplyOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @SqlBudget(15)
+    @GetMapping("/supplier/{supplierId}/seek")
+    public ResponseEntity<KeysetPage<SupplyOrderResponseDTO>> seekSupplyOrdersBySupplier(
+            @PathVariable Long supplierId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        KeysetPage<SupplyOrderResponseDTO> orders = supplyOrderService.seekSupplyOrdersBySupplier(supplierId, cursor, size);
+        return ResponseEntity.ok(orders);
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<SupplyOrderResponseDTO> updateSupplyOrderStatus(
             @PathVariable Long id,
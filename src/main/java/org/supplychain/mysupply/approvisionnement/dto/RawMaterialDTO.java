@@ -25,10 +25,6 @@ public class RawMaterialDTO {
     @PositiveOrZero(message = "Stock must be positive or zero")
     private Integer stock;
 
-    @NotNull(message = "Reserved stock is required")
-    @PositiveOrZero(message = "Reserved stock must be positive or zero")
-    private Integer reservedStock;
-
     @NotNull(message = "Minimum stock is required")
     @PositiveOrZero(message = "Minimum stock must be positive or zero")
     private Integer stockMin;
@@ -17,6 +17,7 @@ public class RawMaterialResponseDTO {
     private String description;
     private Integer stock;
     private Integer reservedStock;
+    private Integer availableStock;
     private Integer stockMin;
     private String unit;
     private LocalDate lastRestockDate;
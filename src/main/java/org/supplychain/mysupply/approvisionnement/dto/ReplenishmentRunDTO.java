@@ -0,0 +1,20 @@
+package org.supplychain.mysupply.approvisionnement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplenishmentRunDTO {
+
+    private int lowStockMaterials;
+    private int alreadyOnOrder;
+    private List<Long> unsourcedMaterialIds = new ArrayList<>();
+    private BulkImportReport supplyOrders;
+}
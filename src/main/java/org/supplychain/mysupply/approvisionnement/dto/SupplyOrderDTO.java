@@ -30,5 +30,5 @@ public class SupplyOrderDTO {
     private SupplyOrderStatus status;
 
     @Valid
-    private List<SupplyOrderLineDTO> orderLines;
+    private List<@NotNull(message = "Order line is required") SupplyOrderLineDTO> orderLines;
 }
\ No newline at end of file
@@ -2,25 +2,27 @@ package org.supplychain.mysupply.approvisionnement.mapper;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.MappingTarget;
 import org.supplychain.mysupply.approvisionnement.dto.RawMaterialDTO;
 import org.supplychain.mysupply.approvisionnement.dto.RawMaterialResponseDTO;
 import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
+import org.supplychain.mysupply.approvisionnement.repository.projection.RawMaterialRow;
 
 @Mapper(componentModel = "spring")
 public interface RawMaterialMapper {
 
     @Mapping(target = "lowStock", expression = "java(rawMaterial.getStock() <= rawMaterial.getStockMin())")
+    @Mapping(target = "availableStock", expression = "java(rawMaterial.getStock() - rawMaterial.getReservedStock())")
     RawMaterialResponseDTO toResponseDTO(RawMaterial rawMaterial);
 
-    @Mapping(target = "lastRestockDate", ignore = true)
+    @Mapping(target = "lowStock", expression = "java(row.getStock() <= row.getStockMin())")
+    @Mapping(target = "availableStock", expression = "java(row.getStock() - row.getReservedStock())")
     @Mapping(target = "suppliers", ignore = true)
-    @Mapping(target = "supplyOrderLines", ignore = true)
-    RawMaterial toEntity(RawMaterialDTO rawMaterialDTO);
+    RawMaterialResponseDTO toResponseDTO(RawMaterialRow row);
 
-    @Mapping(target = "idMaterial", ignore = true)
+    @Mapping(target = "reservedStock", ignore = true)
+    @Mapping(target = "lowStock", ignore = true)
     @Mapping(target = "lastRestockDate", ignore = true)
     @Mapping(target = "suppliers", ignore = true)
     @Mapping(target = "supplyOrderLines", ignore = true)
-    void updateEntityFromDTO(RawMaterialDTO rawMaterialDTO, @MappingTarget RawMaterial rawMaterial);
-}
\ No newline at end of file
+    RawMaterial toEntity(RawMaterialDTO rawMaterialDTO);
+}
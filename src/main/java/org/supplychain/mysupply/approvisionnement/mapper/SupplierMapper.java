@@ -6,12 +6,15 @@ import org.mapstruct.MappingTarget;
 import org.supplychain.mysupply.approvisionnement.dto.SupplierDTO;
 import org.supplychain.mysupply.approvisionnement.dto.SupplierResponseDTO;
 import org.supplychain.mysupply.approvisionnement.model.Supplier;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialSupplierRow;
 
 @Mapper(componentModel = "spring")
 public interface SupplierMapper {
 
     SupplierResponseDTO toResponseDTO(Supplier supplier);
 
+    SupplierResponseDTO toResponseDTO(MaterialSupplierRow row);
+
     Supplier toEntity(SupplierDTO supplierDTO);
 
     @Mapping(target = "idSupplier", ignore = true)
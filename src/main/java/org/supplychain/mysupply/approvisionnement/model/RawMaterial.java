@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.supplychain.mysupply.common.model.BaseEntity;
 import org.supplychain.mysupply.production.model.BillOfMaterial;
 
@@ -13,7 +16,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "raw_materials")
+@Table(name = "raw_materials",
+        indexes = @Index(name = "idx_raw_materials_low_stock", columnList = "low_stock"))
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -21,7 +25,8 @@ import java.util.List;
 public class RawMaterial extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "raw_materials_seq")
+    @SequenceGenerator(name = "raw_materials_seq", sequenceName = "raw_materials_seq", allocationSize = 50)
     private Long idMaterial;
 
     @Column(nullable = false)
@@ -38,16 +43,22 @@ public class RawMaterial extends BaseEntity {
     @Column(nullable = false)
     private Integer stockMin;
 
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private Boolean lowStock = false;
+
     @Column(nullable = false)
     private String unit;
 
     private LocalDate lastRestockDate;
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(
             name = "material_suppliers",
             joinColumns = @JoinColumn(name = "material_id"),
-            inverseJoinColumns = @JoinColumn(name = "supplier_id")
+            inverseJoinColumns = @JoinColumn(name = "supplier_id"),
+            indexes = @Index(name = "idx_material_suppliers_supplier_material", columnList = "supplier_id, material_id")
     )
     private List<Supplier> suppliers = new ArrayList<>();
 
@@ -55,7 +66,14 @@ public class RawMaterial extends BaseEntity {
     private List<SupplyOrderLine> supplyOrderLines = new ArrayList<>();
 
     @OneToMany(mappedBy = "material")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<BillOfMaterial> billOfMaterials = new ArrayList<>();
 
+    @PrePersist
+    @PreUpdate
+    void refreshLowStock() {
+        lowStock = stock != null && stockMin != null && stock <= stockMin;
+    }
+
 
 }
\ No newline at end of file
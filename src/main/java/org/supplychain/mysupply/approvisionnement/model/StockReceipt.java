@@ -0,0 +1,28 @@
+package org.supplychain.mysupply.approvisionnement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.supplychain.mysupply.common.model.BaseEntity;
+
+@Entity
+@Table(name = "stock_receipts")
+@Data
+@EqualsAndHashCode(callSuper = true, exclude = "supplyOrder")
+@ToString(exclude = "supplyOrder")
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReceipt extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_receipts_seq")
+    @SequenceGenerator(name = "stock_receipts_seq", sequenceName = "stock_receipts_seq", allocationSize = 50)
+    private Long idReceipt;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "supply_order_id", nullable = false, unique = true)
+    private SupplyOrder supplyOrder;
+}
@@ -2,6 +2,8 @@ package org.supplychain.mysupply.approvisionnement.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.supplychain.mysupply.common.model.BaseEntity;
 
 import java.util.ArrayList;
@@ -9,6 +11,8 @@ import java.util.List;
 
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "suppliers")
 @Data
 @EqualsAndHashCode(callSuper = true, exclude = {"supplyOrders", "materials"})
@@ -18,7 +22,8 @@ import java.util.List;
 public class Supplier extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "suppliers_seq")
+    @SequenceGenerator(name = "suppliers_seq", sequenceName = "suppliers_seq", allocationSize = 50)
     private Long idSupplier;
 
     @Column(nullable = false)
@@ -15,7 +15,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "supply_orders")
+@Table(name = "supply_orders",
+        indexes = @Index(name = "idx_supply_orders_supplier_date_id", columnList = "supplier_id, order_date, id_order"))
 @Data
 @EqualsAndHashCode(callSuper = true, exclude = {"supplier", "orderLines"})
 @ToString(exclude = {"supplier", "orderLines"})
@@ -24,7 +25,8 @@ import java.util.List;
 public class SupplyOrder extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "supply_orders_seq")
+    @SequenceGenerator(name = "supply_orders_seq", sequenceName = "supply_orders_seq", allocationSize = 50)
     private Long idOrder;
 
     @Column(nullable = false, unique = true)
@@ -20,7 +20,8 @@ import java.math.BigDecimal;
 public class SupplyOrderLine extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "supply_order_lines_seq")
+    @SequenceGenerator(name = "supply_order_lines_seq", sequenceName = "supply_order_lines_seq", allocationSize = 50)
     private Long idLine;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,28 +1,142 @@
 package org.supplychain.mysupply.approvisionnement.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialStockRow;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialSupplierRow;
+import org.supplychain.mysupply.approvisionnement.repository.projection.RawMaterialRow;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface RawMaterialRepository extends JpaRepository<RawMaterial, Long> {
 
+    String RAW_MATERIAL_ROW = "SELECT new org.supplychain.mysupply.approvisionnement.repository.projection.RawMaterialRow(" +
+            "rm.idMaterial, rm.name, rm.description, rm.stock, rm.reservedStock, rm.stockMin, rm.unit, rm.lastRestockDate) " +
+            "FROM RawMaterial rm";
+
+    String MATERIAL_STOCK_ROW = "SELECT new org.supplychain.mysupply.approvisionnement.repository.projection.MaterialStockRow(" +
+            "rm.idMaterial, rm.name, rm.stock, rm.reservedStock, rm.stockMin) FROM RawMaterial rm";
+
+    String LOW_STOCK_AFTER_DECREMENT = "rm.lowStock = CASE WHEN rm.stock - :quantity <= rm.stockMin THEN true ELSE false END";
+
+    String RECEIVED_QUANTITY = "(SELECT SUM(sol.quantity) FROM SupplyOrderLine sol " +
+            "WHERE sol.rawMaterial.idMaterial = rm.idMaterial AND sol.supplyOrder.idOrder IN :orderIds)";
+
     Page<RawMaterial> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
-    @Query("SELECT rm FROM RawMaterial rm WHERE rm.stock <= rm.stockMin")
+    @Query("SELECT rm FROM RawMaterial rm WHERE rm.lowStock = true")
     Page<RawMaterial> findLowStockMaterials(Pageable pageable);
 
-    @Query("SELECT rm FROM RawMaterial rm WHERE rm.stock <= rm.stockMin")
+    @Query("SELECT rm FROM RawMaterial rm WHERE rm.lowStock = true")
     List<RawMaterial> findAllLowStockMaterials();
 
     @Query("SELECT COUNT(sol) FROM SupplyOrderLine sol WHERE sol.rawMaterial.idMaterial = :materialId")
     long countSupplyOrderLinesByMaterialId(@Param("materialId") Long materialId);
 
     boolean existsByName(String name);
+
+    @Query(value = RAW_MATERIAL_ROW, countQuery = "SELECT COUNT(rm) FROM RawMaterial rm")
+    Page<RawMaterialRow> findAllRows(Pageable pageable);
+
+    @Query(value = RAW_MATERIAL_ROW + " WHERE rm.name ILIKE %:name%",
+            countQuery = "SELECT COUNT(rm) FROM RawMaterial rm WHERE rm.name ILIKE %:name%")
+    Page<RawMaterialRow> findRowsByNameContaining(@Param("name") String name, Pageable pageable);
+
+    @Query(value = RAW_MATERIAL_ROW + " WHERE rm.lowStock = true",
+            countQuery = "SELECT COUNT(rm) FROM RawMaterial rm WHERE rm.lowStock = true")
+    Page<RawMaterialRow> findLowStockRows(Pageable pageable);
+
+    @Query(RAW_MATERIAL_ROW + " WHERE rm.idMaterial IN :materialIds")
+    List<RawMaterialRow> findRowsByIdIn(@Param("materialIds") Collection<Long> materialIds);
+
+    @Query(MATERIAL_STOCK_ROW)
+    List<MaterialStockRow> findAllStockRows();
+
+    @Query(MATERIAL_STOCK_ROW + " WHERE rm.lowStock = true")
+    List<MaterialStockRow> findLowStockMaterialStock();
+
+    @Query(MATERIAL_STOCK_ROW + " WHERE rm.idMaterial IN :materialIds")
+    List<MaterialStockRow> findStockRowsByIdIn(@Param("materialIds") Collection<Long> materialIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(MATERIAL_STOCK_ROW + " WHERE rm.idMaterial IN :materialIds ORDER BY rm.idMaterial")
+    List<MaterialStockRow> findStockRowsForUpdate(@Param("materialIds") Collection<Long> materialIds);
+
+    @Query("SELECT new org.supplychain.mysupply.approvisionnement.repository.projection.MaterialSupplierRow(" +
+            "rm.idMaterial, s.idSupplier, s.name, s.contact, s.email, s.phone, s.rating, s.leadTime) " +
+            "FROM RawMaterial rm JOIN rm.suppliers s WHERE rm.idMaterial IN :materialIds")
+    List<MaterialSupplierRow> findSupplierRows(@Param("materialIds") Collection<Long> materialIds);
+
+    @Modifying
+    @Query("UPDATE RawMaterial rm SET rm.reservedStock = rm.reservedStock + :quantity " +
+            "WHERE rm.idMaterial = :materialId AND rm.stock - rm.reservedStock >= :quantity")
+    int reserveStock(@Param("materialId") Long materialId, @Param("quantity") Integer quantity);
+
+    @Modifying
+    @Query("UPDATE RawMaterial rm SET rm.reservedStock = rm.reservedStock - :quantity " +
+            "WHERE rm.idMaterial = :materialId AND rm.reservedStock >= :quantity")
+    int releaseReservedStock(@Param("materialId") Long materialId, @Param("quantity") Integer quantity);
+
+    @Modifying
+    @Query("UPDATE RawMaterial rm SET rm.stock = rm.stock - :quantity, " + LOW_STOCK_AFTER_DECREMENT +
+            " WHERE rm.idMaterial = :materialId AND rm.stock - rm.reservedStock >= :quantity")
+    int consumeAvailableStock(@Param("materialId") Long materialId, @Param("quantity") Integer quantity);
+
+    @Modifying
+    @Query("UPDATE RawMaterial rm SET rm.stock = rm.stock - :quantity, rm.reservedStock = rm.reservedStock - :reserved, " +
+            LOW_STOCK_AFTER_DECREMENT +
+            " WHERE rm.idMaterial = :materialId AND rm.reservedStock >= :reserved " +
+            "AND rm.stock - rm.reservedStock >= :quantity - :reserved")
+    int consumeStock(@Param("materialId") Long materialId, @Param("quantity") Integer quantity,
+                     @Param("reserved") Integer reserved);
+
+    @Modifying
+    @Query("UPDATE RawMaterial rm SET rm.stock = rm.stock + " + RECEIVED_QUANTITY + ", " +
+            "rm.lowStock = CASE WHEN rm.stock + " + RECEIVED_QUANTITY + " <= rm.stockMin THEN true ELSE false END, " +
+            "rm.lastRestockDate = :receivedOn " +
+            "WHERE rm.idMaterial IN (SELECT sol.rawMaterial.idMaterial FROM SupplyOrderLine sol WHERE sol.supplyOrder.idOrder IN :orderIds)")
+    int receiveStock(@Param("orderIds") Collection<Long> orderIds, @Param("receivedOn") LocalDate receivedOn);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RawMaterial rm SET rm.name = :name, rm.description = :description, rm.stockMin = :stockMin, " +
+            "rm.unit = :unit, rm.lowStock = CASE WHEN rm.stock <= :stockMin THEN true ELSE false END " +
+            "WHERE rm.idMaterial = :materialId")
+    int updateDetails(@Param("materialId") Long materialId, @Param("name") String name,
+                      @Param("description") String description, @Param("stockMin") Integer stockMin,
+                      @Param("unit") String unit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RawMaterial rm SET rm.stock = :stock, " +
+            "rm.lowStock = CASE WHEN :stock <= rm.stockMin THEN true ELSE false END, " +
+            "rm.lastRestockDate = :restockDate " +
+            "WHERE rm.idMaterial = :materialId AND rm.reservedStock <= :stock")
+    int setStock(@Param("materialId") Long materialId, @Param("stock") Integer stock,
+                 @Param("restockDate") LocalDate restockDate);
+
+    default boolean tryReserveStock(Long materialId, Integer quantity) {
+        return reserveStock(materialId, quantity) == 1;
+    }
+
+    default boolean tryConsumeStock(Long materialId, Integer quantity, Integer reserved) {
+        return consumeStock(materialId, quantity, reserved) == 1;
+    }
+
+    default boolean trySetStock(Long materialId, Integer stock, LocalDate restockDate) {
+        return setStock(materialId, stock, restockDate) == 1;
+    }
+
+    default boolean tryConsumeAvailableStock(Long materialId, Integer quantity) {
+        return consumeAvailableStock(materialId, quantity) == 1;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package org.supplychain.mysupply.approvisionnement.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.supplychain.mysupply.approvisionnement.model.StockReceipt;
+
+import java.util.List;
+
+@Repository
+public interface StockReceiptRepository extends JpaRepository<StockReceipt, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM StockReceipt r ORDER BY r.idReceipt")
+    List<StockReceipt> findPendingForUpdate(Limit limit);
+}
@@ -8,6 +8,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.supplychain.mysupply.approvisionnement.model.Supplier;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,4 +26,9 @@ public interface SupplierRepository extends JpaRepository<Supplier, Long> {
 
     @Query("SELECT COUNT(so) FROM SupplyOrder so WHERE so.supplier.idSupplier = :supplierId AND so.status IN ('EN_ATTENTE', 'EN_COURS')")
     long countActiveOrdersBySupplierId(@Param("supplierId") Long supplierId);
+
+    @Query("SELECT rm.idMaterial FROM RawMaterial rm JOIN rm.suppliers s " +
+            "WHERE s.idSupplier = :supplierId AND rm.idMaterial IN :materialIds")
+    List<Long> findSuppliedMaterialIds(@Param("supplierId") Long supplierId,
+                                       @Param("materialIds") Collection<Long> materialIds);
 }
\ No newline at end of file
@@ -1,9 +1,30 @@
 package org.supplychain.mysupply.approvisionnement.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.supplychain.mysupply.approvisionnement.enums.SupplyOrderStatus;
 import org.supplychain.mysupply.approvisionnement.model.SupplyOrderLine;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialPriceRow;
+import org.supplychain.mysupply.common.projection.QuantityRow;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface SupplyOrderLineRepository extends JpaRepository<SupplyOrderLine, Long> {
-}
\ No newline at end of file
+
+    @Query("SELECT new org.supplychain.mysupply.common.projection.QuantityRow(l.rawMaterial.idMaterial, SUM(l.quantity)) " +
+            "FROM SupplyOrderLine l WHERE l.supplyOrder.status IN :statuses GROUP BY l.rawMaterial.idMaterial")
+    List<QuantityRow> sumQuantityByMaterial(@Param("statuses") Collection<SupplyOrderStatus> statuses);
+
+    @Query("SELECT new org.supplychain.mysupply.approvisionnement.repository.projection.MaterialPriceRow(" +
+            "l.rawMaterial.idMaterial, l.unitPrice) FROM SupplyOrderLine l WHERE l.idLine IN (" +
+            "SELECT MAX(last.idLine) FROM SupplyOrderLine last WHERE last.rawMaterial.idMaterial IN :materialIds " +
+            "GROUP BY last.rawMaterial.idMaterial)")
+    List<MaterialPriceRow> findLastUnitPrices(@Param("materialIds") Collection<Long> materialIds);
+
+    @Query("SELECT DISTINCT l.rawMaterial.idMaterial FROM SupplyOrderLine l WHERE l.supplyOrder.idOrder IN :orderIds")
+    List<Long> findMaterialIdsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+}
@@ -1,24 +1,73 @@
 package org.supplychain.mysupply.approvisionnement.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.supplychain.mysupply.approvisionnement.enums.SupplyOrderStatus;
 import org.supplychain.mysupply.approvisionnement.model.SupplyOrder;
+import org.supplychain.mysupply.approvisionnement.repository.projection.SupplyOrderExportRow;
+import org.supplychain.mysupply.common.export.ExportWriter;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface SupplyOrderRepository extends JpaRepository<SupplyOrder, Long> {
 
     boolean existsByOrderNumber(String orderNumber);
 
+    @Query("SELECT so.orderNumber FROM SupplyOrder so WHERE so.orderNumber IN :orderNumbers")
+    List<String> findExistingOrderNumbers(@Param("orderNumbers") Collection<String> orderNumbers);
+
+    @Override
+    @EntityGraph(attributePaths = "supplier")
+    Page<SupplyOrder> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "supplier")
     Page<SupplyOrder> findByStatus(SupplyOrderStatus status, Pageable pageable);
 
+    @EntityGraph(attributePaths = "supplier")
     @Query("SELECT so FROM SupplyOrder so WHERE so.supplier.idSupplier = :supplierId")
     Page<SupplyOrder> findBySupplier(@Param("supplierId") Long supplierId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "supplier")
     @Query("SELECT so FROM SupplyOrder so WHERE so.orderNumber ILIKE %:searchTerm%")
     Page<SupplyOrder> findByOrderNumberContaining(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    @EntityGraph(attributePaths = "supplier")
+    @Query("SELECT so FROM SupplyOrder so WHERE so.supplier.idSupplier = :supplierId ORDER BY so.orderDate, so.idOrder")
+    List<SupplyOrder> seekBySupplier(@Param("supplierId") Long supplierId, Limit limit);
+
+    @EntityGraph(attributePaths = "supplier")
+    @Query("SELECT so FROM SupplyOrder so WHERE so.supplier.idSupplier = :supplierId " +
+            "AND (so.orderDate > :orderDate OR (so.orderDate = :orderDate AND so.idOrder > :idOrder)) " +
+            "ORDER BY so.orderDate, so.idOrder")
+    List<SupplyOrder> seekBySupplierAfter(@Param("supplierId") Long supplierId,
+                                          @Param("orderDate") LocalDate orderDate,
+                                          @Param("idOrder") Long idOrder,
+                                          Limit limit);
+
+    @Query("SELECT DISTINCT so FROM SupplyOrder so " +
+            "LEFT JOIN FETCH so.orderLines ol " +
+            "LEFT JOIN FETCH ol.rawMaterial " +
+            "WHERE so.idOrder IN :orderIds")
+    List<SupplyOrder> fetchOrderLines(@Param("orderIds") Collection<Long> orderIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE))
+    @Query("SELECT new org.supplychain.mysupply.approvisionnement.repository.projection.SupplyOrderExportRow(" +
+            "so.idOrder, so.orderNumber, so.orderDate, so.status, so.totalAmount, s.idSupplier, s.name, " +
+            "ol.idLine, rm.idMaterial, rm.name, ol.quantity, ol.unitPrice) " +
+            "FROM SupplyOrder so JOIN so.supplier s LEFT JOIN so.orderLines ol LEFT JOIN ol.rawMaterial rm " +
+            "ORDER BY so.idOrder, ol.idLine")
+    Stream<SupplyOrderExportRow> streamExportRows();
 }
\ No newline at end of file
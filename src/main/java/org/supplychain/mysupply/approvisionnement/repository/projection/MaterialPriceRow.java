@@ -0,0 +1,14 @@
+package org.supplychain.mysupply.approvisionnement.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class MaterialPriceRow {
+
+    private Long materialId;
+    private BigDecimal unitPrice;
+}
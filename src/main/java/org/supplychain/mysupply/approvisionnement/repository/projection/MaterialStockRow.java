@@ -0,0 +1,15 @@
+package org.supplychain.mysupply.approvisionnement.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MaterialStockRow {
+
+    private Long idMaterial;
+    private String name;
+    private Integer stock;
+    private Integer reservedStock;
+    private Integer stockMin;
+}
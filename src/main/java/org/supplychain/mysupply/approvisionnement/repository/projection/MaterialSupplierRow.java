@@ -0,0 +1,18 @@
+package org.supplychain.mysupply.approvisionnement.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class MaterialSupplierRow {
+
+    private Long materialId;
+    private Long idSupplier;
+    private String name;
+    private String contact;
+    private String email;
+    private String phone;
+    private Double rating;
+    private Integer leadTime;
+}
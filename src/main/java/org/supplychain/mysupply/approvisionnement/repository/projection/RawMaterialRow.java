@@ -0,0 +1,20 @@
+package org.supplychain.mysupply.approvisionnement.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class RawMaterialRow {
+
+    private Long idMaterial;
+    private String name;
+    private String description;
+    private Integer stock;
+    private Integer reservedStock;
+    private Integer stockMin;
+    private String unit;
+    private LocalDate lastRestockDate;
+}
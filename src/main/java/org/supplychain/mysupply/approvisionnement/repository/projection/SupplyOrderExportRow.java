@@ -0,0 +1,26 @@
+package org.supplychain.mysupply.approvisionnement.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.supplychain.mysupply.approvisionnement.enums.SupplyOrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class SupplyOrderExportRow {
+
+    private Long idOrder;
+    private String orderNumber;
+    private LocalDate orderDate;
+    private SupplyOrderStatus status;
+    private BigDecimal totalAmount;
+    private Long supplierId;
+    private String supplierName;
+    private Long idLine;
+    private Long materialId;
+    private String materialName;
+    private Integer quantity;
+    private BigDecimal unitPrice;
+}
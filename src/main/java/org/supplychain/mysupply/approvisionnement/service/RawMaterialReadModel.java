@@ -0,0 +1,64 @@
+package org.supplychain.mysupply.approvisionnement.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.supplychain.mysupply.approvisionnement.dto.RawMaterialResponseDTO;
+import org.supplychain.mysupply.approvisionnement.dto.SupplierResponseDTO;
+import org.supplychain.mysupply.approvisionnement.mapper.RawMaterialMapper;
+import org.supplychain.mysupply.approvisionnement.mapper.SupplierMapper;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialSupplierRow;
+import org.supplychain.mysupply.approvisionnement.repository.projection.RawMaterialRow;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class RawMaterialReadModel {
+
+    private final RawMaterialRepository rawMaterialRepository;
+    private final RawMaterialMapper rawMaterialMapper;
+    private final SupplierMapper supplierMapper;
+
+    public Page<RawMaterialResponseDTO> toResponsePage(Page<RawMaterialRow> rows) {
+        Map<Long, List<SupplierResponseDTO>> suppliers = suppliersByMaterial(rows.map(RawMaterialRow::getIdMaterial).getContent());
+        return rows.map(row -> toResponseDTO(row, suppliers));
+    }
+
+    public Map<Long, RawMaterialResponseDTO> findByIds(Collection<Long> materialIds) {
+        if (materialIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<SupplierResponseDTO>> suppliers = suppliersByMaterial(materialIds);
+        Map<Long, RawMaterialResponseDTO> materials = new HashMap<>();
+        for (RawMaterialRow row : rawMaterialRepository.findRowsByIdIn(materialIds)) {
+            materials.put(row.getIdMaterial(), toResponseDTO(row, suppliers));
+        }
+        return materials;
+    }
+
+    private Map<Long, List<SupplierResponseDTO>> suppliersByMaterial(Collection<Long> materialIds) {
+        if (materialIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<SupplierResponseDTO>> suppliers = new HashMap<>();
+        for (MaterialSupplierRow row : rawMaterialRepository.findSupplierRows(materialIds)) {
+            suppliers.computeIfAbsent(row.getMaterialId(), id -> new ArrayList<>())
+                    .add(supplierMapper.toResponseDTO(row));
+        }
+        return suppliers;
+    }
+
+    private RawMaterialResponseDTO toResponseDTO(RawMaterialRow row, Map<Long, List<SupplierResponseDTO>> suppliers) {
+        RawMaterialResponseDTO responseDTO = rawMaterialMapper.toResponseDTO(row);
+        responseDTO.setSuppliers(suppliers.getOrDefault(row.getIdMaterial(), new ArrayList<>()));
+        return responseDTO;
+    }
+}
@@ -27,6 +27,7 @@ public class RawMaterialService implements IRawMaterialService {
     private final RawMaterialRepository rawMaterialRepository;
     private final RawMaterialMapper rawMaterialMapper;
     private final SupplierRepository supplierRepository;
+    private final RawMaterialReadModel rawMaterialReadModel;
 
     @Override
     public RawMaterialResponseDTO createRawMaterial(RawMaterialDTO rawMaterialDTO) {
@@ -56,48 +57,45 @@ public class RawMaterialService implements IRawMaterialService {
     @Override
     @Transactional(readOnly = true)
     public Page<RawMaterialResponseDTO> getAllRawMaterials(Pageable pageable) {
-        return rawMaterialRepository.findAll(pageable)
-                .map(rawMaterialMapper::toResponseDTO);
+        return rawMaterialReadModel.toResponsePage(rawMaterialRepository.findAllRows(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<RawMaterialResponseDTO> searchRawMaterials(String searchTerm, Pageable pageable) {
-        return rawMaterialRepository.findByNameContainingIgnoreCase(searchTerm, pageable)
-                .map(rawMaterialMapper::toResponseDTO);
+        return rawMaterialReadModel.toResponsePage(rawMaterialRepository.findRowsByNameContaining(searchTerm, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<RawMaterialResponseDTO> getLowStockMaterials(Pageable pageable) {
-        return rawMaterialRepository.findLowStockMaterials(pageable)
-                .map(rawMaterialMapper::toResponseDTO);
+        return rawMaterialReadModel.toResponsePage(rawMaterialRepository.findLowStockRows(pageable));
     }
 
     @Override
     public RawMaterialResponseDTO updateRawMaterial(Long id, RawMaterialDTO rawMaterialDTO) {
-        RawMaterial rawMaterial = rawMaterialRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Raw material not found with id: " + id));
+        RawMaterial rawMaterial = findRawMaterial(id);
 
         if (!rawMaterial.getName().equals(rawMaterialDTO.getName()) &&
                 rawMaterialRepository.existsByName(rawMaterialDTO.getName())) {
             throw new IllegalArgumentException("Material name already exists: " + rawMaterialDTO.getName());
         }
 
-        rawMaterialMapper.updateEntityFromDTO(rawMaterialDTO, rawMaterial);
-        RawMaterial updatedMaterial = rawMaterialRepository.save(rawMaterial);
-        return rawMaterialMapper.toResponseDTO(updatedMaterial);
+        // Targeted updates so concurrent reservations and consumptions are never overwritten
+        rawMaterialRepository.updateDetails(id, rawMaterialDTO.getName(), rawMaterialDTO.getDescription(),
+                rawMaterialDTO.getStockMin(), rawMaterialDTO.getUnit());
+        if (!rawMaterial.getStock().equals(rawMaterialDTO.getStock())) {
+            setStock(rawMaterial, rawMaterialDTO.getStock(), rawMaterial.getLastRestockDate());
+        }
+        return rawMaterialMapper.toResponseDTO(findRawMaterial(id));
     }
 
     @Override
     public RawMaterialResponseDTO updateStock(Long id, Integer newStock) {
-        RawMaterial rawMaterial = rawMaterialRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Raw material not found with id: " + id));
+        RawMaterial rawMaterial = findRawMaterial(id);
 
-        rawMaterial.setStock(newStock);
-        rawMaterial.setLastRestockDate(LocalDate.now());
-        RawMaterial updatedMaterial = rawMaterialRepository.save(rawMaterial);
-        return rawMaterialMapper.toResponseDTO(updatedMaterial);
+        setStock(rawMaterial, newStock, LocalDate.now());
+        return rawMaterialMapper.toResponseDTO(findRawMaterial(id));
     }
 
     @Override
@@ -113,4 +111,17 @@ public class RawMaterialService implements IRawMaterialService {
 
         rawMaterialRepository.deleteById(id);
     }
-}
\ No newline at end of file
+
+    private void setStock(RawMaterial rawMaterial, Integer newStock, LocalDate restockDate) {
+        if (!rawMaterialRepository.trySetStock(rawMaterial.getIdMaterial(), newStock, restockDate)) {
+            RawMaterial current = findRawMaterial(rawMaterial.getIdMaterial());
+            throw new IllegalArgumentException("Stock of material " + current.getName() + " cannot be set to " +
+                    newStock + ", " + current.getReservedStock() + " is reserved");
+        }
+    }
+
+    private RawMaterial findRawMaterial(Long id) {
+        return rawMaterialRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Raw material not found with id: " + id));
+    }
+}
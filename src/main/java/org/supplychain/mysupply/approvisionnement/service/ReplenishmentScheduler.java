@@ -0,0 +1,26 @@
+package org.supplychain.mysupply.approvisionnement.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.supplychain.mysupply.approvisionnement.service.interf.IReplenishmentService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "replenishment.enabled", havingValue = "true", matchIfMissing = true)
+public class ReplenishmentScheduler {
+
+    private final IReplenishmentService replenishmentService;
+
+    @Scheduled(initialDelayString = "${replenishment.initial-delay:PT1M}", fixedDelayString = "${replenishment.interval:PT15M}")
+    public void replenish() {
+        try {
+            replenishmentService.replenish();
+        } catch (IllegalStateException e) {
+            log.info("Skipping scheduled replenishment: {}", e.getMessage());
+        }
+    }
+}
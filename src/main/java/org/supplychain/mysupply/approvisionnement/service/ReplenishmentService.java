@@ -0,0 +1,168 @@
+package org.supplychain.mysupply.approvisionnement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.supplychain.mysupply.approvisionnement.dto.ReplenishmentRunDTO;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderDTO;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderLineDTO;
+import org.supplychain.mysupply.approvisionnement.enums.SupplyOrderStatus;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.SupplyOrderLineRepository;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialPriceRow;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialStockRow;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialSupplierRow;
+import org.supplychain.mysupply.approvisionnement.service.interf.IReplenishmentService;
+import org.supplychain.mysupply.approvisionnement.service.interf.ISupplyOrderService;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.projection.QuantityRow;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@Transactional
+public class ReplenishmentService implements IReplenishmentService {
+
+    private static final List<SupplyOrderStatus> OPEN_SUPPLY_STATUSES = List.of(SupplyOrderStatus.EN_ATTENTE, SupplyOrderStatus.EN_COURS);
+    private static final DateTimeFormatter ORDER_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final RawMaterialRepository rawMaterialRepository;
+    private final SupplyOrderLineRepository supplyOrderLineRepository;
+    private final ISupplyOrderService supplyOrderService;
+    private final SupplierSelector supplierSelector;
+    private final int targetFactor;
+    private final Timer runTimer;
+    private final Counter ordersCreated;
+    private final Counter ordersRejected;
+    private final Counter materialsUnsourced;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ReplenishmentService(RawMaterialRepository rawMaterialRepository,
+                                SupplyOrderLineRepository supplyOrderLineRepository,
+                                ISupplyOrderService supplyOrderService,
+                                SupplierSelector supplierSelector,
+                                MeterRegistry meterRegistry,
+                                @Value("${replenishment.target-factor:2}") int targetFactor) {
+        this.rawMaterialRepository = rawMaterialRepository;
+        this.supplyOrderLineRepository = supplyOrderLineRepository;
+        this.supplyOrderService = supplyOrderService;
+        this.supplierSelector = supplierSelector;
+        this.targetFactor = targetFactor;
+        this.runTimer = meterRegistry.timer("replenishment.run");
+        this.ordersCreated = meterRegistry.counter("replenishment.orders", "outcome", "created");
+        this.ordersRejected = meterRegistry.counter("replenishment.orders", "outcome", "rejected");
+        this.materialsUnsourced = meterRegistry.counter("replenishment.materials.unsourced");
+    }
+
+    @Override
+    public ReplenishmentRunDTO replenish() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A replenishment run is already in progress");
+        }
+
+        boolean releaseAfterCompletion = TransactionSynchronizationManager.isSynchronizationActive();
+        if (releaseAfterCompletion) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    running.set(false);
+                }
+            });
+        }
+
+        try {
+            return runTimer.record(this::runReplenishment);
+        } finally {
+            if (!releaseAfterCompletion) {
+                running.set(false);
+            }
+        }
+    }
+
+    private ReplenishmentRunDTO runReplenishment() {
+        ReplenishmentRunDTO run = new ReplenishmentRunDTO();
+        List<MaterialStockRow> lowStock = rawMaterialRepository.findLowStockMaterialStock();
+        run.setLowStockMaterials(lowStock.size());
+        if (lowStock.isEmpty()) {
+            return run;
+        }
+
+        Set<Long> onOrder = new HashSet<>();
+        for (QuantityRow row : supplyOrderLineRepository.sumQuantityByMaterial(OPEN_SUPPLY_STATUSES)) {
+            onOrder.add(row.getId());
+        }
+
+        Map<Long, MaterialStockRow> candidates = new LinkedHashMap<>();
+        for (MaterialStockRow material : lowStock) {
+            if (onOrder.contains(material.getIdMaterial())) {
+                run.setAlreadyOnOrder(run.getAlreadyOnOrder() + 1);
+            } else {
+                candidates.put(material.getIdMaterial(), material);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return run;
+        }
+
+        Map<Long, MaterialSupplierRow> suppliers = supplierSelector.bestSuppliers(rawMaterialRepository.findSupplierRows(candidates.keySet()));
+        Map<Long, BigDecimal> prices = new HashMap<>();
+        for (MaterialPriceRow row : supplyOrderLineRepository.findLastUnitPrices(candidates.keySet())) {
+            prices.put(row.getMaterialId(), row.getUnitPrice());
+        }
+
+        String runId = LocalDateTime.now().format(ORDER_NUMBER_FORMAT);
+        Map<Long, SupplyOrderDTO> orders = new LinkedHashMap<>();
+        for (MaterialStockRow material : candidates.values()) {
+            MaterialSupplierRow supplier = suppliers.get(material.getIdMaterial());
+            BigDecimal unitPrice = prices.get(material.getIdMaterial());
+            if (supplier == null || unitPrice == null) {
+                run.getUnsourcedMaterialIds().add(material.getIdMaterial());
+                continue;
+            }
+
+            orders.computeIfAbsent(supplier.getIdSupplier(), supplierId -> newSupplyOrder(supplierId, runId))
+                    .getOrderLines()
+                    .add(new SupplyOrderLineDTO(null, material.getIdMaterial(), reorderQuantity(material), unitPrice));
+        }
+
+        BulkImportReport report = supplyOrderService.importSupplyOrders(new ArrayList<>(orders.values()));
+        run.setSupplyOrders(report);
+
+        ordersCreated.increment(report.getImported());
+        ordersRejected.increment(report.getRejected());
+        materialsUnsourced.increment(run.getUnsourcedMaterialIds().size());
+        return run;
+    }
+
+    private int reorderQuantity(MaterialStockRow material) {
+        long available = (long) material.getStock() - material.getReservedStock();
+        long target = (long) material.getStockMin() * targetFactor;
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, target - available));
+    }
+
+    private SupplyOrderDTO newSupplyOrder(Long supplierId, String runId) {
+        SupplyOrderDTO supplyOrder = new SupplyOrderDTO();
+        supplyOrder.setOrderNumber("REP-" + runId + "-" + supplierId);
+        supplyOrder.setSupplierId(supplierId);
+        supplyOrder.setOrderDate(LocalDate.now());
+        supplyOrder.setStatus(SupplyOrderStatus.EN_ATTENTE);
+        supplyOrder.setOrderLines(new ArrayList<>());
+        return supplyOrder;
+    }
+}
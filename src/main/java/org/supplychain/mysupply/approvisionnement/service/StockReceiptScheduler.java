@@ -0,0 +1,23 @@
+package org.supplychain.mysupply.approvisionnement.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.supplychain.mysupply.approvisionnement.service.interf.IStockReceiptService;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock-receipt.enabled", havingValue = "true", matchIfMissing = true)
+public class StockReceiptScheduler {
+
+    private final IStockReceiptService stockReceiptService;
+
+    @Scheduled(initialDelayString = "${stock-receipt.initial-delay:PT10S}", fixedDelayString = "${stock-receipt.interval:PT5S}")
+    public void processReceipts() {
+        int processed;
+        do {
+            processed = stockReceiptService.processPendingReceipts();
+        } while (processed > 0);
+    }
+}
@@ -0,0 +1,61 @@
+package org.supplychain.mysupply.approvisionnement.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.supplychain.mysupply.approvisionnement.model.StockReceipt;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.StockReceiptRepository;
+import org.supplychain.mysupply.approvisionnement.repository.SupplyOrderLineRepository;
+import org.supplychain.mysupply.approvisionnement.service.interf.IStockReceiptService;
+import org.supplychain.mysupply.production.service.interf.IProductionOrderService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Service
+@Transactional
+public class StockReceiptService implements IStockReceiptService {
+
+    private final StockReceiptRepository stockReceiptRepository;
+    private final SupplyOrderLineRepository supplyOrderLineRepository;
+    private final RawMaterialRepository rawMaterialRepository;
+    private final IProductionOrderService productionOrderService;
+    private final int batchSize;
+
+    public StockReceiptService(StockReceiptRepository stockReceiptRepository,
+                               SupplyOrderLineRepository supplyOrderLineRepository,
+                               RawMaterialRepository rawMaterialRepository,
+                               IProductionOrderService productionOrderService,
+                               @Value("${stock-receipt.batch-size:100}") int batchSize) {
+        this.stockReceiptRepository = stockReceiptRepository;
+        this.supplyOrderLineRepository = supplyOrderLineRepository;
+        this.rawMaterialRepository = rawMaterialRepository;
+        this.productionOrderService = productionOrderService;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int processPendingReceipts() {
+        List<StockReceipt> receipts = stockReceiptRepository.findPendingForUpdate(Limit.of(batchSize));
+        if (receipts.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> orderIds = receipts.stream()
+                .map(receipt -> receipt.getSupplyOrder().getIdOrder())
+                .toList();
+        List<Long> materialIds = supplyOrderLineRepository.findMaterialIdsByOrderIds(orderIds);
+
+        int restockedMaterials = rawMaterialRepository.receiveStock(orderIds, LocalDate.now());
+        stockReceiptRepository.deleteAllInBatch(receipts);
+        int releasedOrders = productionOrderService.releaseBlockedOrders(materialIds);
+
+        log.info("Applied {} supply order receipt(s): {} material(s) restocked, {} blocked production order(s) released",
+                receipts.size(), restockedMaterials, releasedOrders);
+        return receipts.size();
+    }
+}
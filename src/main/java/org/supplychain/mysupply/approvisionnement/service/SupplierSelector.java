@@ -0,0 +1,25 @@
+package org.supplychain.mysupply.approvisionnement.service;
+
+import org.springframework.stereotype.Component;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialSupplierRow;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class SupplierSelector {
+
+    private static final Comparator<MaterialSupplierRow> PREFERENCE = Comparator
+            .comparingInt((MaterialSupplierRow row) -> row.getLeadTime() != null ? row.getLeadTime() : Integer.MAX_VALUE)
+            .thenComparing(row -> row.getRating() != null ? row.getRating() : 0.0, Comparator.reverseOrder());
+
+    public Map<Long, MaterialSupplierRow> bestSuppliers(List<MaterialSupplierRow> rows) {
+        Map<Long, MaterialSupplierRow> best = new HashMap<>();
+        for (MaterialSupplierRow row : rows) {
+            best.merge(row.getMaterialId(), row, (current, candidate) -> PREFERENCE.compare(candidate, current) < 0 ? candidate : current);
+        }
+        return best;
+    }
+}
@@ -1,6 +1,10 @@
 package org.supplychain.mysupply.approvisionnement.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -12,32 +16,62 @@ import org.supplychain.mysupply.approvisionnement.enums.SupplyOrderStatus;
 import org.supplychain.mysupply.approvisionnement.mapper.SupplyOrderMapper;
 import org.supplychain.mysupply.approvisionnement.mapper.SupplyOrderLineMapper;
 import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
+import org.supplychain.mysupply.approvisionnement.model.StockReceipt;
 import org.supplychain.mysupply.approvisionnement.model.Supplier;
 import org.supplychain.mysupply.approvisionnement.model.SupplyOrder;
 import org.supplychain.mysupply.approvisionnement.model.SupplyOrderLine;
 import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.StockReceiptRepository;
 import org.supplychain.mysupply.approvisionnement.repository.SupplierRepository;
 import org.supplychain.mysupply.approvisionnement.repository.SupplyOrderRepository;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialSupplierRow;
+import org.supplychain.mysupply.approvisionnement.repository.projection.SupplyOrderExportRow;
 import org.supplychain.mysupply.approvisionnement.service.interf.ISupplyOrderService;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.bulk.BulkRowResult;
 import org.supplychain.mysupply.common.exception.ResourceNotFoundException;
 import org.supplychain.mysupply.common.exception.UnauthorizedException;
+import org.supplychain.mysupply.common.export.ExportFormat;
+import org.supplychain.mysupply.common.export.ExportWriter;
+import org.supplychain.mysupply.common.pagination.KeysetPage;
+import org.supplychain.mysupply.common.pagination.SeekCursor;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class SupplyOrderService implements ISupplyOrderService {
 
+    private static final int IMPORT_BATCH_SIZE = 50;
+
+    private static final String[] EXPORT_COLUMNS = {
+            "idOrder", "orderNumber", "orderDate", "status", "totalAmount", "supplierId", "supplierName",
+            "idLine", "materialId", "materialName", "quantity", "unitPrice"
+    };
+
     private final SupplyOrderRepository supplyOrderRepository;
     private final SupplierRepository supplierRepository;
     private final RawMaterialRepository rawMaterialRepository;
+    private final StockReceiptRepository stockReceiptRepository;
     private final SupplyOrderMapper supplyOrderMapper;
     private final SupplyOrderLineMapper supplyOrderLineMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
 
     @Override
     public SupplyOrderResponseDTO createSupplyOrder(SupplyOrderDTO supplyOrderDTO) {
@@ -78,35 +112,167 @@ public class SupplyOrderService implements ISupplyOrderService {
         return supplyOrderMapper.toResponseDTO(savedOrder);
     }
 
-    private void validateSupplierMaterials(Supplier supplier, List<SupplyOrderLineDTO> orderLines) {
-        List<Long> supplierMaterialIds = supplier.getMaterials().stream()
-                .map(RawMaterial::getIdMaterial)
-                .collect(Collectors.toList());
+    @Override
+    public BulkImportReport importSupplyOrders(List<SupplyOrderDTO> supplyOrderDTOs) {
+        Set<String> takenOrderNumbers = new HashSet<>(supplyOrderRepository.findExistingOrderNumbers(supplyOrderDTOs.stream()
+                .filter(Objects::nonNull)
+                .map(SupplyOrderDTO::getOrderNumber)
+                .filter(Objects::nonNull)
+                .toList()));
+        Map<Long, Supplier> suppliers = supplierRepository.findAllById(supplyOrderDTOs.stream()
+                        .filter(Objects::nonNull)
+                        .map(SupplyOrderDTO::getSupplierId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Supplier::getIdSupplier, Function.identity()));
+        Set<Long> materialIds = supplyOrderDTOs.stream()
+                .filter(supplyOrderDTO -> supplyOrderDTO != null && supplyOrderDTO.getOrderLines() != null)
+                .flatMap(supplyOrderDTO -> supplyOrderDTO.getOrderLines().stream())
+                .filter(Objects::nonNull)
+                .map(SupplyOrderLineDTO::getRawMaterialId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, RawMaterial> materials = rawMaterialRepository.findAllById(materialIds).stream()
+                .collect(Collectors.toMap(RawMaterial::getIdMaterial, Function.identity()));
+        Map<Long, Set<Long>> materialSuppliers = new HashMap<>();
+        if (!materialIds.isEmpty()) {
+            for (MaterialSupplierRow row : rawMaterialRepository.findSupplierRows(materialIds)) {
+                materialSuppliers.computeIfAbsent(row.getMaterialId(), id -> new HashSet<>()).add(row.getIdSupplier());
+            }
+        }
 
-        List<Long> invalidMaterialIds = new ArrayList<>();
-        List<String> invalidMaterialNames = new ArrayList<>();
+        BulkRowResult[] results = new BulkRowResult[supplyOrderDTOs.size()];
+        Map<Integer, SupplyOrder> acceptedOrders = new LinkedHashMap<>();
 
-        for (SupplyOrderLineDTO lineDTO : orderLines) {
-            Long materialId = lineDTO.getRawMaterialId();
+        for (int index = 0; index < supplyOrderDTOs.size(); index++) {
+            SupplyOrderDTO supplyOrderDTO = supplyOrderDTOs.get(index);
+            if (supplyOrderDTO == null) {
+                results[index] = BulkRowResult.rejected(index, null, List.of("Supply order is required"));
+                continue;
+            }
+            List<String> errors = validateImportedOrder(supplyOrderDTO, takenOrderNumbers, suppliers, materials, materialSuppliers);
 
-            if (!supplierMaterialIds.contains(materialId)) {
-                RawMaterial material = rawMaterialRepository.findById(materialId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Raw material not found with id: " + materialId));
+            if (!errors.isEmpty()) {
+                results[index] = BulkRowResult.rejected(index, supplyOrderDTO.getOrderNumber(), errors);
+                continue;
+            }
 
-                invalidMaterialIds.add(materialId);
-                invalidMaterialNames.add(material.getName());
+            takenOrderNumbers.add(supplyOrderDTO.getOrderNumber());
+            acceptedOrders.put(index, buildSupplyOrder(supplyOrderDTO, suppliers.get(supplyOrderDTO.getSupplierId()), materials));
+        }
+
+        List<SupplyOrder> batch = new ArrayList<>();
+        for (SupplyOrder supplyOrder : acceptedOrders.values()) {
+            batch.add(supplyOrder);
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                persistBatch(batch);
             }
         }
+        persistBatch(batch);
 
-        if (!invalidMaterialIds.isEmpty()) {
-            throw new IllegalStateException(
-                    String.format("Supplier '%s' does not provide the following material(s): %s (IDs: %s). " +
-                                    "Please choose materials that this supplier can provide.",
-                            supplier.getName(),
-                            String.join(", ", invalidMaterialNames),
-                            invalidMaterialIds.stream().map(String::valueOf).collect(Collectors.joining(", ")))
-            );
+        acceptedOrders.forEach((index, supplyOrder) ->
+                results[index] = BulkRowResult.accepted(index, supplyOrder.getOrderNumber(), supplyOrder.getIdOrder()));
+        return new BulkImportReport(Arrays.asList(results));
+    }
+
+    private List<String> validateImportedOrder(SupplyOrderDTO supplyOrderDTO, Set<String> takenOrderNumbers,
+                                               Map<Long, Supplier> suppliers, Map<Long, RawMaterial> materials,
+                                               Map<Long, Set<Long>> materialSuppliers) {
+        List<String> errors = validator.validate(supplyOrderDTO).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (!errors.isEmpty()) {
+            return errors;
         }
+
+        if (supplyOrderDTO.getOrderLines() == null || supplyOrderDTO.getOrderLines().isEmpty()) {
+            errors.add("Order must contain at least one line");
+            return errors;
+        }
+        if (takenOrderNumbers.contains(supplyOrderDTO.getOrderNumber())) {
+            errors.add("Order number already exists: " + supplyOrderDTO.getOrderNumber());
+        }
+        if (!suppliers.containsKey(supplyOrderDTO.getSupplierId())) {
+            errors.add("Supplier not found with id: " + supplyOrderDTO.getSupplierId());
+            return errors;
+        }
+
+        for (SupplyOrderLineDTO lineDTO : supplyOrderDTO.getOrderLines()) {
+            Long materialId = lineDTO.getRawMaterialId();
+            if (!materials.containsKey(materialId)) {
+                errors.add("Raw material not found with id: " + materialId);
+            } else if (!materialSuppliers.getOrDefault(materialId, Set.of()).contains(supplyOrderDTO.getSupplierId())) {
+                errors.add(String.format("Supplier '%s' does not provide material '%s' (ID: %d)",
+                        suppliers.get(supplyOrderDTO.getSupplierId()).getName(), materials.get(materialId).getName(), materialId));
+            }
+        }
+        return errors;
+    }
+
+    private SupplyOrder buildSupplyOrder(SupplyOrderDTO supplyOrderDTO, Supplier supplier, Map<Long, RawMaterial> materials) {
+        SupplyOrder supplyOrder = supplyOrderMapper.toEntity(supplyOrderDTO);
+        supplyOrder.setIdOrder(null);
+        supplyOrder.setSupplier(supplier);
+        supplyOrder.setStatus(SupplyOrderStatus.EN_ATTENTE);
+
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (SupplyOrderLineDTO lineDTO : supplyOrderDTO.getOrderLines()) {
+            SupplyOrderLine orderLine = supplyOrderLineMapper.toEntity(lineDTO);
+            orderLine.setIdLine(null);
+            orderLine.setSupplyOrder(supplyOrder);
+            orderLine.setRawMaterial(materials.get(lineDTO.getRawMaterialId()));
+            supplyOrder.getOrderLines().add(orderLine);
+
+            totalAmount = totalAmount.add(lineDTO.getUnitPrice().multiply(BigDecimal.valueOf(lineDTO.getQuantity())));
+        }
+
+        supplyOrder.setTotalAmount(totalAmount);
+        return supplyOrder;
+    }
+
+    private void persistBatch(List<SupplyOrder> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        supplyOrderRepository.saveAll(batch);
+        entityManager.flush();
+        entityManager.clear();
+        batch.clear();
+    }
+
+    private void validateSupplierMaterials(Supplier supplier, List<SupplyOrderLineDTO> orderLines) {
+        Set<Long> requestedMaterialIds = orderLines.stream()
+                .map(SupplyOrderLineDTO::getRawMaterialId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Set<Long> invalidMaterialIds = new LinkedHashSet<>(requestedMaterialIds);
+        invalidMaterialIds.removeAll(supplierRepository.findSuppliedMaterialIds(supplier.getIdSupplier(), requestedMaterialIds));
+
+        if (invalidMaterialIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, String> materialNames = rawMaterialRepository.findAllById(invalidMaterialIds).stream()
+                .collect(Collectors.toMap(RawMaterial::getIdMaterial, RawMaterial::getName));
+
+        List<String> invalidMaterialNames = new ArrayList<>();
+        for (Long materialId : invalidMaterialIds) {
+            String name = materialNames.get(materialId);
+            if (name == null) {
+                throw new ResourceNotFoundException("Raw material not found with id: " + materialId);
+            }
+            invalidMaterialNames.add(name);
+        }
+
+        throw new IllegalStateException(
+                String.format("Supplier '%s' does not provide the following material(s): %s (IDs: %s). " +
+                                "Please choose materials that this supplier can provide.",
+                        supplier.getName(),
+                        String.join(", ", invalidMaterialNames),
+                        invalidMaterialIds.stream().map(String::valueOf).collect(Collectors.joining(", ")))
+        );
     }
 
     @Override
@@ -120,22 +286,50 @@ public class SupplyOrderService implements ISupplyOrderService {
     @Override
     @Transactional(readOnly = true)
     public Page<SupplyOrderResponseDTO> getAllSupplyOrders(Pageable pageable) {
-        return supplyOrderRepository.findAll(pageable)
-                .map(supplyOrderMapper::toResponseDTO);
+        return mapPage(supplyOrderRepository.findAll(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<SupplyOrderResponseDTO> getSupplyOrdersByStatus(SupplyOrderStatus status, Pageable pageable) {
-        return supplyOrderRepository.findByStatus(status, pageable)
-                .map(supplyOrderMapper::toResponseDTO);
+        return mapPage(supplyOrderRepository.findByStatus(status, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<SupplyOrderResponseDTO> getSupplyOrdersBySupplier(Long supplierId, Pageable pageable) {
-        return supplyOrderRepository.findBySupplier(supplierId, pageable)
-                .map(supplyOrderMapper::toResponseDTO);
+        return mapPage(supplyOrderRepository.findBySupplier(supplierId, pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<SupplyOrderResponseDTO> seekSupplyOrdersBySupplier(Long supplierId, String cursor, int size) {
+        Limit limit = KeysetPage.fetchLimit(size);
+        List<SupplyOrder> orders;
+        if (cursor == null) {
+            orders = supplyOrderRepository.seekBySupplier(supplierId, limit);
+        } else {
+            SeekCursor after = SeekCursor.decode(cursor);
+            orders = supplyOrderRepository.seekBySupplierAfter(supplierId, after.getDate(), after.getId(), limit);
+        }
+
+        KeysetPage<SupplyOrder> page = KeysetPage.of(orders, size,
+                order -> new SeekCursor(order.getOrderDate(), order.getIdOrder()));
+        fetchOrderLines(page.getContent());
+        return page.map(supplyOrderMapper::toResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportSupplyOrders(ExportFormat format, OutputStream outputStream) {
+        ExportWriter writer = new ExportWriter(format, outputStream, EXPORT_COLUMNS);
+        try (Stream<SupplyOrderExportRow> rows = supplyOrderRepository.streamExportRows()) {
+            rows.forEach(row -> writer.write(
+                    row.getIdOrder(), row.getOrderNumber(), row.getOrderDate(), row.getStatus(), row.getTotalAmount(),
+                    row.getSupplierId(), row.getSupplierName(), row.getIdLine(), row.getMaterialId(),
+                    row.getMaterialName(), row.getQuantity(), row.getUnitPrice()));
+        }
+        return writer.finish();
     }
 
     @Override
@@ -148,24 +342,15 @@ public class SupplyOrderService implements ISupplyOrderService {
         }
 
         supplyOrder.setStatus(newStatus);
+        SupplyOrder updatedOrder = supplyOrderRepository.save(supplyOrder);
 
         if (newStatus == SupplyOrderStatus.RECUE) {
-            updateMaterialStock(supplyOrder);
+            stockReceiptRepository.save(new StockReceipt(null, updatedOrder));
         }
 
-        SupplyOrder updatedOrder = supplyOrderRepository.save(supplyOrder);
         return supplyOrderMapper.toResponseDTO(updatedOrder);
     }
 
-    private void updateMaterialStock(SupplyOrder supplyOrder) {
-        for (SupplyOrderLine orderLine : supplyOrder.getOrderLines()) {
-            RawMaterial material = orderLine.getRawMaterial();
-            material.setStock(material.getStock() + orderLine.getQuantity());
-            material.setLastRestockDate(LocalDate.now());
-            rawMaterialRepository.save(material);
-        }
-    }
-
     @Override
     public void deleteSupplyOrder(Long id) {
         SupplyOrder supplyOrder = supplyOrderRepository.findById(id)
@@ -177,4 +362,15 @@ public class SupplyOrderService implements ISupplyOrderService {
 
         supplyOrderRepository.deleteById(id);
     }
+
+    private Page<SupplyOrderResponseDTO> mapPage(Page<SupplyOrder> orders) {
+        fetchOrderLines(orders.getContent());
+        return orders.map(supplyOrderMapper::toResponseDTO);
+    }
+
+    private void fetchOrderLines(List<SupplyOrder> orders) {
+        if (!orders.isEmpty()) {
+            supplyOrderRepository.fetchOrderLines(orders.stream().map(SupplyOrder::getIdOrder).toList());
+        }
+    }
 }
\ No newline at end of file
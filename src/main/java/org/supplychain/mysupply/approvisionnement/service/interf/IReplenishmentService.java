@@ -0,0 +1,8 @@
+package org.supplychain.mysupply.approvisionnement.service.interf;
+
+import org.supplychain.mysupply.approvisionnement.dto.ReplenishmentRunDTO;
+
+public interface IReplenishmentService {
+
+    ReplenishmentRunDTO replenish();
+}
@@ -0,0 +1,6 @@
+package org.supplychain.mysupply.approvisionnement.service.interf;
+
+public interface IStockReceiptService {
+
+    int processPendingReceipts();
+}
@@ -6,11 +6,19 @@ import org.springframework.data.domain.Pageable;
 import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderDTO;
 import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderResponseDTO;
 import org.supplychain.mysupply.approvisionnement.enums.SupplyOrderStatus;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.export.ExportFormat;
+import org.supplychain.mysupply.common.pagination.KeysetPage;
+
+import java.io.OutputStream;
+import java.util.List;
 
 public interface ISupplyOrderService {
 
     SupplyOrderResponseDTO createSupplyOrder(SupplyOrderDTO supplyOrderDTO);
 
+    BulkImportReport importSupplyOrders(List<SupplyOrderDTO> supplyOrderDTOs);
+
     SupplyOrderResponseDTO getSupplyOrderById(Long id);
 
     Page<SupplyOrderResponseDTO> getAllSupplyOrders(Pageable pageable);
@@ -19,6 +27,10 @@ public interface ISupplyOrderService {
 
     Page<SupplyOrderResponseDTO> getSupplyOrdersBySupplier(Long supplierId, Pageable pageable);
 
+    KeysetPage<SupplyOrderResponseDTO> seekSupplyOrdersBySupplier(Long supplierId, String cursor, int size);
+
+    long exportSupplyOrders(ExportFormat format, OutputStream outputStream);
+
     SupplyOrderResponseDTO updateSupplyOrderStatus(Long id, SupplyOrderStatus newStatus);
 
     void deleteSupplyOrder(Long id);
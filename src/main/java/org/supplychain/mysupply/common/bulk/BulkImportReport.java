@@ -0,0 +1,21 @@
+package org.supplychain.mysupply.common.bulk;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class BulkImportReport {
+
+    private final int total;
+    private final int imported;
+    private final int rejected;
+    private final List<BulkRowResult> rows;
+
+    public BulkImportReport(List<BulkRowResult> rows) {
+        this.total = rows.size();
+        this.imported = (int) rows.stream().filter(BulkRowResult::isAccepted).count();
+        this.rejected = total - imported;
+        this.rows = rows;
+    }
+}
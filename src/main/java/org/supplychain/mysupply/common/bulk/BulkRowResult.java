@@ -0,0 +1,28 @@
+package org.supplychain.mysupply.common.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class BulkRowResult {
+
+    private final int index;
+    private final String reference;
+    private final Long id;
+    private final List<String> errors;
+
+    public static BulkRowResult accepted(int index, String reference, Long id) {
+        return new BulkRowResult(index, reference, id, List.of());
+    }
+
+    public static BulkRowResult rejected(int index, String reference, List<String> errors) {
+        return new BulkRowResult(index, reference, null, errors);
+    }
+
+    public boolean isAccepted() {
+        return errors.isEmpty();
+    }
+}
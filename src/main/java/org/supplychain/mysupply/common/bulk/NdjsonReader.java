@@ -0,0 +1,81 @@
+package org.supplychain.mysupply.common.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Component
+@RequiredArgsConstructor
+public class NdjsonReader {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Reads the body one line at a time and hands the rows to {@code importer} in chunks of
+     * {@value #CHUNK_SIZE}, so only one chunk is held in memory. A line that is not valid JSON is
+     * passed on as {@code null} and reported as rejected with its parse error.
+     */
+    public <T> BulkImportReport importChunks(InputStream inputStream, Class<T> type,
+                                             Function<List<T>, BulkImportReport> importer) {
+        ObjectReader reader = objectMapper.readerFor(type);
+        List<BulkRowResult> rows = new ArrayList<>();
+        List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+        Map<Integer, String> parseErrors = new HashMap<>();
+
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            int lineNumber = 0;
+            for (String line = lines.readLine(); line != null; line = lines.readLine()) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    chunk.add(reader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    parseErrors.put(chunk.size(), "Invalid JSON on line " + lineNumber + ": " + e.getOriginalMessage());
+                    chunk.add(null);
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, parseErrors, importer, rows);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid NDJSON content: " + e.getMessage());
+        }
+
+        importChunk(chunk, parseErrors, importer, rows);
+        return new BulkImportReport(rows);
+    }
+
+    private <T> void importChunk(List<T> chunk, Map<Integer, String> parseErrors,
+                                 Function<List<T>, BulkImportReport> importer, List<BulkRowResult> rows) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        int offset = rows.size();
+        for (BulkRowResult row : importer.apply(new ArrayList<>(chunk)).getRows()) {
+            String parseError = parseErrors.get(row.getIndex());
+            rows.add(parseError == null
+                    ? new BulkRowResult(offset + row.getIndex(), row.getReference(), row.getId(), row.getErrors())
+                    : BulkRowResult.rejected(offset + row.getIndex(), null, List.of(parseError)));
+        }
+        chunk.clear();
+        parseErrors.clear();
+    }
+}
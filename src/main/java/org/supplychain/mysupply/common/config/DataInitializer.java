@@ -2,6 +2,7 @@ package org.supplychain.mysupply.common.config;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.supplychain.mysupply.approvisionnement.enums.SupplyOrderStatus;
 import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
@@ -30,6 +31,7 @@ import org.supplychain.mysupply.production.model.ProductionOrder;
 import org.supplychain.mysupply.production.repository.BillOfMaterialRepository;
 import org.supplychain.mysupply.production.repository.ProductRepository;
 import org.supplychain.mysupply.production.repository.ProductionOrderRepository;
+import org.supplychain.mysupply.production.service.interf.IMaterialReservationService;
 import org.supplychain.mysupply.user.enums.Role;
 import org.supplychain.mysupply.user.model.User;
 import org.supplychain.mysupply.user.repository.UserRepository;
@@ -40,6 +42,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Component
+@Profile("!test")
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
 
@@ -55,6 +58,7 @@ public class DataInitializer implements CommandLineRunner {
     private final CustomerOrderRepository customerOrderRepository;
     private final CustomerOrderLineRepository customerOrderLineRepository;
     private final DeliveryRepository deliveryRepository;
+    private final IMaterialReservationService materialReservationService;
 
     @Override
     public void run(String... args) throws Exception {
@@ -117,14 +121,14 @@ public class DataInitializer implements CommandLineRunner {
     private void createRawMaterials() {
         List<RawMaterial> materials = new ArrayList<>();
 
-        materials.add(new RawMaterial(null, "Steel Sheets", "High-quality steel for construction", 500, 0, 100, "KG", LocalDate.now().minusDays(30), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
-        materials.add(new RawMaterial(null, "Aluminum Bars", "Lightweight aluminum material", 300, 0, 80, "KG", LocalDate.now().minusDays(20), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
-        materials.add(new RawMaterial(null, "Plastic Granules", "Recyclable plastic material", 800, 0, 150, "KG", LocalDate.now().minusDays(15), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
-        materials.add(new RawMaterial(null, "Copper Wire", "Electrical grade copper", 200, 0, 50, "M", LocalDate.now().minusDays(25), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
-        materials.add(new RawMaterial(null, "Rubber Sheets", "Industrial rubber material", 400, 0, 100, "KG", LocalDate.now().minusDays(10), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
-        materials.add(new RawMaterial(null, "Glass Panels", "Tempered safety glass", 150, 0, 30, "UNIT", LocalDate.now().minusDays(40), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
-        materials.add(new RawMaterial(null, "Wood Planks", "Premium oak wood", 600, 0, 120, "UNIT", LocalDate.now().minusDays(35), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
-        materials.add(new RawMaterial(null, "Chemical Adhesive", "Strong bonding adhesive", 250, 0, 60, "L", LocalDate.now().minusDays(5), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        materials.add(new RawMaterial(null, "Steel Sheets", "High-quality steel for construction", 500, 0, 100, false, "KG", LocalDate.now().minusDays(30), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        materials.add(new RawMaterial(null, "Aluminum Bars", "Lightweight aluminum material", 300, 0, 80, false, "KG", LocalDate.now().minusDays(20), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        materials.add(new RawMaterial(null, "Plastic Granules", "Recyclable plastic material", 800, 0, 150, false, "KG", LocalDate.now().minusDays(15), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        materials.add(new RawMaterial(null, "Copper Wire", "Electrical grade copper", 200, 0, 50, false, "M", LocalDate.now().minusDays(25), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        materials.add(new RawMaterial(null, "Rubber Sheets", "Industrial rubber material", 400, 0, 100, false, "KG", LocalDate.now().minusDays(10), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        materials.add(new RawMaterial(null, "Glass Panels", "Tempered safety glass", 150, 0, 30, false, "UNIT", LocalDate.now().minusDays(40), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        materials.add(new RawMaterial(null, "Wood Planks", "Premium oak wood", 600, 0, 120, false, "UNIT", LocalDate.now().minusDays(35), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        materials.add(new RawMaterial(null, "Chemical Adhesive", "Strong bonding adhesive", 250, 0, 60, false, "L", LocalDate.now().minusDays(5), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
 
         rawMaterialRepository.saveAll(materials);
         System.out.println("✓ Created " + materials.size() + " raw materials");
@@ -159,11 +163,11 @@ public class DataInitializer implements CommandLineRunner {
     private void createProducts() {
         List<Product> products = new ArrayList<>();
 
-        products.add(new Product(null, "Premium Chair", "Ergonomic office chair with lumbar support", 8, new BigDecimal("150.00"), 50, 10, "UNIT", new ArrayList<>(), new ArrayList<>()));
-        products.add(new Product(null, "Office Desk", "Modern office desk with cable management", 12, new BigDecimal("300.00"), 30, 5, "UNIT", new ArrayList<>(), new ArrayList<>()));
-        products.add(new Product(null, "Storage Cabinet", "Steel cabinet with 4 drawers", 10, new BigDecimal("200.00"), 40, 8, "UNIT", new ArrayList<>(), new ArrayList<>()));
-        products.add(new Product(null, "Conference Table", "Large table for 10 people", 16, new BigDecimal("500.00"), 20, 3, "UNIT", new ArrayList<>(), new ArrayList<>()));
-        products.add(new Product(null, "Executive Chair", "Leather executive chair", 10, new BigDecimal("250.00"), 35, 7, "UNIT", new ArrayList<>(), new ArrayList<>()));
+        products.add(new Product(null, "Premium Chair", "Ergonomic office chair with lumbar support", 8, new BigDecimal("150.00"), 50, 10, false, "UNIT", new ArrayList<>(), new ArrayList<>()));
+        products.add(new Product(null, "Office Desk", "Modern office desk with cable management", 12, new BigDecimal("300.00"), 30, 5, false, "UNIT", new ArrayList<>(), new ArrayList<>()));
+        products.add(new Product(null, "Storage Cabinet", "Steel cabinet with 4 drawers", 10, new BigDecimal("200.00"), 40, 8, false, "UNIT", new ArrayList<>(), new ArrayList<>()));
+        products.add(new Product(null, "Conference Table", "Large table for 10 people", 16, new BigDecimal("500.00"), 20, 3, false, "UNIT", new ArrayList<>(), new ArrayList<>()));
+        products.add(new Product(null, "Executive Chair", "Leather executive chair", 10, new BigDecimal("250.00"), 35, 7, false, "UNIT", new ArrayList<>(), new ArrayList<>()));
 
         productRepository.saveAll(products);
         System.out.println("✓ Created " + products.size() + " products");
@@ -194,12 +198,18 @@ public class DataInitializer implements CommandLineRunner {
 
         List<ProductionOrder> orders = new ArrayList<>();
 
-        orders.add(new ProductionOrder(null, "PO-2024-001", products.get(0), 20, ProductionOrderStatus.TERMINE, Priority.STANDARD, LocalDate.now().minusDays(15), LocalDate.now().minusDays(10), LocalDate.now().minusDays(5), LocalDate.now().minusDays(5), 160));
-        orders.add(new ProductionOrder(null, "PO-2024-002", products.get(1), 15, ProductionOrderStatus.EN_PRODUCTION, Priority.URGENT, LocalDate.now().minusDays(5), LocalDate.now().minusDays(3), LocalDate.now().plusDays(2), null, 180));
-        orders.add(new ProductionOrder(null, "PO-2024-003", products.get(2), 25, ProductionOrderStatus.EN_ATTENTE, Priority.STANDARD, LocalDate.now(), null, LocalDate.now().plusDays(7), null, 250));
-        orders.add(new ProductionOrder(null, "PO-2024-004", products.get(3), 10, ProductionOrderStatus.EN_ATTENTE, Priority.URGENT, LocalDate.now().plusDays(1), null, LocalDate.now().plusDays(10), null, 160));
+        orders.add(new ProductionOrder(null, "PO-2024-001", products.get(0), 20, ProductionOrderStatus.TERMINE, Priority.STANDARD, LocalDate.now().minusDays(15), LocalDate.now().minusDays(10), LocalDate.now().minusDays(5), LocalDate.now().minusDays(5), 160, false));
+        orders.add(new ProductionOrder(null, "PO-2024-002", products.get(1), 15, ProductionOrderStatus.EN_PRODUCTION, Priority.URGENT, LocalDate.now().minusDays(5), LocalDate.now().minusDays(3), LocalDate.now().plusDays(2), null, 180, false));
+        orders.add(new ProductionOrder(null, "PO-2024-003", products.get(2), 25, ProductionOrderStatus.EN_ATTENTE, Priority.STANDARD, LocalDate.now(), null, LocalDate.now().plusDays(7), null, 250, true));
+        orders.add(new ProductionOrder(null, "PO-2024-004", products.get(3), 10, ProductionOrderStatus.EN_ATTENTE, Priority.URGENT, LocalDate.now().plusDays(1), null, LocalDate.now().plusDays(10), null, 160, true));
 
         productionOrderRepository.saveAll(orders);
+
+        for (ProductionOrder order : orders) {
+            if (order.getMaterialsReserved()) {
+                materialReservationService.reserveMaterials(order.getProduct().getIdProduct(), order.getQuantity());
+            }
+        }
         System.out.println("✓ Created " + orders.size() + " production orders");
     }
 
@@ -0,0 +1,54 @@
+package org.supplychain.mysupply.common.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements InitializingBean {
+
+    private static final List<IdSequence> SEQUENCES = List.of(
+            new IdSequence("customer_orders_seq", "customer_orders", "id_order"),
+            new IdSequence("customer_order_lines_seq", "customer_order_lines", "id_order_line"),
+            new IdSequence("supply_orders_seq", "supply_orders", "id_order"),
+            new IdSequence("supply_order_lines_seq", "supply_order_lines", "id_line"),
+            new IdSequence("stock_receipts_seq", "stock_receipts", "id_receipt"),
+            new IdSequence("suppliers_seq", "suppliers", "id_supplier"),
+            new IdSequence("raw_materials_seq", "raw_materials", "id_material"),
+            new IdSequence("products_seq", "products", "id_product"),
+            new IdSequence("bill_of_materials_seq", "bill_of_materials", "idbom"),
+            new IdSequence("production_orders_seq", "production_orders", "id_order"),
+            new IdSequence("customers_seq", "customers", "id_customer"),
+            new IdSequence("deliveries_seq", "deliveries", "id_delivery"),
+            new IdSequence("users_seq", "users", "id_user")
+    );
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+
+        for (IdSequence sequence : SEQUENCES) {
+            long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(" + sequence.idColumn() + "), 0) FROM " + sequence.table(), Long.class);
+            long nextValue = jdbcTemplate.queryForObject(
+                    dialect.getSequenceSupport().getSequenceNextValString(sequence.name()), Long.class);
+
+            if (nextValue <= maxId) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence.name() + " RESTART WITH " + (maxId + 1));
+            }
+        }
+    }
+
+    private record IdSequence(String name, String table, String idColumn) {
+    }
+}
@@ -0,0 +1,23 @@
+package org.supplychain.mysupply.common.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class LowStockFlagInitializer implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        jdbcTemplate.update("UPDATE raw_materials SET low_stock = (stock <= stock_min) " +
+                "WHERE low_stock IS NULL OR low_stock <> (stock <= stock_min)");
+        jdbcTemplate.update("UPDATE products SET low_stock = (stock <= minimum_stock) " +
+                "WHERE low_stock IS NULL OR low_stock <> (stock <= minimum_stock)");
+    }
+}
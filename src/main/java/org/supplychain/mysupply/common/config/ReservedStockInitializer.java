@@ -0,0 +1,34 @@
+package org.supplychain.mysupply.common.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backfills per-order reservations for production orders created before they were tracked: waiting
+ * orders are marked as holding their reservation and the reserved stock of every raw material is
+ * recomputed from the orders that hold one. Runs only while such orders exist.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class ReservedStockInitializer implements InitializingBean {
+
+    private static final String HELD_RESERVATIONS = "COALESCE((SELECT SUM(po.quantity * bom.quantity) " +
+            "FROM production_orders po JOIN bill_of_materials bom ON bom.product_id = po.product_id " +
+            "WHERE po.materials_reserved = TRUE AND bom.material_id = raw_materials.id_material), 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        int backfilled = jdbcTemplate.update("UPDATE production_orders SET materials_reserved = (status = 'EN_ATTENTE') " +
+                "WHERE materials_reserved IS NULL");
+        if (backfilled > 0) {
+            jdbcTemplate.update("UPDATE raw_materials SET reserved_stock = " + HELD_RESERVATIONS +
+                    " WHERE reserved_stock <> " + HELD_RESERVATIONS);
+        }
+    }
+}
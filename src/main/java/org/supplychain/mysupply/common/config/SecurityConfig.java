@@ -2,6 +2,7 @@ package org.supplychain.mysupply.common.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -23,10 +24,13 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
 
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(HttpMethod.POST, "/api/mrp/supply-orders")
+                        .hasAnyRole("ADMIN", "GESTIONNAIRE_APPROVISIONNEMENT", "RESPONSABLE_ACHATS", "SUPERVISEUR_LOGISTIQUE")
+
                         .requestMatchers("/api/raw-materials/**", "/api/suppliers/**", "/api/supply-orders/**")
                         .hasAnyRole("ADMIN", "GESTIONNAIRE_APPROVISIONNEMENT", "RESPONSABLE_ACHATS", "SUPERVISEUR_LOGISTIQUE")
 
-                        .requestMatchers("/api/products/**", "/api/production-orders/**")
+                        .requestMatchers("/api/products/**", "/api/production-orders/**", "/api/mrp/**")
                         .hasAnyRole("ADMIN", "CHEF_PRODUCTION", "PLANIFICATEUR", "SUPERVISEUR_PRODUCTION")
 
                         .requestMatchers("/api/customers/**", "/api/customer-orders/**", "/api/deliveries/**")
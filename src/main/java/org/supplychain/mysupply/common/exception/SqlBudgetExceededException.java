@@ -0,0 +1,8 @@
+package org.supplychain.mysupply.common.exception;
+
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
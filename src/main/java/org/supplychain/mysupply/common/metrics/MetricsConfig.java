@@ -0,0 +1,21 @@
+package org.supplychain.mysupply.common.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementTrackerCustomizer() {
+        return properties -> properties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementTracker());
+    }
+
+    @Bean
+    public TaskDecorator sqlStatementTrackerTaskDecorator() {
+        return SqlStatementTracker::propagate;
+    }
+}
@@ -0,0 +1,51 @@
+package org.supplychain.mysupply.common.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    public static final String REQUESTS = "hibernate.cache.requests";
+    public static final String HIT_RATIO = "hibernate.cache.hit.ratio";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return;
+        }
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            FunctionCounter.builder(REQUESTS, regionStatistics, CacheRegionStatistics::getHitCount)
+                    .description("Second-level cache lookups")
+                    .tags("region", region, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder(REQUESTS, regionStatistics, CacheRegionStatistics::getMissCount)
+                    .description("Second-level cache lookups")
+                    .tags("region", region, "result", "miss")
+                    .register(registry);
+            Gauge.builder(HIT_RATIO, regionStatistics, SecondLevelCacheMetrics::hitRatio)
+                    .description("Share of second-level cache lookups served from the cache")
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private static double hitRatio(CacheRegionStatistics statistics) {
+        long lookups = statistics.getHitCount() + statistics.getMissCount();
+        return lookups == 0 ? 0 : (double) statistics.getHitCount() / lookups;
+    }
+}
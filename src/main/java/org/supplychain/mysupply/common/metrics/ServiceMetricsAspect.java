@@ -0,0 +1,89 @@
+package org.supplychain.mysupply.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String TIMER = "service.method";
+    public static final String ERRORS = "service.method.errors";
+    public static final String SQL_STATEMENTS = "service.method.sql.statements";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlBudgetGuard sqlBudgetGuard;
+    private final Map<Method, ServiceMeters> meters = new ConcurrentHashMap<>();
+
+    @Around("execution(public * org.supplychain.mysupply..service..*(..)) && within(@org.springframework.stereotype.Service *)")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceMeters methodMeters = meters.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                method -> register(ClassUtils.getUserClass(joinPoint.getTarget()), method));
+
+        long statementsBefore = SqlStatementTracker.current();
+        long start = System.nanoTime();
+        Object result;
+        long statements;
+        try {
+            result = joinPoint.proceed();
+            methodMeters.success().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        } catch (Throwable e) {
+            methodMeters.failure().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            meterRegistry.counter(ERRORS, "class", methodMeters.className(), "method", methodMeters.methodName(),
+                    "exception", e.getClass().getSimpleName()).increment();
+            throw e;
+        } finally {
+            statements = SqlStatementTracker.current() - statementsBefore;
+            methodMeters.statements().record(statements);
+        }
+
+        sqlBudgetGuard.check("service", methodMeters.className() + "." + methodMeters.methodName(),
+                statements, methodMeters.budget());
+        return result;
+    }
+
+    private ServiceMeters register(Class<?> targetClass, Method method) {
+        String className = targetClass.getSimpleName();
+        String methodName = method.getName();
+        return new ServiceMeters(className, methodName,
+                sqlBudgetGuard.declaredBudget(AopUtils.getMostSpecificMethod(method, targetClass), targetClass),
+                timer(className, methodName, "success"),
+                timer(className, methodName, "error"),
+                DistributionSummary.builder(SQL_STATEMENTS)
+                        .description("SQL statements issued per service method invocation")
+                        .tag("class", className)
+                        .tag("method", methodName)
+                        .register(meterRegistry));
+    }
+
+    private Timer timer(String className, String methodName, String outcome) {
+        return Timer.builder(TIMER)
+                .description("Service method execution time")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record ServiceMeters(String className, String methodName, int budget, Timer success, Timer failure,
+                                 DistributionSummary statements) {
+    }
+}
@@ -0,0 +1,63 @@
+package org.supplychain.mysupply.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.supplychain.mysupply.common.exception.SqlBudgetExceededException;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class SqlBudgetGuard {
+
+    public static final String EXCEEDED = "sql.budget.exceeded";
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultEndpointBudget;
+    private final boolean enforce;
+    private final Map<Method, Integer> endpointBudgets = new ConcurrentHashMap<>();
+
+    public SqlBudgetGuard(MeterRegistry meterRegistry,
+                          @Value("${sql-budget.default:100}") int defaultEndpointBudget,
+                          @Value("${sql-budget.enforce:false}") boolean enforce) {
+        this.meterRegistry = meterRegistry;
+        this.defaultEndpointBudget = defaultEndpointBudget;
+        this.enforce = enforce;
+    }
+
+    public int endpointBudget(Method handlerMethod) {
+        return endpointBudgets.computeIfAbsent(handlerMethod, method -> isAnnotated(method)
+                ? declaredBudget(method, method.getDeclaringClass())
+                : defaultEndpointBudget);
+    }
+
+    public int declaredBudget(Method method, Class<?> type) {
+        SqlBudget budget = AnnotatedElementUtils.findMergedAnnotation(method, SqlBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(type, SqlBudget.class);
+        }
+        return budget != null ? budget.value() : SqlBudget.UNLIMITED;
+    }
+
+    public void check(String scope, String operation, long statements, int budget) {
+        if (budget == SqlBudget.UNLIMITED || statements <= budget) {
+            return;
+        }
+        meterRegistry.counter(EXCEEDED, "scope", scope, "operation", operation).increment();
+        String message = String.format("%s %s issued %d SQL statements, budget is %d", scope, operation, statements, budget);
+        if (enforce) {
+            throw new SqlBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+
+    private boolean isAnnotated(Method method) {
+        return AnnotatedElementUtils.hasAnnotation(method, SqlBudget.class)
+                || AnnotatedElementUtils.hasAnnotation(method.getDeclaringClass(), SqlBudget.class);
+    }
+}
@@ -0,0 +1,71 @@
+package org.supplychain.mysupply.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String SQL_STATEMENTS = "http.server.requests.sql.statements";
+
+    private static final String STATEMENTS_ATTRIBUTE = SqlStatementMetricsFilter.class.getName() + ".STATEMENTS";
+
+    private final MeterRegistry meterRegistry;
+    private final SqlBudgetGuard sqlBudgetGuard;
+
+    // Streaming responses run their queries on the async executor (see SqlStatementTracker#propagate)
+    // and finish in an async dispatch, which is where the request's statements are recorded.
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AtomicLong counter = (AtomicLong) request.getAttribute(STATEMENTS_ATTRIBUTE);
+        if (counter == null) {
+            counter = new AtomicLong();
+            request.setAttribute(STATEMENTS_ATTRIBUTE, counter);
+        }
+
+        AtomicLong previous = SqlStatementTracker.bind(counter);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementTracker.bind(previous);
+            if (!isAsyncStarted(request)) {
+                DistributionSummary.builder(SQL_STATEMENTS)
+                        .description("SQL statements issued per HTTP request")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uriOf(request))
+                        .register(meterRegistry)
+                        .record(counter.get());
+            }
+        }
+
+        if (!isAsyncStarted(request)
+                && request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            sqlBudgetGuard.check("endpoint", request.getMethod() + " " + uriOf(request), counter.get(),
+                    sqlBudgetGuard.endpointBudget(handler.getMethod()));
+        }
+    }
+
+    private static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,42 @@
+package org.supplychain.mysupply.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SqlStatementTracker implements StatementInspector {
+
+    private static final ThreadLocal<AtomicLong> STATEMENTS = ThreadLocal.withInitial(AtomicLong::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().incrementAndGet();
+        return sql;
+    }
+
+    public static long current() {
+        return STATEMENTS.get().get();
+    }
+
+    /**
+     * Makes the current thread count into {@code counter} and returns the counter it used before,
+     * so a request can keep counting while its work hops between threads.
+     */
+    public static AtomicLong bind(AtomicLong counter) {
+        AtomicLong previous = STATEMENTS.get();
+        STATEMENTS.set(counter);
+        return previous;
+    }
+
+    public static Runnable propagate(Runnable task) {
+        AtomicLong counter = STATEMENTS.get();
+        return () -> {
+            AtomicLong previous = bind(counter);
+            try {
+                task.run();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+}
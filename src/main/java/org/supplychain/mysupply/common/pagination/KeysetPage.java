@@ -0,0 +1,39 @@
+package org.supplychain.mysupply.common.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor
+public class KeysetPage<T> {
+
+    public static final int MAX_SIZE = 1000;
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    public static Limit fetchLimit(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SIZE);
+        }
+        return Limit.of(size + 1);
+    }
+
+    public static <T> KeysetPage<T> of(List<T> rows, int size, Function<T, SeekCursor> cursorOf) {
+        if (rows.size() <= size) {
+            return new KeysetPage<>(rows, null, false);
+        }
+
+        List<T> content = rows.subList(0, size);
+        return new KeysetPage<>(content, cursorOf.apply(content.get(size - 1)).encode(), true);
+    }
+
+    public <R> KeysetPage<R> map(Function<T, R> mapper) {
+        return new KeysetPage<>(content.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
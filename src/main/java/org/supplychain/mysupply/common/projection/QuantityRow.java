@@ -0,0 +1,12 @@
+package org.supplychain.mysupply.common.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class QuantityRow {
+
+    private Long id;
+    private Long quantity;
+}
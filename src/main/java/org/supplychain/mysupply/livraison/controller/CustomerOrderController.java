@@ -4,20 +4,32 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.bulk.NdjsonReader;
+import org.supplychain.mysupply.common.export.ExportFormat;
+import org.supplychain.mysupply.common.metrics.SqlBudget;
+import org.supplychain.mysupply.common.pagination.KeysetPage;
 import org.supplychain.mysupply.livraison.dto.OrderDTO;
 import org.supplychain.mysupply.livraison.dto.OrderResponseDTO;
 import org.supplychain.mysupply.livraison.enums.CustomerOrderStatus;
 import org.supplychain.mysupply.livraison.service.CustomerOrderService;
 
+import java.io.InputStream;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/customer-orders")
 @RequiredArgsConstructor
 public class CustomerOrderController {
 
     private final CustomerOrderService customerOrderService;
+    private final NdjsonReader ndjsonReader;
 
     @PostMapping
     public ResponseEntity<OrderResponseDTO> createOrder(@Valid @RequestBody OrderDTO orderDTO) {
@@ -25,18 +37,44 @@ public class CustomerOrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
     }
 
+    @SqlBudget(SqlBudget.UNLIMITED)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportReport> importOrders(@RequestBody List<OrderDTO> orderDTOs) {
+        BulkImportReport report = customerOrderService.importOrders(orderDTOs);
+        return ResponseEntity.ok(report);
+    }
+
+    @SqlBudget(SqlBudget.UNLIMITED)
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<BulkImportReport> importOrdersNdjson(InputStream body) {
+        BulkImportReport report = ndjsonReader.importChunks(body, OrderDTO.class, customerOrderService::importOrders);
+        return ResponseEntity.ok(report);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = outputStream -> customerOrderService.exportOrders(format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=customer-orders." + format.getFileExtension())
+                .body(body);
+    }
+
+    @SqlBudget(10)
     @GetMapping("/{id}")
     public ResponseEntity<OrderResponseDTO> getOrderById(@PathVariable Long id) {
         OrderResponseDTO order = customerOrderService.getOrderById(id);
         return ResponseEntity.ok(order);
     }
 
+    @SqlBudget(15)
     @GetMapping
     public ResponseEntity<Page<OrderResponseDTO>> getAllOrders(Pageable pageable) {
         Page<OrderResponseDTO> orders = customerOrderService.getAllOrders(pageable);
         return ResponseEntity.ok(orders);
     }
 
+    @SqlBudget(15)
     @GetMapping("/status/{status}")
     public ResponseEntity<Page<OrderResponseDTO>> getOrdersByStatus(
             @PathVariable CustomerOrderStatus status,
@@ -45,6 +83,17 @@ public class CustomerOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @SqlBudget(15)
+    @GetMapping("/status/{status}/seek")
+    public ResponseEntity<KeysetPage<OrderResponseDTO>> seekOrdersByStatus(
+            @PathVariable CustomerOrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        KeysetPage<OrderResponseDTO> orders = customerOrderService.seekOrdersByStatus(status, cursor, size);
+        return ResponseEntity.ok(orders);
+    }
+
+    @SqlBudget(15)
     @GetMapping("/customer/{customerId}")
     public ResponseEntity<Page<OrderResponseDTO>> getOrdersByCustomer(
             @PathVariable Long customerId,
@@ -53,6 +102,7 @@ public class CustomerOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @SqlBudget(15)
     @GetMapping("/without-delivery")
     public ResponseEntity<Page<OrderResponseDTO>> getOrdersWithoutDelivery(Pageable pageable) {
         Page<OrderResponseDTO> orders = customerOrderService.getOrdersWithoutDelivery(pageable);
@@ -5,11 +5,21 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.export.ExportFormat;
+import org.supplychain.mysupply.common.metrics.SqlBudget;
+import org.supplychain.mysupply.common.pagination.KeysetPage;
+import org.supplychain.mysupply.livraison.dto.BulkDeliveryRequestDTO;
 import org.supplychain.mysupply.livraison.dto.DeliveryDTO;
 import org.supplychain.mysupply.livraison.dto.DeliveryResponseDTO;
+import org.supplychain.mysupply.livraison.dto.DispatchPlanDTO;
+import org.supplychain.mysupply.livraison.dto.DispatchRequestDTO;
 import org.supplychain.mysupply.livraison.enums.DeliveryStatus;
 import org.supplychain.mysupply.livraison.service.DeliveryService;
 
@@ -28,18 +38,37 @@ public class DeliveryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdDelivery);
     }
 
+    @SqlBudget(SqlBudget.UNLIMITED)
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkImportReport> createPendingDeliveries(@Valid @RequestBody BulkDeliveryRequestDTO request) {
+        BulkImportReport report = deliveryService.createPendingDeliveries(request);
+        return ResponseEntity.ok(report);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportDeliveries(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        StreamingResponseBody body = outputStream -> deliveryService.exportDeliveries(format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=deliveries." + format.getFileExtension())
+                .body(body);
+    }
+
+    @SqlBudget(10)
     @GetMapping("/{id}")
     public ResponseEntity<DeliveryResponseDTO> getDeliveryById(@PathVariable Long id) {
         DeliveryResponseDTO delivery = deliveryService.getDeliveryById(id);
         return ResponseEntity.ok(delivery);
     }
 
+    @SqlBudget(15)
     @GetMapping
     public ResponseEntity<Page<DeliveryResponseDTO>> getAllDeliveries(Pageable pageable) {
         Page<DeliveryResponseDTO> deliveries = deliveryService.getAllDeliveries(pageable);
         return ResponseEntity.ok(deliveries);
     }
 
+    @SqlBudget(15)
     @GetMapping("/status/{status}")
     public ResponseEntity<Page<DeliveryResponseDTO>> getDeliveriesByStatus(
             @PathVariable DeliveryStatus status,
@@ -48,6 +77,17 @@ public class DeliveryController {
         return ResponseEntity.ok(deliveries);
     }
 
+    @SqlBudget(15)
+    @GetMapping("/status/{status}/seek")
+    public ResponseEntity<KeysetPage<DeliveryResponseDTO>> seekDeliveriesByStatus(
+            @PathVariable DeliveryStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        KeysetPage<DeliveryResponseDTO> deliveries = deliveryService.seekDeliveriesByStatus(status, cursor, size);
+        return ResponseEntity.ok(deliveries);
+    }
+
+    @SqlBudget(15)
     @GetMapping("/driver/{driver}")
     public ResponseEntity<Page<DeliveryResponseDTO>> getDeliveriesByDriver(
             @PathVariable String driver,
@@ -56,6 +96,7 @@ public class DeliveryController {
         return ResponseEntity.ok(deliveries);
     }
 
+    @SqlBudget(15)
     @GetMapping("/scheduled-date/{date}")
     public ResponseEntity<Page<DeliveryResponseDTO>> getDeliveriesByScheduledDate(
             @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
@@ -64,6 +105,7 @@ public class DeliveryController {
         return ResponseEntity.ok(deliveries);
     }
 
+    @SqlBudget(10)
     @GetMapping("/tracking/{trackingNumber}")
     public ResponseEntity<DeliveryResponseDTO> getDeliveryByTrackingNumber(@PathVariable String trackingNumber) {
         DeliveryResponseDTO delivery = deliveryService.getDeliveryByTrackingNumber(trackingNumber);
@@ -98,6 +140,13 @@ public class DeliveryController {
         return ResponseEntity.ok(updatedDelivery);
     }
 
+    @SqlBudget(SqlBudget.UNLIMITED)
+    @PostMapping("/dispatch")
+    public ResponseEntity<DispatchPlanDTO> dispatchDeliveries(@Valid @RequestBody DispatchRequestDTO dispatchRequest) {
+        DispatchPlanDTO plan = deliveryService.dispatchDeliveries(dispatchRequest);
+        return ResponseEntity.ok(plan);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteDelivery(@PathVariable Long id) {
         deliveryService.deleteDelivery(id);
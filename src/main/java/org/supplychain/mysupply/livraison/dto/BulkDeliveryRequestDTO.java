@@ -0,0 +1,26 @@
+package org.supplychain.mysupply.livraison.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkDeliveryRequestDTO {
+
+    private LocalDate scheduledDate;
+
+    @DecimalMin(value = "0.0", message = "Delivery cost cannot be negative")
+    private BigDecimal deliveryCost;
+
+    @Min(value = 1, message = "Max orders must be at least 1")
+    private Integer maxOrders;
+
+    private boolean dryRun;
+}
@@ -0,0 +1,20 @@
+package org.supplychain.mysupply.livraison.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DispatchPlanDTO {
+
+    private LocalDate scheduledDate;
+    private Integer assignedDeliveries;
+    private Double totalDistanceKm;
+    private List<DispatchRouteDTO> routes;
+    private List<Long> unassignedDeliveryIds;
+}
@@ -0,0 +1,23 @@
+package org.supplychain.mysupply.livraison.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DispatchRequestDTO {
+
+    @NotNull(message = "Scheduled date is required")
+    private LocalDate scheduledDate;
+
+    @NotEmpty(message = "At least one vehicle is required")
+    private List<@Valid @NotNull(message = "Vehicle is required") DispatchVehicleDTO> vehicles;
+}
@@ -0,0 +1,19 @@
+package org.supplychain.mysupply.livraison.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DispatchRouteDTO {
+
+    private String driver;
+    private String vehicle;
+    private Integer capacity;
+    private Double distanceKm;
+    private List<DispatchStopDTO> stops;
+}
@@ -0,0 +1,18 @@
+package org.supplychain.mysupply.livraison.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DispatchStopDTO {
+
+    private Integer sequence;
+    private Long idDelivery;
+    private String trackingNumber;
+    private String deliveryAddress;
+    private String city;
+    private String postalCode;
+}
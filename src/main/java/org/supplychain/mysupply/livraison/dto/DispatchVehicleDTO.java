@@ -0,0 +1,24 @@
+package org.supplychain.mysupply.livraison.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DispatchVehicleDTO {
+
+    @NotBlank(message = "Driver is required")
+    private String driver;
+
+    @NotBlank(message = "Vehicle is required")
+    private String vehicle;
+
+    @NotNull(message = "Capacity is required")
+    @Min(value = 1, message = "Capacity must be at least 1 stop")
+    private Integer capacity;
+}
@@ -28,7 +28,7 @@ public class OrderDTO {
     private String notes;
 
     @Valid
-    private List<OrderLineDTO> orderLines;
+    private List<@NotNull(message = "Order line is required") OrderLineDTO> orderLines;
 
 
 }
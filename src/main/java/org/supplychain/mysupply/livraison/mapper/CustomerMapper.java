@@ -6,6 +6,7 @@ import org.mapstruct.MappingTarget;
 import org.supplychain.mysupply.livraison.dto.CustomerDTO;
 import org.supplychain.mysupply.livraison.dto.CustomerResponseDTO;
 import org.supplychain.mysupply.livraison.model.Customer;
+import org.supplychain.mysupply.livraison.repository.projection.CustomerRow;
 
 @Mapper(componentModel = "spring")
 public interface CustomerMapper {
@@ -13,6 +14,9 @@ public interface CustomerMapper {
     @Mapping(target = "totalOrders", expression = "java(customer.getCustomerOrders().size())")
     CustomerResponseDTO toResponseDTO(Customer customer);
 
+    @Mapping(target = "totalOrders", expression = "java(row.getTotalOrders().intValue())")
+    CustomerResponseDTO toResponseDTO(CustomerRow row);
+
     @Mapping(target = "customerOrders", ignore = true)
     Customer toEntity(CustomerDTO customerDTO);
 
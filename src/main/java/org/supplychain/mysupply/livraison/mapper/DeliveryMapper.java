@@ -8,6 +8,7 @@ import org.supplychain.mysupply.livraison.dto.DeliveryResponseDTO;
 import org.supplychain.mysupply.livraison.dto.OrderSummaryDTO;
 import org.supplychain.mysupply.livraison.model.CustomerOrder;
 import org.supplychain.mysupply.livraison.model.Delivery;
+import org.supplychain.mysupply.livraison.repository.projection.DeliveryRow;
 
 @Mapper(componentModel = "spring", uses = {CustomerMapper.class})
 public interface DeliveryMapper {
@@ -15,6 +16,22 @@ public interface DeliveryMapper {
     @Mapping(target = "order", source = "customerOrder")
     DeliveryResponseDTO toResponseDTO(Delivery delivery);
 
+    @Mapping(target = "order.idOrder", source = "orderId")
+    @Mapping(target = "order.orderNumber", source = "orderNumber")
+    @Mapping(target = "order.orderDate", source = "orderDate")
+    @Mapping(target = "order.totalAmount", source = "orderTotalAmount")
+    @Mapping(target = "order.status", source = "orderStatus")
+    @Mapping(target = "order.notes", source = "orderNotes")
+    @Mapping(target = "order.customer.idCustomer", source = "customerId")
+    @Mapping(target = "order.customer.name", source = "customerName")
+    @Mapping(target = "order.customer.email", source = "customerEmail")
+    @Mapping(target = "order.customer.phone", source = "customerPhone")
+    @Mapping(target = "order.customer.address", source = "customerAddress")
+    @Mapping(target = "order.customer.city", source = "customerCity")
+    @Mapping(target = "order.customer.postalCode", source = "customerPostalCode")
+    @Mapping(target = "order.customer.totalOrders", source = "customerTotalOrders")
+    DeliveryResponseDTO toResponseDTO(DeliveryRow row);
+
     @Mapping(target = "customerOrder", ignore = true)
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "actualDeliveryDate", ignore = true)
@@ -15,7 +15,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "customer_orders")
+@Table(name = "customer_orders",
+        indexes = @Index(name = "idx_customer_orders_status_date_id", columnList = "status, order_date, id_order"))
 @Data
 @EqualsAndHashCode(callSuper = true, exclude = {"customer", "orderLines", "delivery"})
 @ToString(exclude = {"customer", "orderLines", "delivery"})
@@ -24,7 +25,8 @@ import java.util.List;
 public class CustomerOrder extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_orders_seq")
+    @SequenceGenerator(name = "customer_orders_seq", sequenceName = "customer_orders_seq", allocationSize = 50)
     private Long idOrder;
 
     @Column(nullable = false, unique = true)
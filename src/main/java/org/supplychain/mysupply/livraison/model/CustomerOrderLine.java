@@ -21,7 +21,8 @@ import java.math.BigDecimal;
 public class CustomerOrderLine extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "customer_order_lines_seq")
+    @SequenceGenerator(name = "customer_order_lines_seq", sequenceName = "customer_order_lines_seq", allocationSize = 50)
     private Long idOrderLine;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -13,7 +13,11 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "deliveries")
+@Table(name = "deliveries",
+        indexes = {
+                @Index(name = "idx_deliveries_status_date_id", columnList = "status, scheduled_date, id_delivery"),
+                @Index(name = "idx_deliveries_tracking_number", columnList = "tracking_number", unique = true)
+        })
 @Data
 @EqualsAndHashCode(callSuper = true, exclude = {"customerOrder"})
 @ToString(exclude = {"customerOrder"})
@@ -22,7 +26,8 @@ import java.time.LocalDate;
 public class Delivery extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "deliveries_seq")
+    @SequenceGenerator(name = "deliveries_seq", sequenceName = "deliveries_seq", allocationSize = 50)
     private Long idDelivery;
 
     @OneToOne(fetch = FetchType.LAZY)
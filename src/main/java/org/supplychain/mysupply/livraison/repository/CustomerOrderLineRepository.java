@@ -1,9 +1,20 @@
 package org.supplychain.mysupply.livraison.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.supplychain.mysupply.common.projection.QuantityRow;
+import org.supplychain.mysupply.livraison.enums.CustomerOrderStatus;
 import org.supplychain.mysupply.livraison.model.CustomerOrderLine;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface CustomerOrderLineRepository extends JpaRepository<CustomerOrderLine, Long> {
-}
\ No newline at end of file
+
+    @Query("SELECT new org.supplychain.mysupply.common.projection.QuantityRow(l.product.idProduct, SUM(l.quantity)) " +
+            "FROM CustomerOrderLine l WHERE l.customerOrder.status IN :statuses GROUP BY l.product.idProduct")
+    List<QuantityRow> sumQuantityByProduct(@Param("statuses") Collection<CustomerOrderStatus> statuses);
+}
@@ -1,27 +1,82 @@
 package org.supplychain.mysupply.livraison.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.supplychain.mysupply.common.export.ExportWriter;
 import org.supplychain.mysupply.livraison.enums.CustomerOrderStatus;
 import org.supplychain.mysupply.livraison.model.CustomerOrder;
+import org.supplychain.mysupply.livraison.repository.projection.CustomerOrderExportRow;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CustomerOrderRepository extends JpaRepository<CustomerOrder, Long> {
 
     boolean existsByOrderNumber(String orderNumber);
 
+    @Query("SELECT co.orderNumber FROM CustomerOrder co WHERE co.orderNumber IN :orderNumbers")
+    List<String> findExistingOrderNumbers(@Param("orderNumbers") Collection<String> orderNumbers);
+
+    @Override
+    @EntityGraph(attributePaths = {"customer", "delivery"})
+    Page<CustomerOrder> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"customer", "delivery"})
     Page<CustomerOrder> findByStatus(CustomerOrderStatus status, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"customer", "delivery"})
     @Query("SELECT co FROM CustomerOrder co WHERE co.customer.idCustomer = :customerId")
     Page<CustomerOrder> findByCustomer(@Param("customerId") Long customerId, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"customer", "delivery"})
     @Query("SELECT co FROM CustomerOrder co WHERE co.orderNumber ILIKE %:searchTerm%")
     Page<CustomerOrder> findByOrderNumberContaining(@Param("searchTerm") String searchTerm, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"customer", "delivery"})
     @Query("SELECT co FROM CustomerOrder co WHERE co.delivery IS NULL")
     Page<CustomerOrder> findOrdersWithoutDelivery(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"customer", "delivery"})
+    @Query("SELECT co FROM CustomerOrder co WHERE co.status = :status AND co.delivery IS NULL " +
+            "ORDER BY co.orderDate, co.idOrder")
+    List<CustomerOrder> findShippableOrders(@Param("status") CustomerOrderStatus status, Limit limit);
+
+    @EntityGraph(attributePaths = {"customer", "delivery"})
+    @Query("SELECT co FROM CustomerOrder co WHERE co.status = :status ORDER BY co.orderDate, co.idOrder")
+    List<CustomerOrder> seekByStatus(@Param("status") CustomerOrderStatus status, Limit limit);
+
+    @EntityGraph(attributePaths = {"customer", "delivery"})
+    @Query("SELECT co FROM CustomerOrder co WHERE co.status = :status " +
+            "AND (co.orderDate > :orderDate OR (co.orderDate = :orderDate AND co.idOrder > :idOrder)) " +
+            "ORDER BY co.orderDate, co.idOrder")
+    List<CustomerOrder> seekByStatusAfter(@Param("status") CustomerOrderStatus status,
+                                          @Param("orderDate") LocalDate orderDate,
+                                          @Param("idOrder") Long idOrder,
+                                          Limit limit);
+
+    @Query("SELECT DISTINCT co FROM CustomerOrder co " +
+            "LEFT JOIN FETCH co.orderLines ol " +
+            "LEFT JOIN FETCH ol.product " +
+            "WHERE co.idOrder IN :orderIds")
+    List<CustomerOrder> fetchOrderLines(@Param("orderIds") Collection<Long> orderIds);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE))
+    @Query("SELECT new org.supplychain.mysupply.livraison.repository.projection.CustomerOrderExportRow(" +
+            "co.idOrder, co.orderNumber, co.orderDate, co.status, co.totalAmount, c.idCustomer, c.name, " +
+            "ol.idOrderLine, p.idProduct, p.name, ol.quantity, ol.unitPrice, ol.totalPrice) " +
+            "FROM CustomerOrder co JOIN co.customer c LEFT JOIN co.orderLines ol LEFT JOIN ol.product p " +
+            "ORDER BY co.idOrder, ol.idOrderLine")
+    Stream<CustomerOrderExportRow> streamExportRows();
 }
\ No newline at end of file
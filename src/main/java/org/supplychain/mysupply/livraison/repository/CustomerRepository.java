@@ -7,12 +7,18 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.supplychain.mysupply.livraison.model.Customer;
+import org.supplychain.mysupply.livraison.repository.projection.CustomerRow;
 
 import java.util.Optional;
 
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
+    String CUSTOMER_ROW = "SELECT new org.supplychain.mysupply.livraison.repository.projection.CustomerRow(" +
+            "c.idCustomer, c.name, c.email, c.phone, c.address, c.city, c.postalCode, " +
+            "(SELECT COUNT(co) FROM CustomerOrder co WHERE co.customer = c)) " +
+            "FROM Customer c";
+
     Optional<Customer> findByEmail(String email);
 
     boolean existsByEmail(String email);
@@ -22,6 +28,13 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
     @Query("SELECT c FROM Customer c WHERE c.name ILIKE %:searchTerm% OR c.email ILIKE %:searchTerm%")
     Page<Customer> findByNameOrEmailContaining(@Param("searchTerm") String searchTerm, Pageable pageable);
 
+    @Query(value = CUSTOMER_ROW, countQuery = "SELECT COUNT(c) FROM Customer c")
+    Page<CustomerRow> findAllRows(Pageable pageable);
+
+    @Query(value = CUSTOMER_ROW + " WHERE c.name ILIKE %:searchTerm% OR c.email ILIKE %:searchTerm%",
+            countQuery = "SELECT COUNT(c) FROM Customer c WHERE c.name ILIKE %:searchTerm% OR c.email ILIKE %:searchTerm%")
+    Page<CustomerRow> findRowsByNameOrEmailContaining(@Param("searchTerm") String searchTerm, Pageable pageable);
+
     @Query("SELECT COUNT(co) FROM CustomerOrder co WHERE co.customer.idCustomer = :customerId AND co.status != 'LIVREE'")
     long countActiveOrdersByCustomerId(@Param("customerId") Long customerId);
 }
\ No newline at end of file
@@ -1,17 +1,38 @@
 package org.supplychain.mysupply.livraison.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.supplychain.mysupply.common.export.ExportWriter;
 import org.supplychain.mysupply.livraison.enums.DeliveryStatus;
 import org.supplychain.mysupply.livraison.model.Delivery;
+import org.supplychain.mysupply.livraison.repository.projection.DeliveryRow;
+import org.supplychain.mysupply.livraison.repository.projection.DispatchStopRow;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
 
+    String DELIVERY_ROW = "SELECT new org.supplychain.mysupply.livraison.repository.projection.DeliveryRow(" +
+            "d.idDelivery, d.deliveryAddress, d.city, d.driver, d.vehicle, d.status, d.scheduledDate, " +
+            "d.actualDeliveryDate, d.deliveryCost, d.trackingNumber, d.notes, " +
+            "co.idOrder, co.orderNumber, co.orderDate, co.totalAmount, co.status, co.notes, " +
+            "c.idCustomer, c.name, c.email, c.phone, c.address, c.city, c.postalCode, " +
+            "(SELECT COUNT(o) FROM CustomerOrder o WHERE o.customer = c)) " +
+            "FROM Delivery d JOIN d.customerOrder co JOIN co.customer c";
+
     Page<Delivery> findByStatus(DeliveryStatus status, Pageable pageable);
 
     Page<Delivery> findByDriver(String driver, Pageable pageable);
@@ -19,6 +40,59 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
     @Query("SELECT d FROM Delivery d WHERE d.scheduledDate = :date")
     Page<Delivery> findByScheduledDate(@Param("date") java.time.LocalDate date, Pageable pageable);
 
-    @Query("SELECT d FROM Delivery d WHERE d.trackingNumber = :trackingNumber")
-    Delivery findByTrackingNumber(@Param("trackingNumber") String trackingNumber);
-}
\ No newline at end of file
+    @Query(value = DELIVERY_ROW, countQuery = "SELECT COUNT(d) FROM Delivery d")
+    Page<DeliveryRow> findAllRows(Pageable pageable);
+
+    @Query(value = DELIVERY_ROW + " WHERE d.status = :status",
+            countQuery = "SELECT COUNT(d) FROM Delivery d WHERE d.status = :status")
+    Page<DeliveryRow> findRowsByStatus(@Param("status") DeliveryStatus status, Pageable pageable);
+
+    @Query(value = DELIVERY_ROW + " WHERE d.driver = :driver",
+            countQuery = "SELECT COUNT(d) FROM Delivery d WHERE d.driver = :driver")
+    Page<DeliveryRow> findRowsByDriver(@Param("driver") String driver, Pageable pageable);
+
+    @Query(value = DELIVERY_ROW + " WHERE d.scheduledDate = :date",
+            countQuery = "SELECT COUNT(d) FROM Delivery d WHERE d.scheduledDate = :date")
+    Page<DeliveryRow> findRowsByScheduledDate(@Param("date") java.time.LocalDate date, Pageable pageable);
+
+    @Query(DELIVERY_ROW + " WHERE d.status = :status " +
+            "ORDER BY d.scheduledDate ASC NULLS LAST, d.idDelivery")
+    List<DeliveryRow> seekRowsByStatus(@Param("status") DeliveryStatus status, Limit limit);
+
+    @Query(DELIVERY_ROW + " WHERE d.status = :status " +
+            "AND (d.scheduledDate > :scheduledDate OR (d.scheduledDate = :scheduledDate AND d.idDelivery > :idDelivery) " +
+            "OR d.scheduledDate IS NULL) " +
+            "ORDER BY d.scheduledDate ASC NULLS LAST, d.idDelivery")
+    List<DeliveryRow> seekRowsByStatusAfter(@Param("status") DeliveryStatus status,
+                                            @Param("scheduledDate") java.time.LocalDate scheduledDate,
+                                            @Param("idDelivery") Long idDelivery,
+                                            Limit limit);
+
+    @Query(DELIVERY_ROW + " WHERE d.status = :status AND d.scheduledDate IS NULL AND d.idDelivery > :idDelivery " +
+            "ORDER BY d.idDelivery")
+    List<DeliveryRow> seekUnscheduledRowsByStatusAfter(@Param("status") DeliveryStatus status,
+                                                       @Param("idDelivery") Long idDelivery,
+                                                       Limit limit);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = ExportWriter.FETCH_SIZE))
+    @Query(DELIVERY_ROW + " ORDER BY d.idDelivery")
+    Stream<DeliveryRow> streamRows();
+
+    @Query(DELIVERY_ROW + " WHERE d.trackingNumber = :trackingNumber")
+    Optional<DeliveryRow> findRowByTrackingNumber(@Param("trackingNumber") String trackingNumber);
+
+    @Query("SELECT new org.supplychain.mysupply.livraison.repository.projection.DispatchStopRow(" +
+            "d.idDelivery, d.trackingNumber, d.deliveryAddress, d.city, " +
+            "CASE WHEN LOWER(d.city) = LOWER(c.city) THEN c.postalCode END) " +
+            "FROM Delivery d JOIN d.customerOrder co JOIN co.customer c " +
+            "WHERE d.status = :status AND d.scheduledDate = :date ORDER BY d.idDelivery")
+    List<DispatchStopRow> findDispatchStops(@Param("date") java.time.LocalDate date, @Param("status") DeliveryStatus status);
+
+    @Modifying
+    @Query("UPDATE Delivery d SET d.driver = :driver, d.vehicle = :vehicle " +
+            "WHERE d.idDelivery IN :deliveryIds AND d.status = :status")
+    int assignRoute(@Param("deliveryIds") Collection<Long> deliveryIds,
+                    @Param("driver") String driver,
+                    @Param("vehicle") String vehicle,
+                    @Param("status") DeliveryStatus status);
+}
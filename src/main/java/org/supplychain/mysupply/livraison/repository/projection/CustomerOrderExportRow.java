@@ -0,0 +1,27 @@
+package org.supplychain.mysupply.livraison.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.supplychain.mysupply.livraison.enums.CustomerOrderStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class CustomerOrderExportRow {
+
+    private Long idOrder;
+    private String orderNumber;
+    private LocalDate orderDate;
+    private CustomerOrderStatus status;
+    private BigDecimal totalAmount;
+    private Long customerId;
+    private String customerName;
+    private Long idOrderLine;
+    private Long productId;
+    private String productName;
+    private Integer quantity;
+    private BigDecimal unitPrice;
+    private BigDecimal totalPrice;
+}
@@ -0,0 +1,18 @@
+package org.supplychain.mysupply.livraison.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CustomerRow {
+
+    private Long idCustomer;
+    private String name;
+    private String email;
+    private String phone;
+    private String address;
+    private String city;
+    private String postalCode;
+    private Long totalOrders;
+}
@@ -0,0 +1,42 @@
+package org.supplychain.mysupply.livraison.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.supplychain.mysupply.livraison.enums.CustomerOrderStatus;
+import org.supplychain.mysupply.livraison.enums.DeliveryStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class DeliveryRow {
+
+    private Long idDelivery;
+    private String deliveryAddress;
+    private String city;
+    private String driver;
+    private String vehicle;
+    private DeliveryStatus status;
+    private LocalDate scheduledDate;
+    private LocalDate actualDeliveryDate;
+    private BigDecimal deliveryCost;
+    private String trackingNumber;
+    private String notes;
+
+    private Long orderId;
+    private String orderNumber;
+    private LocalDate orderDate;
+    private BigDecimal orderTotalAmount;
+    private CustomerOrderStatus orderStatus;
+    private String orderNotes;
+
+    private Long customerId;
+    private String customerName;
+    private String customerEmail;
+    private String customerPhone;
+    private String customerAddress;
+    private String customerCity;
+    private String customerPostalCode;
+    private Long customerTotalOrders;
+}
@@ -0,0 +1,15 @@
+package org.supplychain.mysupply.livraison.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class DispatchStopRow {
+
+    private Long idDelivery;
+    private String trackingNumber;
+    private String deliveryAddress;
+    private String city;
+    private String postalCode;
+}
@@ -1,6 +1,10 @@
 package org.supplychain.mysupply.livraison.service;
 
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -10,8 +14,14 @@ import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderLineDTO;
 import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
 import org.supplychain.mysupply.approvisionnement.model.Supplier;
 import org.supplychain.mysupply.approvisionnement.service.SupplyOrderService;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.bulk.BulkRowResult;
 import org.supplychain.mysupply.common.exception.ResourceNotFoundException;
 import org.supplychain.mysupply.common.exception.UnauthorizedException;
+import org.supplychain.mysupply.common.export.ExportFormat;
+import org.supplychain.mysupply.common.export.ExportWriter;
+import org.supplychain.mysupply.common.pagination.KeysetPage;
+import org.supplychain.mysupply.common.pagination.SeekCursor;
 import org.supplychain.mysupply.livraison.dto.OrderDTO;
 import org.supplychain.mysupply.livraison.dto.OrderLineDTO;
 import org.supplychain.mysupply.livraison.dto.OrderResponseDTO;
@@ -24,6 +34,7 @@ import org.supplychain.mysupply.livraison.model.CustomerOrder;
 import org.supplychain.mysupply.livraison.model.CustomerOrderLine;
 import org.supplychain.mysupply.livraison.repository.CustomerRepository;
 import org.supplychain.mysupply.livraison.repository.CustomerOrderRepository;
+import org.supplychain.mysupply.livraison.repository.projection.CustomerOrderExportRow;
 import org.supplychain.mysupply.livraison.service.interf.ICustomerOrderService;
 import org.supplychain.mysupply.production.dto.ProductionOrderDTO;
 import org.supplychain.mysupply.production.enums.Priority;
@@ -34,26 +45,49 @@ import org.supplychain.mysupply.production.repository.ProductRepository;
 import org.supplychain.mysupply.production.service.ProductionOrderService;
 import org.supplychain.mysupply.production.service.interf.IProductionOrderService;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CustomerOrderService implements ICustomerOrderService {
 
+    private static final int IMPORT_BATCH_SIZE = 50;
+
+    private static final String[] EXPORT_COLUMNS = {
+            "idOrder", "orderNumber", "orderDate", "status", "totalAmount", "customerId", "customerName",
+            "idOrderLine", "productId", "productName", "quantity", "unitPrice", "totalPrice"
+    };
+
     private final CustomerOrderRepository customerOrderRepository;
     private final CustomerRepository customerRepository;
     private final ProductRepository productRepository;
     private final CustomerOrderMapper customerOrderMapper;
     private final CustomerOrderLineMapper customerOrderLineMapper;
     private final DeliveryMapper deliveryMapper;
+    private final TrackingLookupCache trackingLookupCache;
     private final IProductionOrderService productionOrderService;
     private final SupplyOrderService supplyOrderService;
+    private final Validator validator;
+    private final EntityManager entityManager;
 
     @Override
     public OrderResponseDTO createOrder(OrderDTO orderDTO) {
@@ -64,9 +98,138 @@ public class CustomerOrderService implements ICustomerOrderService {
         Customer customer = customerRepository.findById(orderDTO.getCustomerId())
                 .orElseThrow(() -> new ResourceNotFoundException("Customer not found with id: " + orderDTO.getCustomerId()));
 
-        validateProductAvailability(orderDTO.getOrderLines());
+        Map<Long, Integer> quantities = requestedQuantities(orderDTO.getOrderLines());
+        consumeProductStock(quantities);
+        Map<Long, Product> products = loadProducts(quantities.keySet());
+
+        CustomerOrder savedOrder = customerOrderRepository.save(buildOrder(orderDTO, customer, products));
+        return mapToResponseDTO(savedOrder);
+    }
+
+    @Override
+    public BulkImportReport importOrders(List<OrderDTO> orderDTOs) {
+        Set<String> takenOrderNumbers = new HashSet<>(customerOrderRepository.findExistingOrderNumbers(orderDTOs.stream()
+                .filter(Objects::nonNull)
+                .map(OrderDTO::getOrderNumber)
+                .filter(Objects::nonNull)
+                .toList()));
+        Map<Long, Customer> customers = customerRepository.findAllById(orderDTOs.stream()
+                        .filter(Objects::nonNull)
+                        .map(OrderDTO::getCustomerId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Customer::getIdCustomer, Function.identity()));
+        // Locked so the stock snapshot below cannot be changed by concurrent orders before it is consumed
+        Map<Long, Product> products = productRepository.findAllByIdForUpdate(orderDTOs.stream()
+                        .filter(orderDTO -> orderDTO != null && orderDTO.getOrderLines() != null)
+                        .flatMap(orderDTO -> orderDTO.getOrderLines().stream())
+                        .filter(Objects::nonNull)
+                        .map(OrderLineDTO::getProductId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Product::getIdProduct, Function.identity()));
+
+        Map<Long, Integer> availableStock = new HashMap<>();
+        products.values().forEach(product -> availableStock.put(product.getIdProduct(), product.getStock()));
+        Map<Long, Integer> consumedStock = new LinkedHashMap<>();
+
+        BulkRowResult[] results = new BulkRowResult[orderDTOs.size()];
+        Map<Integer, CustomerOrder> acceptedOrders = new LinkedHashMap<>();
+
+        for (int index = 0; index < orderDTOs.size(); index++) {
+            OrderDTO orderDTO = orderDTOs.get(index);
+            if (orderDTO == null) {
+                results[index] = BulkRowResult.rejected(index, null, List.of("Order is required"));
+                continue;
+            }
+            List<String> errors = validateImportedOrder(orderDTO, takenOrderNumbers, customers, products, availableStock);
+
+            CustomerOrder customerOrder = null;
+            if (errors.isEmpty()) {
+                try {
+                    customerOrder = buildOrder(orderDTO, customers.get(orderDTO.getCustomerId()), products);
+                } catch (DateTimeParseException e) {
+                    errors.add("Invalid order date: " + orderDTO.getOrderDate());
+                }
+            }
+
+            if (!errors.isEmpty()) {
+                results[index] = BulkRowResult.rejected(index, orderDTO.getOrderNumber(), errors);
+                continue;
+            }
+
+            requestedQuantities(orderDTO.getOrderLines()).forEach((productId, quantity) -> {
+                availableStock.merge(productId, -quantity, Integer::sum);
+                consumedStock.merge(productId, quantity, Integer::sum);
+            });
+            takenOrderNumbers.add(orderDTO.getOrderNumber());
+            acceptedOrders.put(index, customerOrder);
+        }
+
+        consumeProductStock(consumedStock);
+
+        List<CustomerOrder> batch = new ArrayList<>();
+        for (CustomerOrder customerOrder : acceptedOrders.values()) {
+            batch.add(customerOrder);
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                persistBatch(batch);
+            }
+        }
+        persistBatch(batch);
 
+        acceptedOrders.forEach((index, customerOrder) ->
+                results[index] = BulkRowResult.accepted(index, customerOrder.getOrderNumber(), customerOrder.getIdOrder()));
+        return new BulkImportReport(Arrays.asList(results));
+    }
+
+    private List<String> validateImportedOrder(OrderDTO orderDTO, Set<String> takenOrderNumbers, Map<Long, Customer> customers,
+                                               Map<Long, Product> products, Map<Long, Integer> availableStock) {
+        List<String> errors = validator.validate(orderDTO).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (!errors.isEmpty()) {
+            return errors;
+        }
+
+        if (orderDTO.getOrderLines() == null || orderDTO.getOrderLines().isEmpty()) {
+            errors.add("Order must contain at least one line");
+            return errors;
+        }
+        if (takenOrderNumbers.contains(orderDTO.getOrderNumber())) {
+            errors.add("Order number already exists: " + orderDTO.getOrderNumber());
+        }
+        if (!customers.containsKey(orderDTO.getCustomerId())) {
+            errors.add("Customer not found with id: " + orderDTO.getCustomerId());
+        }
+
+        requestedQuantities(orderDTO.getOrderLines()).forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            if (product == null) {
+                errors.add("Product not found with id: " + productId);
+            } else if (availableStock.get(productId) < quantity) {
+                errors.add(String.format("Insufficient product stock: %s (need %d, available %d)",
+                        product.getName(), quantity, availableStock.get(productId)));
+            }
+        });
+        return errors;
+    }
+
+    private void persistBatch(List<CustomerOrder> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        customerOrderRepository.saveAll(batch);
+        entityManager.flush();
+        entityManager.clear();
+        batch.clear();
+    }
+
+    private CustomerOrder buildOrder(OrderDTO orderDTO, Customer customer, Map<Long, Product> products) {
         CustomerOrder customerOrder = customerOrderMapper.toEntity(orderDTO);
+        customerOrder.setIdOrder(null);
         customerOrder.setCustomer(customer);
         customerOrder.setStatus(CustomerOrderStatus.EN_PREPARATION);
 
@@ -74,10 +237,10 @@ public class CustomerOrderService implements ICustomerOrderService {
         BigDecimal totalAmount = BigDecimal.ZERO;
 
         for (OrderLineDTO lineDTO : orderDTO.getOrderLines()) {
-            Product product = productRepository.findById(lineDTO.getProductId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + lineDTO.getProductId()));
+            Product product = products.get(lineDTO.getProductId());
 
             CustomerOrderLine orderLine = customerOrderLineMapper.toEntity(lineDTO);
+            orderLine.setIdOrderLine(null);
             orderLine.setCustomerOrder(customerOrder);
             orderLine.setProduct(product);
 
@@ -90,44 +253,61 @@ public class CustomerOrderService implements ICustomerOrderService {
 
         customerOrder.setOrderLines(orderLines);
         customerOrder.setTotalAmount(totalAmount);
+        return customerOrder;
+    }
 
-        consumeProductStock(orderLines);
-
-        CustomerOrder savedOrder = customerOrderRepository.save(customerOrder);
-        return mapToResponseDTO(savedOrder);
+    private Map<Long, Integer> requestedQuantities(List<OrderLineDTO> orderLines) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (OrderLineDTO lineDTO : orderLines) {
+            quantities.merge(lineDTO.getProductId(), lineDTO.getQuantity(), Integer::sum);
+        }
+        return quantities;
     }
 
+    private Map<Long, Product> loadProducts(Collection<Long> productIds) {
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productRepository.findAllById(productIds)) {
+            products.put(product.getIdProduct(), product);
+        }
 
+        for (Long productId : productIds) {
+            if (!products.containsKey(productId)) {
+                throw new ResourceNotFoundException("Product not found with id: " + productId);
+            }
+        }
 
+        return products;
+    }
 
-    private void validateProductAvailability(List<OrderLineDTO> orderLines) {
-        List<String> insufficientProducts = new ArrayList<>();
+    private void consumeProductStock(Map<Long, Integer> quantities) {
+        List<Long> rejectedProductIds = new ArrayList<>();
 
-        for (OrderLineDTO lineDTO : orderLines) {
-            Product product = productRepository.findById(lineDTO.getProductId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + lineDTO.getProductId()));
-
-            if (product.getStock() < lineDTO.getQuantity()) {
-                insufficientProducts.add(String.format(
-                        "%s (need %d, available %d)",
-                        product.getName(),
-                        lineDTO.getQuantity(),
-                        product.getStock()
-                ));
+        for (Map.Entry<Long, Integer> requested : quantities.entrySet()) {
+            if (!productRepository.tryDecrementStock(requested.getKey(), requested.getValue())) {
+                rejectedProductIds.add(requested.getKey());
             }
         }
 
-        if (!insufficientProducts.isEmpty()) {
-            throw new IllegalStateException("Insufficient product stock: " + String.join(", ", insufficientProducts));
+        if (!rejectedProductIds.isEmpty()) {
+            throw insufficientProductStock(rejectedProductIds, quantities);
         }
     }
 
-    private void consumeProductStock(List<CustomerOrderLine> orderLines) {
-        for (CustomerOrderLine orderLine : orderLines) {
-            Product product = orderLine.getProduct();
-            product.setStock(product.getStock() - orderLine.getQuantity());
-            productRepository.save(product);
+    private IllegalStateException insufficientProductStock(List<Long> rejectedProductIds, Map<Long, Integer> quantities) {
+        Map<Long, Product> rejectedProducts = loadProducts(rejectedProductIds);
+        List<String> insufficientProducts = new ArrayList<>();
+
+        for (Long productId : rejectedProductIds) {
+            Product product = rejectedProducts.get(productId);
+            insufficientProducts.add(String.format(
+                    "%s (need %d, available %d)",
+                    product.getName(),
+                    quantities.get(productId),
+                    product.getStock()
+            ));
         }
+
+        return new IllegalStateException("Insufficient product stock: " + String.join(", ", insufficientProducts));
     }
 
     @Override
@@ -141,29 +321,56 @@ public class CustomerOrderService implements ICustomerOrderService {
     @Override
     @Transactional(readOnly = true)
     public Page<OrderResponseDTO> getAllOrders(Pageable pageable) {
-        return customerOrderRepository.findAll(pageable)
-                .map(this::mapToResponseDTO);
+        return mapPage(customerOrderRepository.findAll(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrderResponseDTO> getOrdersByStatus(CustomerOrderStatus status, Pageable pageable) {
-        return customerOrderRepository.findByStatus(status, pageable)
-                .map(this::mapToResponseDTO);
+        return mapPage(customerOrderRepository.findByStatus(status, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrderResponseDTO> getOrdersByCustomer(Long customerId, Pageable pageable) {
-        return customerOrderRepository.findByCustomer(customerId, pageable)
-                .map(this::mapToResponseDTO);
+        return mapPage(customerOrderRepository.findByCustomer(customerId, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<OrderResponseDTO> getOrdersWithoutDelivery(Pageable pageable) {
-        return customerOrderRepository.findOrdersWithoutDelivery(pageable)
-                .map(this::mapToResponseDTO);
+        return mapPage(customerOrderRepository.findOrdersWithoutDelivery(pageable));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPage<OrderResponseDTO> seekOrdersByStatus(CustomerOrderStatus status, String cursor, int size) {
+        Limit limit = KeysetPage.fetchLimit(size);
+        List<CustomerOrder> orders;
+        if (cursor == null) {
+            orders = customerOrderRepository.seekByStatus(status, limit);
+        } else {
+            SeekCursor after = SeekCursor.decode(cursor);
+            orders = customerOrderRepository.seekByStatusAfter(status, after.getDate(), after.getId(), limit);
+        }
+
+        KeysetPage<CustomerOrder> page = KeysetPage.of(orders, size,
+                order -> new SeekCursor(order.getOrderDate(), order.getIdOrder()));
+        fetchOrderLines(page.getContent());
+        return page.map(this::mapToResponseDTO);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportOrders(ExportFormat format, OutputStream outputStream) {
+        ExportWriter writer = new ExportWriter(format, outputStream, EXPORT_COLUMNS);
+        try (Stream<CustomerOrderExportRow> rows = customerOrderRepository.streamExportRows()) {
+            rows.forEach(row -> writer.write(
+                    row.getIdOrder(), row.getOrderNumber(), row.getOrderDate(), row.getStatus(), row.getTotalAmount(),
+                    row.getCustomerId(), row.getCustomerName(), row.getIdOrderLine(), row.getProductId(),
+                    row.getProductName(), row.getQuantity(), row.getUnitPrice(), row.getTotalPrice()));
+        }
+        return writer.finish();
     }
 
     @Override
@@ -176,6 +383,9 @@ public class CustomerOrderService implements ICustomerOrderService {
         }
 
         customerOrder.setStatus(newStatus);
+        if (customerOrder.getDelivery() != null) {
+            trackingLookupCache.evict(customerOrder.getDelivery().getTrackingNumber());
+        }
         CustomerOrder updatedOrder = customerOrderRepository.save(customerOrder);
         return mapToResponseDTO(updatedOrder);
     }
@@ -194,10 +404,22 @@ public class CustomerOrderService implements ICustomerOrderService {
     }
 
     private void restoreProductStock(List<CustomerOrderLine> orderLines) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
         for (CustomerOrderLine orderLine : orderLines) {
-            Product product = orderLine.getProduct();
-            product.setStock(product.getStock() + orderLine.getQuantity());
-            productRepository.save(product);
+            quantities.merge(orderLine.getProduct().getIdProduct(), orderLine.getQuantity(), Integer::sum);
+        }
+
+        quantities.forEach(productRepository::incrementStock);
+    }
+
+    private Page<OrderResponseDTO> mapPage(Page<CustomerOrder> orders) {
+        fetchOrderLines(orders.getContent());
+        return orders.map(this::mapToResponseDTO);
+    }
+
+    private void fetchOrderLines(List<CustomerOrder> orders) {
+        if (!orders.isEmpty()) {
+            customerOrderRepository.fetchOrderLines(orders.stream().map(CustomerOrder::getIdOrder).toList());
         }
     }
 
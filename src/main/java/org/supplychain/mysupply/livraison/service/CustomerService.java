@@ -44,14 +44,14 @@ public class CustomerService implements ICustomerService {
     @Override
     @Transactional(readOnly = true)
     public Page<CustomerResponseDTO> getAllCustomers(Pageable pageable) {
-        return customerRepository.findAll(pageable)
+        return customerRepository.findAllRows(pageable)
                 .map(customerMapper::toResponseDTO);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<CustomerResponseDTO> searchCustomers(String searchTerm, Pageable pageable) {
-        return customerRepository.findByNameOrEmailContaining(searchTerm, pageable)
+        return customerRepository.findRowsByNameOrEmailContaining(searchTerm, pageable)
                 .map(customerMapper::toResponseDTO);
     }
 
@@ -1,34 +1,91 @@
 package org.supplychain.mysupply.livraison.service;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.bulk.BulkRowResult;
+import org.supplychain.mysupply.common.export.ExportFormat;
+import org.supplychain.mysupply.common.export.ExportWriter;
+import org.supplychain.mysupply.common.pagination.KeysetPage;
+import org.supplychain.mysupply.common.pagination.SeekCursor;
+import org.supplychain.mysupply.livraison.dto.BulkDeliveryRequestDTO;
 import org.supplychain.mysupply.livraison.dto.DeliveryDTO;
 import org.supplychain.mysupply.livraison.dto.DeliveryResponseDTO;
+import org.supplychain.mysupply.livraison.dto.DispatchPlanDTO;
+import org.supplychain.mysupply.livraison.dto.DispatchRequestDTO;
+import org.supplychain.mysupply.livraison.dto.DispatchRouteDTO;
+import org.supplychain.mysupply.livraison.dto.DispatchStopDTO;
+import org.supplychain.mysupply.livraison.dto.DispatchVehicleDTO;
 import org.supplychain.mysupply.livraison.dto.OrderResponseDTO;
 import org.supplychain.mysupply.livraison.enums.DeliveryStatus;
 import org.supplychain.mysupply.livraison.enums.CustomerOrderStatus;
 import org.supplychain.mysupply.livraison.mapper.DeliveryMapper;
 import org.supplychain.mysupply.livraison.mapper.CustomerOrderMapper;
 import org.supplychain.mysupply.livraison.model.Delivery;
+import org.supplychain.mysupply.livraison.model.Customer;
 import org.supplychain.mysupply.livraison.model.CustomerOrder;
 import org.supplychain.mysupply.livraison.repository.DeliveryRepository;
 import org.supplychain.mysupply.livraison.repository.CustomerOrderRepository;
+import org.supplychain.mysupply.livraison.repository.projection.DeliveryRow;
+import org.supplychain.mysupply.livraison.repository.projection.DispatchStopRow;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class DeliveryService {
 
+    private static final int BULK_BATCH_SIZE = 50;
+
+    private static final String[] EXPORT_COLUMNS = {
+            "idDelivery", "trackingNumber", "status", "scheduledDate", "actualDeliveryDate", "deliveryAddress", "city",
+            "driver", "vehicle", "deliveryCost", "orderId", "orderNumber", "customerId", "customerName"
+    };
+
     private final DeliveryRepository deliveryRepository;
     private final CustomerOrderRepository customerOrderRepository;
     private final DeliveryMapper deliveryMapper;
     private final CustomerOrderMapper customerOrderMapper;
+    private final DispatchPlanner dispatchPlanner;
+    private final TrackingNumberGenerator trackingNumberGenerator;
+    private final TrackingLookupCache trackingLookupCache;
+    private final EntityManager entityManager;
+    private final int maxBulkDeliveries;
+
+    public DeliveryService(DeliveryRepository deliveryRepository,
+                           CustomerOrderRepository customerOrderRepository,
+                           DeliveryMapper deliveryMapper,
+                           CustomerOrderMapper customerOrderMapper,
+                           DispatchPlanner dispatchPlanner,
+                           TrackingNumberGenerator trackingNumberGenerator,
+                           TrackingLookupCache trackingLookupCache,
+                           EntityManager entityManager,
+                           @Value("${bulk-delivery.max-orders:500}") int maxBulkDeliveries) {
+        this.deliveryRepository = deliveryRepository;
+        this.customerOrderRepository = customerOrderRepository;
+        this.deliveryMapper = deliveryMapper;
+        this.customerOrderMapper = customerOrderMapper;
+        this.dispatchPlanner = dispatchPlanner;
+        this.trackingNumberGenerator = trackingNumberGenerator;
+        this.trackingLookupCache = trackingLookupCache;
+        this.entityManager = entityManager;
+        this.maxBulkDeliveries = maxBulkDeliveries;
+    }
 
     public DeliveryResponseDTO createDelivery(DeliveryDTO deliveryDTO) {
         CustomerOrder customerOrder = customerOrderRepository.findById(deliveryDTO.getOrderId())
@@ -45,7 +102,7 @@ public class DeliveryService {
         Delivery delivery = deliveryMapper.toEntity(deliveryDTO);
         delivery.setCustomerOrder(customerOrder);
         delivery.setStatus(DeliveryStatus.PLANIFIEE);
-        delivery.setTrackingNumber(generateTrackingNumber());
+        delivery.setTrackingNumber(trackingNumberGenerator.next());
 
         if (delivery.getDeliveryAddress() == null || delivery.getDeliveryAddress().isEmpty()) {
             delivery.setDeliveryAddress(customerOrder.getCustomer().getAddress());
@@ -56,8 +113,56 @@ public class DeliveryService {
         return mapToResponseDTO(savedDelivery);
     }
 
-    private String generateTrackingNumber() {
-        return "TRK-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    public BulkImportReport createPendingDeliveries(BulkDeliveryRequestDTO request) {
+        int limit = request.getMaxOrders() == null ? maxBulkDeliveries : Math.min(request.getMaxOrders(), maxBulkDeliveries);
+        List<CustomerOrder> orders = customerOrderRepository.findShippableOrders(CustomerOrderStatus.EN_PREPARATION, Limit.of(limit));
+
+        BulkRowResult[] results = new BulkRowResult[orders.size()];
+        Map<Integer, Delivery> createdDeliveries = new LinkedHashMap<>();
+        List<Delivery> batch = new ArrayList<>();
+        for (int index = 0; index < orders.size(); index++) {
+            CustomerOrder customerOrder = orders.get(index);
+            Customer customer = customerOrder.getCustomer();
+            if (customer.getAddress() == null || customer.getAddress().isBlank()) {
+                results[index] = BulkRowResult.rejected(index, customerOrder.getOrderNumber(),
+                        List.of("Customer has no delivery address: " + customer.getName()));
+                continue;
+            }
+            if (request.isDryRun()) {
+                results[index] = BulkRowResult.accepted(index, customerOrder.getOrderNumber(), null);
+                continue;
+            }
+
+            Delivery delivery = new Delivery();
+            delivery.setCustomerOrder(customerOrder);
+            delivery.setStatus(DeliveryStatus.PLANIFIEE);
+            delivery.setDeliveryAddress(customer.getAddress());
+            delivery.setCity(customer.getCity());
+            delivery.setScheduledDate(request.getScheduledDate());
+            delivery.setDeliveryCost(request.getDeliveryCost());
+            delivery.setTrackingNumber(trackingNumberGenerator.next());
+            createdDeliveries.put(index, delivery);
+
+            batch.add(delivery);
+            if (batch.size() == BULK_BATCH_SIZE) {
+                persistBatch(batch);
+            }
+        }
+        persistBatch(batch);
+
+        createdDeliveries.forEach((index, delivery) -> results[index] =
+                BulkRowResult.accepted(index, orders.get(index).getOrderNumber(), delivery.getIdDelivery()));
+        return new BulkImportReport(Arrays.asList(results));
+    }
+
+    private void persistBatch(List<Delivery> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        deliveryRepository.saveAll(batch);
+        entityManager.flush();
+        entityManager.clear();
+        batch.clear();
     }
 
     @Transactional(readOnly = true)
@@ -69,35 +174,63 @@ public class DeliveryService {
 
     @Transactional(readOnly = true)
     public Page<DeliveryResponseDTO> getAllDeliveries(Pageable pageable) {
-        return deliveryRepository.findAll(pageable)
-                .map(this::mapToResponseDTO);
+        return deliveryRepository.findAllRows(pageable)
+                .map(deliveryMapper::toResponseDTO);
     }
 
     @Transactional(readOnly = true)
     public Page<DeliveryResponseDTO> getDeliveriesByStatus(DeliveryStatus status, Pageable pageable) {
-        return deliveryRepository.findByStatus(status, pageable)
-                .map(this::mapToResponseDTO);
+        return deliveryRepository.findRowsByStatus(status, pageable)
+                .map(deliveryMapper::toResponseDTO);
     }
 
     @Transactional(readOnly = true)
     public Page<DeliveryResponseDTO> getDeliveriesByDriver(String driver, Pageable pageable) {
-        return deliveryRepository.findByDriver(driver, pageable)
-                .map(this::mapToResponseDTO);
+        return deliveryRepository.findRowsByDriver(driver, pageable)
+                .map(deliveryMapper::toResponseDTO);
     }
 
     @Transactional(readOnly = true)
     public Page<DeliveryResponseDTO> getDeliveriesByScheduledDate(LocalDate date, Pageable pageable) {
-        return deliveryRepository.findByScheduledDate(date, pageable)
-                .map(this::mapToResponseDTO);
+        return deliveryRepository.findRowsByScheduledDate(date, pageable)
+                .map(deliveryMapper::toResponseDTO);
     }
 
     @Transactional(readOnly = true)
-    public DeliveryResponseDTO getDeliveryByTrackingNumber(String trackingNumber) {
-        Delivery delivery = deliveryRepository.findByTrackingNumber(trackingNumber);
-        if (delivery == null) {
-            throw new RuntimeException("Delivery not found with tracking number: " + trackingNumber);
+    public KeysetPage<DeliveryResponseDTO> seekDeliveriesByStatus(DeliveryStatus status, String cursor, int size) {
+        Limit limit = KeysetPage.fetchLimit(size);
+        List<DeliveryRow> rows;
+        if (cursor == null) {
+            rows = deliveryRepository.seekRowsByStatus(status, limit);
+        } else {
+            SeekCursor after = SeekCursor.decode(cursor);
+            rows = after.getDate() == null
+                    ? deliveryRepository.seekUnscheduledRowsByStatusAfter(status, after.getId(), limit)
+                    : deliveryRepository.seekRowsByStatusAfter(status, after.getDate(), after.getId(), limit);
         }
-        return mapToResponseDTO(delivery);
+
+        return KeysetPage.of(rows, size, row -> new SeekCursor(row.getScheduledDate(), row.getIdDelivery()))
+                .map(deliveryMapper::toResponseDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public long exportDeliveries(ExportFormat format, OutputStream outputStream) {
+        ExportWriter writer = new ExportWriter(format, outputStream, EXPORT_COLUMNS);
+        try (Stream<DeliveryRow> rows = deliveryRepository.streamRows()) {
+            rows.forEach(row -> writer.write(
+                    row.getIdDelivery(), row.getTrackingNumber(), row.getStatus(), row.getScheduledDate(),
+                    row.getActualDeliveryDate(), row.getDeliveryAddress(), row.getCity(), row.getDriver(),
+                    row.getVehicle(), row.getDeliveryCost(), row.getOrderId(), row.getOrderNumber(),
+                    row.getCustomerId(), row.getCustomerName()));
+        }
+        return writer.finish();
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public DeliveryResponseDTO getDeliveryByTrackingNumber(String trackingNumber) {
+        return trackingLookupCache.get(trackingNumber, key -> deliveryRepository.findRowByTrackingNumber(key)
+                        .map(deliveryMapper::toResponseDTO))
+                .orElseThrow(() -> new RuntimeException("Delivery not found with tracking number: " + trackingNumber));
     }
 
     public DeliveryResponseDTO updateDelivery(Long id, DeliveryDTO deliveryDTO) {
@@ -109,6 +242,7 @@ public class DeliveryService {
         }
 
         deliveryMapper.updateEntityFromDTO(deliveryDTO, delivery);
+        trackingLookupCache.evict(delivery.getTrackingNumber());
         Delivery updatedDelivery = deliveryRepository.save(delivery);
         return mapToResponseDTO(updatedDelivery);
     }
@@ -122,6 +256,7 @@ public class DeliveryService {
         }
 
         delivery.setStatus(DeliveryStatus.EN_COURS);
+        trackingLookupCache.evict(delivery.getTrackingNumber());
         delivery.getCustomerOrder().setStatus(CustomerOrderStatus.EN_ROUTE);
         customerOrderRepository.save(delivery.getCustomerOrder());
 
@@ -138,6 +273,7 @@ public class DeliveryService {
         }
 
         delivery.setStatus(DeliveryStatus.LIVREE);
+        trackingLookupCache.evict(delivery.getTrackingNumber());
         delivery.setActualDeliveryDate(LocalDate.now());
         delivery.getCustomerOrder().setStatus(CustomerOrderStatus.LIVREE);
         customerOrderRepository.save(delivery.getCustomerOrder());
@@ -155,11 +291,53 @@ public class DeliveryService {
             Delivery delivery = deliveryRepository.findById(id)
                     .orElseThrow(() -> new RuntimeException("Delivery not found with id: " + id));
             delivery.setStatus(newStatus);
+            trackingLookupCache.evict(delivery.getTrackingNumber());
             Delivery updatedDelivery = deliveryRepository.save(delivery);
             return mapToResponseDTO(updatedDelivery);
         }
     }
 
+    public DispatchPlanDTO dispatchDeliveries(DispatchRequestDTO dispatchRequest) {
+        Set<String> drivers = new HashSet<>();
+        Set<String> vehicles = new HashSet<>();
+        for (DispatchVehicleDTO vehicle : dispatchRequest.getVehicles()) {
+            if (!drivers.add(vehicle.getDriver()) || !vehicles.add(vehicle.getVehicle())) {
+                throw new IllegalArgumentException("Each driver and vehicle can only be dispatched once: "
+                        + vehicle.getDriver() + " / " + vehicle.getVehicle());
+            }
+        }
+
+        List<DispatchStopRow> stops = deliveryRepository.findDispatchStops(dispatchRequest.getScheduledDate(), DeliveryStatus.PLANIFIEE);
+        DispatchPlan plan = dispatchPlanner.plan(stops, dispatchRequest.getVehicles());
+        trackingLookupCache.evictAll(stops.stream().map(DispatchStopRow::getTrackingNumber).toList());
+
+        List<DispatchRouteDTO> routes = new ArrayList<>(plan.routes().size());
+        for (DispatchRoute route : plan.routes()) {
+            DispatchVehicleDTO vehicle = route.vehicle();
+            deliveryRepository.assignRoute(route.stops().stream().map(DispatchStopRow::getIdDelivery).toList(),
+                    vehicle.getDriver(), vehicle.getVehicle(), DeliveryStatus.PLANIFIEE);
+            routes.add(new DispatchRouteDTO(vehicle.getDriver(), vehicle.getVehicle(), vehicle.getCapacity(),
+                    route.distanceKm(), toDispatchStops(route.stops())));
+        }
+
+        List<Long> unassignedIds = plan.unassigned().stream().map(DispatchStopRow::getIdDelivery).toList();
+        if (!unassignedIds.isEmpty()) {
+            deliveryRepository.assignRoute(unassignedIds, null, null, DeliveryStatus.PLANIFIEE);
+        }
+
+        return new DispatchPlanDTO(dispatchRequest.getScheduledDate(), plan.assignedCount(),
+                Math.round(plan.totalDistanceKm() * 10) / 10.0, routes, unassignedIds);
+    }
+
+    private List<DispatchStopDTO> toDispatchStops(List<DispatchStopRow> stops) {
+        List<DispatchStopDTO> dtos = new ArrayList<>(stops.size());
+        for (DispatchStopRow stop : stops) {
+            dtos.add(new DispatchStopDTO(dtos.size() + 1, stop.getIdDelivery(), stop.getTrackingNumber(),
+                    stop.getDeliveryAddress(), stop.getCity(), stop.getPostalCode()));
+        }
+        return dtos;
+    }
+
     public void deleteDelivery(Long id) {
         Delivery delivery = deliveryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Delivery not found with id: " + id));
@@ -168,6 +346,7 @@ public class DeliveryService {
             throw new RuntimeException("Can only delete deliveries that haven't started yet");
         }
 
+        trackingLookupCache.evict(delivery.getTrackingNumber());
         deliveryRepository.deleteById(id);
     }
 
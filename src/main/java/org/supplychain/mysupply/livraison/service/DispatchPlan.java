@@ -0,0 +1,16 @@
+package org.supplychain.mysupply.livraison.service;
+
+import org.supplychain.mysupply.livraison.repository.projection.DispatchStopRow;
+
+import java.util.List;
+
+public record DispatchPlan(List<DispatchRoute> routes, List<DispatchStopRow> unassigned) {
+
+    public int assignedCount() {
+        return routes.stream().mapToInt(route -> route.stops().size()).sum();
+    }
+
+    public double totalDistanceKm() {
+        return routes.stream().mapToDouble(DispatchRoute::distanceKm).sum();
+    }
+}
@@ -0,0 +1,303 @@
+package org.supplychain.mysupply.livraison.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.supplychain.mysupply.livraison.dto.DispatchVehicleDTO;
+import org.supplychain.mysupply.livraison.repository.projection.DispatchStopRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+@Component
+public class DispatchPlanner {
+
+    static final double SAME_ZONE_KM = 1.0;
+    static final double SAME_CITY_KM = 8.0;
+    static final double DEPOT_CITY_KM = 10.0;
+    static final double OTHER_CITY_KM = 40.0;
+    private static final double POSTAL_CODES_PER_KM = 50.0;
+    private static final double EPSILON = 1e-9;
+    private static final int NODE_BITS = 20;
+    private static final long NODE_MASK = (1L << NODE_BITS) - 1;
+
+    private final String depotCity;
+
+    public DispatchPlanner(@Value("${dispatch.depot-city:Casablanca}") String depotCity) {
+        this.depotCity = normalize(depotCity);
+    }
+
+    public DispatchPlan plan(List<DispatchStopRow> stops, List<DispatchVehicleDTO> vehicles) {
+        List<DispatchVehicleDTO> fleet = vehicles.stream()
+                .sorted(Comparator.comparing(DispatchVehicleDTO::getCapacity).reversed())
+                .toList();
+        if (stops.isEmpty() || fleet.isEmpty()) {
+            return new DispatchPlan(List.of(), List.copyOf(stops));
+        }
+
+        int maxCapacity = fleet.get(0).getCapacity();
+        List<Node> nodes = cluster(stops, maxCapacity);
+        List<List<Node>> routes = mergeBySavings(nodes, maxCapacity);
+        routes.forEach(this::twoOpt);
+        return assignVehicles(routes, fleet);
+    }
+
+    private List<Node> cluster(List<DispatchStopRow> stops, int maxCapacity) {
+        Map<Zone, List<Stop>> zones = new LinkedHashMap<>();
+        for (DispatchStopRow row : stops) {
+            Zone zone = zoneOf(row);
+            zones.computeIfAbsent(zone, key -> new ArrayList<>()).add(new Stop(row, zone));
+        }
+
+        List<Node> nodes = new ArrayList<>();
+        for (Map.Entry<Zone, List<Stop>> zone : zones.entrySet()) {
+            List<Stop> zoneStops = zone.getValue();
+            for (int from = 0; from < zoneStops.size(); from += maxCapacity) {
+                nodes.add(new Node(zone.getKey(), zoneStops.subList(from, Math.min(from + maxCapacity, zoneStops.size()))));
+            }
+        }
+        if (nodes.size() > NODE_MASK) {
+            throw new IllegalArgumentException("Too many delivery zones to plan in one dispatch: " + nodes.size());
+        }
+        return nodes;
+    }
+
+    private List<List<Node>> mergeBySavings(List<Node> nodes, int maxCapacity) {
+        int count = nodes.size();
+        double[] depotLeg = new double[count];
+        Route[] routeOf = new Route[count];
+        for (int i = 0; i < count; i++) {
+            depotLeg[i] = depotDistance(nodes.get(i).zone());
+            routeOf[i] = new Route(i, nodes.get(i).size());
+        }
+
+        long[] savings = new long[Math.max(16, count)];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            Node from = nodes.get(i);
+            for (int j = i + 1; j < count; j++) {
+                Node to = nodes.get(j);
+                if (from.size() + to.size() > maxCapacity) {
+                    continue;
+                }
+                double saving = depotLeg[i] + depotLeg[j] - distance(from.zone(), to.zone());
+                if (saving <= EPSILON) {
+                    continue;
+                }
+                if (size == savings.length) {
+                    savings = Arrays.copyOf(savings, size * 2);
+                }
+                savings[size++] = (Math.round(saving * 1000) << (2 * NODE_BITS)) | ((long) i << NODE_BITS) | j;
+            }
+        }
+        Arrays.sort(savings, 0, size);
+
+        for (int k = size - 1; k >= 0; k--) {
+            int i = (int) ((savings[k] >>> NODE_BITS) & NODE_MASK);
+            int j = (int) (savings[k] & NODE_MASK);
+            Route left = routeOf[i];
+            Route right = routeOf[j];
+            if (left == right || left.load + right.load > maxCapacity || !left.isEnd(i) || !right.isEnd(j)) {
+                continue;
+            }
+            if (left.last() != i) {
+                Collections.reverse(left.nodes);
+            }
+            if (right.first() != j) {
+                Collections.reverse(right.nodes);
+            }
+            left.nodes.addAll(right.nodes);
+            left.load += right.load;
+            for (int node : right.nodes) {
+                routeOf[node] = left;
+            }
+        }
+
+        LinkedHashSet<Route> distinct = new LinkedHashSet<>(Arrays.asList(routeOf));
+        List<List<Node>> routes = new ArrayList<>(distinct.size());
+        for (Route route : distinct) {
+            List<Node> routeNodes = new ArrayList<>(route.nodes.size());
+            for (int node : route.nodes) {
+                routeNodes.add(nodes.get(node));
+            }
+            routes.add(routeNodes);
+        }
+        return routes;
+    }
+
+    private void twoOpt(List<Node> route) {
+        int size = route.size();
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 0; i < size - 1; i++) {
+                Zone before = i == 0 ? null : route.get(i - 1).zone();
+                for (int k = i + 1; k < size; k++) {
+                    Zone after = k == size - 1 ? null : route.get(k + 1).zone();
+                    Zone first = route.get(i).zone();
+                    Zone last = route.get(k).zone();
+                    double gain = leg(before, first) + leg(last, after) - leg(before, last) - leg(first, after);
+                    if (gain > EPSILON) {
+                        Collections.reverse(route.subList(i, k + 1));
+                        improved = true;
+                    }
+                }
+            }
+        }
+    }
+
+    private DispatchPlan assignVehicles(List<List<Node>> routes, List<DispatchVehicleDTO> fleet) {
+        PriorityQueue<List<Stop>> pending = new PriorityQueue<>(
+                Comparator.comparingInt((List<Stop> stops) -> stops.size()).reversed());
+        for (List<Node> route : routes) {
+            List<Stop> stops = new ArrayList<>();
+            route.forEach(node -> stops.addAll(node.stops()));
+            pending.add(stops);
+        }
+
+        List<DispatchVehicleDTO> used = new ArrayList<>();
+        List<List<Stop>> loads = new ArrayList<>();
+        for (DispatchVehicleDTO vehicle : fleet) {
+            List<Stop> stops = pending.poll();
+            if (stops == null) {
+                break;
+            }
+            if (stops.size() > vehicle.getCapacity()) {
+                pending.add(stops.subList(vehicle.getCapacity(), stops.size()));
+                stops = stops.subList(0, vehicle.getCapacity());
+            }
+            used.add(vehicle);
+            loads.add(new ArrayList<>(stops));
+        }
+
+        List<DispatchStopRow> unassigned = new ArrayList<>();
+        pending.stream().flatMap(List::stream).forEach(stop -> {
+            if (!insertCheapest(stop, used, loads)) {
+                unassigned.add(stop.row());
+            }
+        });
+        unassigned.sort(Comparator.comparing(DispatchStopRow::getIdDelivery));
+
+        List<DispatchRoute> assigned = new ArrayList<>(used.size());
+        for (int i = 0; i < used.size(); i++) {
+            List<Stop> stops = loads.get(i);
+            assigned.add(new DispatchRoute(used.get(i), stops.stream().map(Stop::row).toList(), routeDistance(stops)));
+        }
+        return new DispatchPlan(assigned, unassigned);
+    }
+
+    private boolean insertCheapest(Stop stop, List<DispatchVehicleDTO> vehicles, List<List<Stop>> loads) {
+        List<Stop> bestRoute = null;
+        int bestPosition = -1;
+        double bestCost = Double.MAX_VALUE;
+        for (int r = 0; r < loads.size(); r++) {
+            List<Stop> route = loads.get(r);
+            if (route.size() >= vehicles.get(r).getCapacity()) {
+                continue;
+            }
+            for (int position = 0; position <= route.size(); position++) {
+                Zone before = position == 0 ? null : route.get(position - 1).zone();
+                Zone after = position == route.size() ? null : route.get(position).zone();
+                double cost = leg(before, stop.zone()) + leg(stop.zone(), after) - leg(before, after);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestRoute = route;
+                    bestPosition = position;
+                }
+            }
+        }
+        if (bestRoute == null) {
+            return false;
+        }
+        bestRoute.add(bestPosition, stop);
+        return true;
+    }
+
+    private double routeDistance(List<Stop> stops) {
+        double distance = leg(null, stops.get(0).zone());
+        for (int i = 1; i < stops.size(); i++) {
+            distance += leg(stops.get(i - 1).zone(), stops.get(i).zone());
+        }
+        distance += leg(stops.get(stops.size() - 1).zone(), null);
+        return Math.round(distance * 10) / 10.0;
+    }
+
+    private double leg(Zone from, Zone to) {
+        if (from == null) {
+            return to == null ? 0 : depotDistance(to);
+        }
+        return to == null ? depotDistance(from) : distance(from, to);
+    }
+
+    private double depotDistance(Zone zone) {
+        return !zone.city().isEmpty() && zone.city().equals(depotCity) ? DEPOT_CITY_KM : OTHER_CITY_KM;
+    }
+
+    static double distance(Zone from, Zone to) {
+        if (from.city().isEmpty() || !from.city().equals(to.city())) {
+            return OTHER_CITY_KM;
+        }
+        if (from.equals(to)) {
+            return SAME_ZONE_KM;
+        }
+        if (from.postalNumber() != null && to.postalNumber() != null) {
+            double spread = Math.abs(from.postalNumber() - to.postalNumber()) / POSTAL_CODES_PER_KM;
+            return Math.min(SAME_CITY_KM, 2 * SAME_ZONE_KM + spread);
+        }
+        return SAME_CITY_KM;
+    }
+
+    static Zone zoneOf(DispatchStopRow row) {
+        String postalCode = row.getPostalCode() == null ? "" : row.getPostalCode().trim();
+        Integer postalNumber = !postalCode.isEmpty() && postalCode.length() <= 9 && postalCode.chars().allMatch(Character::isDigit)
+                ? Integer.valueOf(postalCode) : null;
+        return new Zone(normalize(row.getCity()), postalCode, postalNumber);
+    }
+
+    private static String normalize(String city) {
+        return city == null ? "" : city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    record Zone(String city, String postalCode, Integer postalNumber) {
+    }
+
+    private record Stop(DispatchStopRow row, Zone zone) {
+    }
+
+    private record Node(Zone zone, List<Stop> stops) {
+
+        int size() {
+            return stops.size();
+        }
+    }
+
+    private static final class Route {
+
+        private final List<Integer> nodes = new ArrayList<>();
+        private int load;
+
+        private Route(int node, int load) {
+            this.nodes.add(node);
+            this.load = load;
+        }
+
+        private int first() {
+            return nodes.get(0);
+        }
+
+        private int last() {
+            return nodes.get(nodes.size() - 1);
+        }
+
+        private boolean isEnd(int node) {
+            return first() == node || last() == node;
+        }
+    }
+}
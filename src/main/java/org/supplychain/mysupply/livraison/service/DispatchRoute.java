@@ -0,0 +1,9 @@
+package org.supplychain.mysupply.livraison.service;
+
+import org.supplychain.mysupply.livraison.dto.DispatchVehicleDTO;
+import org.supplychain.mysupply.livraison.repository.projection.DispatchStopRow;
+
+import java.util.List;
+
+public record DispatchRoute(DispatchVehicleDTO vehicle, List<DispatchStopRow> stops, double distanceKm) {
+}
@@ -0,0 +1,98 @@
+package org.supplychain.mysupply.livraison.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.supplychain.mysupply.livraison.dto.DeliveryResponseDTO;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class TrackingLookupCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong generation = new AtomicLong();
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    public TrackingLookupCache(@Value("${tracking-number.cache-size:10000}") int maxEntries,
+                               @Value("${tracking-number.cache-ttl:PT30S}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public Optional<DeliveryResponseDTO> get(String trackingNumber, Function<String, Optional<DeliveryResponseDTO>> loader) {
+        Entry cached = entries.get(trackingNumber);
+        long now = System.nanoTime();
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return Optional.of(cached.delivery());
+        }
+
+        long loadedAt = generation.get();
+        Optional<DeliveryResponseDTO> delivery = loader.apply(trackingNumber);
+        if (delivery.isPresent() && maxEntries > 0 && generation.get() == loadedAt) {
+            if (entries.put(trackingNumber, new Entry(delivery.get(), now)) == null) {
+                insertionOrder.add(trackingNumber);
+                queued.incrementAndGet();
+                trim();
+            }
+        }
+        return delivery;
+    }
+
+    public void evict(String trackingNumber) {
+        evictAll(Collections.singletonList(trackingNumber));
+    }
+
+    public void evictAll(Collection<String> trackingNumbers) {
+        if (trackingNumbers.isEmpty()) {
+            return;
+        }
+        invalidate(trackingNumbers);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(trackingNumbers);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Collection<String> trackingNumbers) {
+        generation.incrementAndGet();
+        for (String trackingNumber : trackingNumbers) {
+            if (trackingNumber != null) {
+                entries.remove(trackingNumber);
+            }
+        }
+    }
+
+    private void trim() {
+        while (entries.size() > maxEntries || queued.get() > 2 * maxEntries) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            queued.decrementAndGet();
+            entries.remove(eldest);
+        }
+    }
+
+    private record Entry(DeliveryResponseDTO delivery, long loadedAt) {
+    }
+}
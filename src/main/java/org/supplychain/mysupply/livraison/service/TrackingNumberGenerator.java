@@ -0,0 +1,50 @@
+package org.supplychain.mysupply.livraison.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class TrackingNumberGenerator {
+
+    static final String PREFIX = "TRK-";
+    static final int ENCODED_LENGTH = 12;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int COUNTER_BITS = 9;
+    private static final int TIME_BITS = ENCODED_LENGTH * 5 - NODE_BITS - COUNTER_BITS;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private final long node;
+    private final AtomicLong lastTick = new AtomicLong();
+
+    public TrackingNumberGenerator(@Value("${tracking-number.node-id:0}") int nodeId) {
+        if (nodeId < 0 || nodeId >= 1 << NODE_BITS) {
+            throw new IllegalArgumentException("Tracking number node id must be between 0 and " + ((1 << NODE_BITS) - 1));
+        }
+        this.node = nodeId;
+    }
+
+    public String next() {
+        long now = Math.max(0, System.currentTimeMillis() - EPOCH_MILLIS) << COUNTER_BITS;
+        long tick = lastTick.updateAndGet(previous -> now > previous ? now : previous + 1);
+
+        long millis = tick >>> COUNTER_BITS;
+        if (millis >>> TIME_BITS != 0) {
+            throw new IllegalStateException("Tracking number time range exhausted");
+        }
+        long value = (millis << (NODE_BITS + COUNTER_BITS)) | (node << COUNTER_BITS) | (tick & COUNTER_MASK);
+
+        char[] chars = new char[PREFIX.length() + ENCODED_LENGTH];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        for (int i = chars.length - 1; i >= PREFIX.length(); i--) {
+            chars[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(chars);
+    }
+}
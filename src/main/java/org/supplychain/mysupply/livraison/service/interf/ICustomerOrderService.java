@@ -2,14 +2,22 @@ package org.supplychain.mysupply.livraison.service.interf;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.export.ExportFormat;
+import org.supplychain.mysupply.common.pagination.KeysetPage;
 import org.supplychain.mysupply.livraison.dto.OrderDTO;
 import org.supplychain.mysupply.livraison.dto.OrderResponseDTO;
 import org.supplychain.mysupply.livraison.enums.CustomerOrderStatus;
 
+import java.io.OutputStream;
+import java.util.List;
+
 public interface ICustomerOrderService {
 
     OrderResponseDTO createOrder(OrderDTO orderDTO);
 
+    BulkImportReport importOrders(List<OrderDTO> orderDTOs);
+
     OrderResponseDTO getOrderById(Long id);
 
     Page<OrderResponseDTO> getAllOrders(Pageable pageable);
@@ -20,6 +28,10 @@ public interface ICustomerOrderService {
 
     Page<OrderResponseDTO> getOrdersWithoutDelivery(Pageable pageable);
 
+    KeysetPage<OrderResponseDTO> seekOrdersByStatus(CustomerOrderStatus status, String cursor, int size);
+
+    long exportOrders(ExportFormat format, OutputStream outputStream);
+
     OrderResponseDTO updateOrderStatus(Long id, CustomerOrderStatus newStatus);
 
     void deleteOrder(Long id);
@@ -0,0 +1,30 @@
+package org.supplychain.mysupply.production.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.metrics.SqlBudget;
+import org.supplychain.mysupply.production.dto.MrpReportDTO;
+import org.supplychain.mysupply.production.service.MrpService;
+
+@RestController
+@RequestMapping("/api/mrp")
+@RequiredArgsConstructor
+public class MrpController {
+
+    private final MrpService mrpService;
+
+    @GetMapping("/plan")
+    public ResponseEntity<MrpReportDTO> getPlan() {
+        MrpReportDTO report = mrpService.plan();
+        return ResponseEntity.ok(report);
+    }
+
+    @SqlBudget(SqlBudget.UNLIMITED)
+    @PostMapping("/supply-orders")
+    public ResponseEntity<BulkImportReport> draftSupplyOrders() {
+        BulkImportReport report = mrpService.draftSupplyOrders();
+        return ResponseEntity.ok(report);
+    }
+}
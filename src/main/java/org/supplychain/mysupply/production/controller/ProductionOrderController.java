@@ -7,11 +7,21 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.supplychain.mysupply.common.metrics.SqlBudget;
+import org.supplychain.mysupply.production.dto.BuildableProductDTO;
 import org.supplychain.mysupply.production.dto.ProductionOrderDTO;
 import org.supplychain.mysupply.production.dto.ProductionOrderResponseDTO;
+import org.supplychain.mysupply.production.dto.ProductionOrderTransitionDTO;
+import org.supplychain.mysupply.production.dto.ProductionOrderTransitionReportDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationResponseDTO;
+import org.supplychain.mysupply.production.dto.ScheduledProductionOrderDTO;
 import org.supplychain.mysupply.production.enums.Priority;
 import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
 import org.supplychain.mysupply.production.service.ProductionOrderService;
+import org.supplychain.mysupply.production.service.ProductionSimulationService;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/production-orders")
@@ -19,6 +29,7 @@ import org.supplychain.mysupply.production.service.ProductionOrderService;
 public class ProductionOrderController {
 
     private final ProductionOrderService productionOrderService;
+    private final ProductionSimulationService productionSimulationService;
 
     @PostMapping
     public ResponseEntity<ProductionOrderResponseDTO> createProductionOrder(@Valid @RequestBody ProductionOrderDTO productionOrderDTO) {
@@ -26,18 +37,21 @@ public class ProductionOrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdOrder);
     }
 
+    @SqlBudget(10)
     @GetMapping("/{id}")
     public ResponseEntity<ProductionOrderResponseDTO> getProductionOrderById(@PathVariable Long id) {
         ProductionOrderResponseDTO order = productionOrderService.getProductionOrderById(id);
         return ResponseEntity.ok(order);
     }
 
+    @SqlBudget(15)
     @GetMapping
     public ResponseEntity<Page<ProductionOrderResponseDTO>> getAllProductionOrders(Pageable pageable) {
         Page<ProductionOrderResponseDTO> orders = productionOrderService.getAllProductionOrders(pageable);
         return ResponseEntity.ok(orders);
     }
 
+    @SqlBudget(15)
     @GetMapping("/status/{status}")
     public ResponseEntity<Page<ProductionOrderResponseDTO>> getProductionOrdersByStatus(
             @PathVariable ProductionOrderStatus status,
@@ -46,6 +60,7 @@ public class ProductionOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @SqlBudget(15)
     @GetMapping("/priority/{priority}")
     public ResponseEntity<Page<ProductionOrderResponseDTO>> getProductionOrdersByPriority(
             @PathVariable Priority priority,
@@ -54,12 +69,32 @@ public class ProductionOrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @SqlBudget(15)
     @GetMapping("/queue")
     public ResponseEntity<Page<ProductionOrderResponseDTO>> getProductionQueue(Pageable pageable) {
         Page<ProductionOrderResponseDTO> orders = productionOrderService.getProductionOrdersOrderedByPriority(pageable);
         return ResponseEntity.ok(orders);
     }
 
+    @SqlBudget(10)
+    @GetMapping("/schedule")
+    public ResponseEntity<Page<ScheduledProductionOrderDTO>> getProductionSchedule(Pageable pageable) {
+        Page<ScheduledProductionOrderDTO> schedule = productionOrderService.getProductionSchedule(pageable);
+        return ResponseEntity.ok(schedule);
+    }
+
+    @PostMapping("/simulate")
+    public ResponseEntity<ProductionSimulationResponseDTO> simulateProduction(@Valid @RequestBody ProductionSimulationDTO simulationDTO) {
+        ProductionSimulationResponseDTO simulation = productionSimulationService.simulate(simulationDTO);
+        return ResponseEntity.ok(simulation);
+    }
+
+    @GetMapping("/max-buildable")
+    public ResponseEntity<List<BuildableProductDTO>> getMaxBuildable() {
+        List<BuildableProductDTO> products = productionSimulationService.getMaxBuildable();
+        return ResponseEntity.ok(products);
+    }
+
     @PatchMapping("/{id}/start")
     public ResponseEntity<ProductionOrderResponseDTO> startProduction(@PathVariable Long id) {
         ProductionOrderResponseDTO updatedOrder = productionOrderService.startProduction(id);
@@ -72,6 +107,14 @@ public class ProductionOrderController {
         return ResponseEntity.ok(updatedOrder);
     }
 
+    @SqlBudget(SqlBudget.UNLIMITED)
+    @PostMapping("/transitions")
+    public ResponseEntity<ProductionOrderTransitionReportDTO> transitionProductionOrders(@Valid @RequestBody ProductionOrderTransitionDTO transitionDTO) {
+        ProductionOrderTransitionReportDTO report = productionOrderService.transitionProductionOrders(
+                transitionDTO.getOrderIds(), transitionDTO.getStatus());
+        return ResponseEntity.ok(report);
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<ProductionOrderResponseDTO> updateProductionOrderStatus(
             @PathVariable Long id,
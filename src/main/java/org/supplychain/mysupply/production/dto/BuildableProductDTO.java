@@ -0,0 +1,18 @@
+package org.supplychain.mysupply.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BuildableProductDTO {
+
+    private Long productId;
+    private String productName;
+    private Integer requestedQuantity;
+    private Integer maxBuildable;
+    private Long bottleneckMaterialId;
+    private String bottleneckMaterialName;
+}
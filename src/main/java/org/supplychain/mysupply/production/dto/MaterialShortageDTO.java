@@ -0,0 +1,17 @@
+package org.supplychain.mysupply.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaterialShortageDTO {
+
+    private Long materialId;
+    private String materialName;
+    private Long required;
+    private Integer available;
+    private Long shortage;
+}
@@ -0,0 +1,20 @@
+package org.supplychain.mysupply.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpMaterialRequirementDTO {
+
+    private Long materialId;
+    private String materialName;
+    private Long grossRequirement;
+    private Integer safetyStock;
+    private Integer available;
+    private Long scheduledReceipts;
+    private Long netRequirement;
+    private Long supplierId;
+}
@@ -0,0 +1,19 @@
+package org.supplychain.mysupply.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpProductRequirementDTO {
+
+    private Long productId;
+    private String productName;
+    private Integer stock;
+    private Integer minimumStock;
+    private Long openCustomerDemand;
+    private Long pendingProduction;
+    private Long plannedQuantity;
+}
@@ -0,0 +1,21 @@
+package org.supplychain.mysupply.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpReportDTO {
+
+    private LocalDate planDate;
+    private List<MrpProductRequirementDTO> productRequirements = new ArrayList<>();
+    private List<MrpMaterialRequirementDTO> materialRequirements = new ArrayList<>();
+    private List<MrpSupplyProposalDTO> supplyProposals = new ArrayList<>();
+    private List<Long> unsourcedMaterialIds = new ArrayList<>();
+}
@@ -0,0 +1,23 @@
+package org.supplychain.mysupply.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderLineDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MrpSupplyProposalDTO {
+
+    private Long supplierId;
+    private String supplierName;
+    private Integer leadTime;
+    private LocalDate orderDate;
+    private LocalDate expectedReceiptDate;
+    private List<SupplyOrderLineDTO> orderLines = new ArrayList<>();
+}
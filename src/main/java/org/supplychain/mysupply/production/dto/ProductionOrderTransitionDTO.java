@@ -0,0 +1,22 @@
+package org.supplychain.mysupply.production.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductionOrderTransitionDTO {
+
+    @NotEmpty(message = "At least one production order is required")
+    private List<@NotNull(message = "Production order ID is required") Long> orderIds;
+
+    @NotNull(message = "Target status is required")
+    private ProductionOrderStatus status;
+}
@@ -0,0 +1,24 @@
+package org.supplychain.mysupply.production.dto;
+
+import lombok.Getter;
+import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
+
+import java.util.List;
+
+@Getter
+public class ProductionOrderTransitionReportDTO {
+
+    private final ProductionOrderStatus targetStatus;
+    private final int total;
+    private final int transitioned;
+    private final int rejected;
+    private final List<ProductionOrderTransitionResultDTO> orders;
+
+    public ProductionOrderTransitionReportDTO(ProductionOrderStatus targetStatus, List<ProductionOrderTransitionResultDTO> orders) {
+        this.targetStatus = targetStatus;
+        this.total = orders.size();
+        this.transitioned = (int) orders.stream().filter(ProductionOrderTransitionResultDTO::isTransitioned).count();
+        this.rejected = total - transitioned;
+        this.orders = orders;
+    }
+}
@@ -0,0 +1,34 @@
+package org.supplychain.mysupply.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ProductionOrderTransitionResultDTO {
+
+    private final int index;
+    private final Long orderId;
+    private final String orderNumber;
+    private final ProductionOrderStatus previousStatus;
+    private final ProductionOrderStatus status;
+    private final List<String> errors;
+
+    public static ProductionOrderTransitionResultDTO transitioned(int index, Long orderId, String orderNumber,
+                                                                  ProductionOrderStatus previousStatus,
+                                                                  ProductionOrderStatus status) {
+        return new ProductionOrderTransitionResultDTO(index, orderId, orderNumber, previousStatus, status, List.of());
+    }
+
+    public static ProductionOrderTransitionResultDTO rejected(int index, Long orderId, String orderNumber,
+                                                              ProductionOrderStatus status, String error) {
+        return new ProductionOrderTransitionResultDTO(index, orderId, orderNumber, status, status, List.of(error));
+    }
+
+    public boolean isTransitioned() {
+        return errors.isEmpty();
+    }
+}
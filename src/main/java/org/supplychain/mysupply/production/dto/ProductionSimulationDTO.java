@@ -0,0 +1,19 @@
+package org.supplychain.mysupply.production.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductionSimulationDTO {
+
+    @NotEmpty(message = "At least one product is required")
+    @Valid
+    private List<ProductionSimulationLineDTO> lines;
+}
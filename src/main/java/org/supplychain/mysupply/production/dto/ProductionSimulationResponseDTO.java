@@ -0,0 +1,18 @@
+package org.supplychain.mysupply.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductionSimulationResponseDTO {
+
+    private boolean feasible;
+    private List<BuildableProductDTO> products = new ArrayList<>();
+    private List<MaterialShortageDTO> shortages = new ArrayList<>();
+}
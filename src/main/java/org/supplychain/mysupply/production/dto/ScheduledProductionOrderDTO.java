@@ -0,0 +1,21 @@
+package org.supplychain.mysupply.production.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.supplychain.mysupply.production.enums.Priority;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledProductionOrderDTO {
+
+    private Long idOrder;
+    private String orderNumber;
+    private Priority priority;
+    private Integer line;
+    private LocalDate plannedStartDate;
+    private LocalDate plannedEndDate;
+}
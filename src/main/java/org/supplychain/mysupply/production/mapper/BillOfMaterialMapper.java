@@ -2,17 +2,25 @@ package org.supplychain.mysupply.production.mapper;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.supplychain.mysupply.approvisionnement.dto.RawMaterialResponseDTO;
 import org.supplychain.mysupply.approvisionnement.mapper.RawMaterialMapper;
 import org.supplychain.mysupply.production.dto.BillOfMaterialDTO;
 import org.supplychain.mysupply.production.dto.BillOfMaterialResponseDTO;
 import org.supplychain.mysupply.production.model.BillOfMaterial;
+import org.supplychain.mysupply.production.repository.projection.BillOfMaterialRow;
 
 @Mapper(componentModel = "spring", uses = {RawMaterialMapper.class})
 public interface BillOfMaterialMapper {
 
-    @Mapping(target = "materialAvailable", expression = "java(billOfMaterial.getMaterial().getStock() >= billOfMaterial.getQuantity())")
+    @Mapping(target = "materialAvailable", expression = "java(billOfMaterial.getMaterial().getStock() - billOfMaterial.getMaterial().getReservedStock() >= billOfMaterial.getQuantity())")
     BillOfMaterialResponseDTO toResponseDTO(BillOfMaterial billOfMaterial);
 
+    @Mapping(target = "idBOM", source = "row.idBOM")
+    @Mapping(target = "quantity", source = "row.quantity")
+    @Mapping(target = "material", source = "material")
+    @Mapping(target = "materialAvailable", expression = "java(material.getAvailableStock() >= row.getQuantity())")
+    BillOfMaterialResponseDTO toResponseDTO(BillOfMaterialRow row, RawMaterialResponseDTO material);
+
     @Mapping(target = "product", ignore = true)
     @Mapping(target = "material", ignore = true)
     BillOfMaterial toEntity(BillOfMaterialDTO billOfMaterialDTO);
@@ -6,6 +6,7 @@ import org.mapstruct.MappingTarget;
 import org.supplychain.mysupply.production.dto.ProductDTO;
 import org.supplychain.mysupply.production.dto.ProductResponseDTO;
 import org.supplychain.mysupply.production.model.Product;
+import org.supplychain.mysupply.production.repository.projection.ProductRow;
 
 @Mapper(componentModel = "spring", uses = {BillOfMaterialMapper.class})
 public interface ProductMapper {
@@ -13,11 +14,17 @@ public interface ProductMapper {
     @Mapping(target = "lowStock", expression = "java(product.getStock() <= product.getMinimumStock())")
     ProductResponseDTO toResponseDTO(Product product);
 
+    @Mapping(target = "lowStock", expression = "java(row.getStock() <= row.getMinimumStock())")
+    @Mapping(target = "billOfMaterials", ignore = true)
+    ProductResponseDTO toResponseDTO(ProductRow row);
+
+    @Mapping(target = "lowStock", ignore = true)
     @Mapping(target = "billOfMaterials", ignore = true)
     @Mapping(target = "productionOrders", ignore = true)
     Product toEntity(ProductDTO productDTO);
 
     @Mapping(target = "idProduct", ignore = true)
+    @Mapping(target = "lowStock", ignore = true)
     @Mapping(target = "billOfMaterials", ignore = true)
     @Mapping(target = "productionOrders", ignore = true)
     void updateEntityFromDTO(ProductDTO productDTO, @MappingTarget Product product);
@@ -18,6 +18,7 @@ public interface ProductionOrderMapper {
     @Mapping(target = "estimatedEndDate", ignore = true)
     @Mapping(target = "actualEndDate", ignore = true)
     @Mapping(target = "estimatedProductionTimeHours", ignore = true)
+    @Mapping(target = "materialsReserved", ignore = true)
     ProductionOrder toEntity(ProductionOrderDTO productionOrderDTO);
 
     @Mapping(target = "idOrder", ignore = true)
@@ -27,5 +28,6 @@ public interface ProductionOrderMapper {
     @Mapping(target = "estimatedEndDate", ignore = true)
     @Mapping(target = "actualEndDate", ignore = true)
     @Mapping(target = "estimatedProductionTimeHours", ignore = true)
+    @Mapping(target = "materialsReserved", ignore = true)
     void updateEntityFromDTO(ProductionOrderDTO productionOrderDTO, @MappingTarget ProductionOrder productionOrder);
 }
\ No newline at end of file
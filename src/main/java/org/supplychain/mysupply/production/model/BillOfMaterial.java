@@ -6,10 +6,14 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
 import org.supplychain.mysupply.common.model.BaseEntity;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "bill_of_materials",
         uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "material_id"}))
 @Data
@@ -20,7 +24,8 @@ import org.supplychain.mysupply.common.model.BaseEntity;
 public class BillOfMaterial extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bill_of_materials_seq")
+    @SequenceGenerator(name = "bill_of_materials_seq", sequenceName = "bill_of_materials_seq", allocationSize = 50)
     private Long idBOM;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.supplychain.mysupply.common.model.BaseEntity;
 
 import java.math.BigDecimal;
@@ -12,7 +15,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "products")
+@Table(name = "products",
+        indexes = @Index(name = "idx_products_low_stock", columnList = "low_stock"))
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -20,7 +24,8 @@ import java.util.List;
 public class Product extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     private Long idProduct;
 
     @Column(nullable = false)
@@ -41,16 +46,27 @@ public class Product extends BaseEntity {
     @Column(nullable = false)
     private Integer minimumStock = 0;
 
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private Boolean lowStock = false;
+
     @Column(nullable = false)
     private String unit;
 
 
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<BillOfMaterial> billOfMaterials = new ArrayList<>();
 
     @OneToMany(mappedBy = "product")
     private List<ProductionOrder> productionOrders = new ArrayList<>();
 
+    @PrePersist
+    @PreUpdate
+    void refreshLowStock() {
+        lowStock = stock != null && minimumStock != null && stock <= minimumStock;
+    }
+
 
 
 
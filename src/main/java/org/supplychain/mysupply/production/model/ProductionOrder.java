@@ -22,7 +22,8 @@ import java.time.LocalDate;
 public class ProductionOrder extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "production_orders_seq")
+    @SequenceGenerator(name = "production_orders_seq", sequenceName = "production_orders_seq", allocationSize = 50)
     private Long idOrder;
 
     @Column(nullable = false, unique = true)
@@ -54,4 +55,7 @@ public class ProductionOrder extends BaseEntity {
 
     @Column(nullable = false)
     private Integer estimatedProductionTimeHours;
+
+    // Null only for orders created before reservations were tracked per order, see ReservedStockInitializer
+    private Boolean materialsReserved = false;
 }
\ No newline at end of file
@@ -5,7 +5,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.supplychain.mysupply.production.model.BillOfMaterial;
+import org.supplychain.mysupply.production.repository.projection.BillOfMaterialRow;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -17,4 +19,9 @@ public interface BillOfMaterialRepository extends JpaRepository<BillOfMaterial,
     BillOfMaterial findByProductIdAndMaterialId(@Param("productId") Long productId, @Param("materialId") Long materialId);
 
     boolean existsByProductIdProductAndMaterialIdMaterial(Long productId, Long materialId);
+
+    @Query("SELECT new org.supplychain.mysupply.production.repository.projection.BillOfMaterialRow(" +
+            "bom.product.idProduct, bom.idBOM, bom.material.idMaterial, bom.quantity) " +
+            "FROM BillOfMaterial bom WHERE bom.product.idProduct IN :productIds")
+    List<BillOfMaterialRow> findRowsByProductIdIn(@Param("productIds") Collection<Long> productIds);
 }
\ No newline at end of file
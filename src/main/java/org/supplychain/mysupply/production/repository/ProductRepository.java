@@ -1,23 +1,71 @@
 package org.supplychain.mysupply.production.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.supplychain.mysupply.production.model.Product;
+import org.supplychain.mysupply.production.repository.projection.ProductRow;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+    String PRODUCT_ROW = "SELECT new org.supplychain.mysupply.production.repository.projection.ProductRow(" +
+            "p.idProduct, p.name, p.description, p.productionTime, p.cost, p.stock, p.minimumStock, p.unit) " +
+            "FROM Product p";
+
     boolean existsByName(String name);
 
     Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
-    @Query("SELECT p FROM Product p WHERE p.stock <= p.minimumStock")
+    @Query("SELECT p FROM Product p WHERE p.lowStock = true")
     Page<Product> findLowStockProducts(Pageable pageable);
 
+    @Query(value = PRODUCT_ROW, countQuery = "SELECT COUNT(p) FROM Product p")
+    Page<ProductRow> findAllRows(Pageable pageable);
+
+    @Query(value = PRODUCT_ROW + " WHERE p.name ILIKE %:name%",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.name ILIKE %:name%")
+    Page<ProductRow> findRowsByNameContaining(@Param("name") String name, Pageable pageable);
+
+    @Query(value = PRODUCT_ROW + " WHERE p.lowStock = true",
+            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.lowStock = true")
+    Page<ProductRow> findLowStockRows(Pageable pageable);
+
+    @Query(PRODUCT_ROW + " ORDER BY p.idProduct")
+    List<ProductRow> findAllRowsOrderById();
+
+    @Query(PRODUCT_ROW + " WHERE p.idProduct IN :productIds")
+    List<ProductRow> findRowsByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.idProduct IN :productIds ORDER BY p.idProduct")
+    List<Product> findAllByIdForUpdate(@Param("productIds") Collection<Long> productIds);
+
     @Query("SELECT COUNT(po) FROM ProductionOrder po WHERE po.product.idProduct = :productId")
     long countProductionOrdersByProductId(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity, " +
+            "p.lowStock = CASE WHEN p.stock - :quantity <= p.minimumStock THEN true ELSE false END " +
+            "WHERE p.idProduct = :productId AND p.stock >= :quantity")
+    int decrementStock(@Param("productId") Long productId, @Param("quantity") Integer quantity);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity, " +
+            "p.lowStock = CASE WHEN p.stock + :quantity <= p.minimumStock THEN true ELSE false END " +
+            "WHERE p.idProduct = :productId")
+    int incrementStock(@Param("productId") Long productId, @Param("quantity") Integer quantity);
+
+    default boolean tryDecrementStock(Long productId, Integer quantity) {
+        return decrementStock(productId, quantity) == 1;
+    }
 }
\ No newline at end of file
@@ -2,26 +2,44 @@ package org.supplychain.mysupply.production.repository;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.supplychain.mysupply.common.projection.QuantityRow;
 import org.supplychain.mysupply.production.enums.Priority;
 import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
 import org.supplychain.mysupply.production.model.ProductionOrder;
+import org.supplychain.mysupply.production.repository.projection.ProductionOrderScheduleRow;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface ProductionOrderRepository extends JpaRepository<ProductionOrder, Long> {
 
+    String SCHEDULE_ROW = "SELECT new org.supplychain.mysupply.production.repository.projection.ProductionOrderScheduleRow(" +
+            "po.idOrder, po.orderNumber, po.status, po.priority, po.orderDate, po.startDate, po.estimatedProductionTimeHours) " +
+            "FROM ProductionOrder po";
+
     boolean existsByOrderNumber(String orderNumber);
 
+    @Override
+    @EntityGraph(attributePaths = "product")
+    Page<ProductionOrder> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "product")
     Page<ProductionOrder> findByStatus(ProductionOrderStatus status, Pageable pageable);
 
+    @EntityGraph(attributePaths = "product")
     Page<ProductionOrder> findByPriority(Priority priority, Pageable pageable);
 
+    @EntityGraph(attributePaths = "product")
     @Query("SELECT po FROM ProductionOrder po WHERE po.product.idProduct = :productId")
     Page<ProductionOrder> findByProduct(@Param("productId") Long productId, Pageable pageable);
 
+    @EntityGraph(attributePaths = "product")
     @Query("SELECT po FROM ProductionOrder po ORDER BY " +
             "CASE po.priority " +
             "WHEN 'URGENT' THEN 1 " +
@@ -30,4 +48,26 @@ public interface ProductionOrderRepository extends JpaRepository<ProductionOrder
             "WHEN 'LOW' THEN 4 " +
             "END, po.orderDate")
     Page<ProductionOrder> findAllOrderedByPriorityAndDate(Pageable pageable);
-}
\ No newline at end of file
+
+    @Query("SELECT new org.supplychain.mysupply.common.projection.QuantityRow(po.product.idProduct, SUM(po.quantity)) " +
+            "FROM ProductionOrder po WHERE po.status IN :statuses GROUP BY po.product.idProduct")
+    List<QuantityRow> sumQuantityByProduct(@Param("statuses") Collection<ProductionOrderStatus> statuses);
+
+    @Query(SCHEDULE_ROW + " WHERE po.status IN :statuses")
+    List<ProductionOrderScheduleRow> findScheduleRows(@Param("statuses") Collection<ProductionOrderStatus> statuses);
+
+    @EntityGraph(attributePaths = "product")
+    @Query("SELECT po FROM ProductionOrder po WHERE po.status = :blocked " +
+            "AND po.product.idProduct IN (SELECT b.product.idProduct FROM BillOfMaterial b WHERE b.material.idMaterial IN :materialIds) " +
+            "AND NOT EXISTS (SELECT b.idBOM FROM BillOfMaterial b JOIN b.material rm " +
+            "WHERE b.product.idProduct = po.product.idProduct AND rm.stock - rm.reservedStock < b.quantity * po.quantity) " +
+            "ORDER BY " +
+            "CASE po.priority " +
+            "WHEN 'URGENT' THEN 1 " +
+            "WHEN 'HIGH' THEN 2 " +
+            "WHEN 'STANDARD' THEN 3 " +
+            "WHEN 'LOW' THEN 4 " +
+            "END, po.orderDate, po.idOrder")
+    List<ProductionOrder> findBlockedCoveredByAvailableStock(@Param("materialIds") Collection<Long> materialIds,
+                                                             @Param("blocked") ProductionOrderStatus blocked);
+}
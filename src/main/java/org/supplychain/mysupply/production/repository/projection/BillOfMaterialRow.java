@@ -0,0 +1,14 @@
+package org.supplychain.mysupply.production.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BillOfMaterialRow {
+
+    private Long productId;
+    private Long idBOM;
+    private Long materialId;
+    private Integer quantity;
+}
@@ -0,0 +1,20 @@
+package org.supplychain.mysupply.production.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+public class ProductRow {
+
+    private Long idProduct;
+    private String name;
+    private String description;
+    private Integer productionTime;
+    private BigDecimal cost;
+    private Integer stock;
+    private Integer minimumStock;
+    private String unit;
+}
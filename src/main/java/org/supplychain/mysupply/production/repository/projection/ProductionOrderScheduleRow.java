@@ -0,0 +1,21 @@
+package org.supplychain.mysupply.production.repository.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.supplychain.mysupply.production.enums.Priority;
+import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class ProductionOrderScheduleRow {
+
+    private Long idOrder;
+    private String orderNumber;
+    private ProductionOrderStatus status;
+    private Priority priority;
+    private LocalDate orderDate;
+    private LocalDate startDate;
+    private Integer estimatedProductionTimeHours;
+}
@@ -0,0 +1,80 @@
+package org.supplychain.mysupply.production.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.supplychain.mysupply.production.repository.BillOfMaterialRepository;
+import org.supplychain.mysupply.production.repository.projection.BillOfMaterialRow;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+public class BomCache {
+
+    private final BillOfMaterialRepository billOfMaterialRepository;
+    private final Map<Long, BomExplosion> explosions = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public BomExplosion explode(Long productId) {
+        BomExplosion cached = explosions.get(productId);
+        if (cached != null) {
+            return cached;
+        }
+        return explodeAll(List.of(productId)).get(productId);
+    }
+
+    public Map<Long, BomExplosion> explodeAll(Collection<Long> productIds) {
+        Map<Long, BomExplosion> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long productId : productIds) {
+            BomExplosion cached = explosions.get(productId);
+            if (cached != null) {
+                result.put(productId, cached);
+            } else {
+                missing.add(productId);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long loadedAt = generation.get();
+        Map<Long, List<BillOfMaterialRow>> rowsByProduct = new HashMap<>();
+        for (BillOfMaterialRow row : billOfMaterialRepository.findRowsByProductIdIn(missing)) {
+            rowsByProduct.computeIfAbsent(row.getProductId(), id -> new ArrayList<>()).add(row);
+        }
+
+        for (Long productId : missing) {
+            BomExplosion explosion = BomExplosion.of(rowsByProduct.getOrDefault(productId, List.of()));
+            if (generation.get() == loadedAt) {
+                explosions.putIfAbsent(productId, explosion);
+            }
+            result.put(productId, explosion);
+        }
+        return result;
+    }
+
+    public void evict(Long productId) {
+        generation.incrementAndGet();
+        explosions.remove(productId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    generation.incrementAndGet();
+                    explosions.remove(productId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.supplychain.mysupply.production.service;
+
+import org.supplychain.mysupply.production.repository.projection.BillOfMaterialRow;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record BomExplosion(long[] materialIds, int[] quantitiesPerUnit) {
+
+    public static final BomExplosion EMPTY = new BomExplosion(new long[0], new int[0]);
+
+    public static BomExplosion of(List<BillOfMaterialRow> rows) {
+        if (rows.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (BillOfMaterialRow row : rows) {
+            quantities.merge(row.getMaterialId(), row.getQuantity(), Integer::sum);
+        }
+
+        long[] materialIds = new long[quantities.size()];
+        int[] quantitiesPerUnit = new int[quantities.size()];
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            materialIds[i] = entry.getKey();
+            quantitiesPerUnit[i] = entry.getValue();
+            i++;
+        }
+        return new BomExplosion(materialIds, quantitiesPerUnit);
+    }
+
+    public int size() {
+        return materialIds.length;
+    }
+
+    public long materialId(int index) {
+        return materialIds[index];
+    }
+
+    public int quantityPerUnit(int index) {
+        return quantitiesPerUnit[index];
+    }
+
+    public boolean isEmpty() {
+        return materialIds.length == 0;
+    }
+}
@@ -0,0 +1,216 @@
+package org.supplychain.mysupply.production.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialStockRow;
+import org.supplychain.mysupply.production.model.ProductionOrder;
+import org.supplychain.mysupply.production.service.interf.IMaterialReservationService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class MaterialReservationService implements IMaterialReservationService {
+
+    private final BomCache bomCache;
+    private final RawMaterialRepository rawMaterialRepository;
+
+    @Override
+    public void reserveMaterials(Long productId, Integer quantity) {
+        Map<Long, Integer> requirements = requiredMaterials(productId, quantity);
+        List<Long> rejectedMaterialIds = new ArrayList<>();
+
+        for (Map.Entry<Long, Integer> requirement : requirements.entrySet()) {
+            if (!rawMaterialRepository.tryReserveStock(requirement.getKey(), requirement.getValue())) {
+                rejectedMaterialIds.add(requirement.getKey());
+            }
+        }
+
+        if (!rejectedMaterialIds.isEmpty()) {
+            throw insufficientMaterials(rejectedMaterialIds, requirements);
+        }
+    }
+
+    @Override
+    public boolean tryReserveMaterials(Long productId, Integer quantity) {
+        Map<Long, Integer> reserved = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> requirement : requiredMaterials(productId, quantity).entrySet()) {
+            if (!rawMaterialRepository.tryReserveStock(requirement.getKey(), requirement.getValue())) {
+                reserved.forEach(rawMaterialRepository::releaseReservedStock);
+                return false;
+            }
+            reserved.put(requirement.getKey(), requirement.getValue());
+        }
+        return true;
+    }
+
+    @Override
+    public void consumeReservedMaterials(Long productId, Integer quantity, boolean reserved) {
+        Map<Long, Integer> requirements = requiredMaterials(productId, quantity);
+        Map<Long, MaterialDraw> draws = draws(requirements.keySet());
+        List<Long> rejectedMaterialIds = new ArrayList<>();
+
+        for (Map.Entry<Long, Integer> requirement : requirements.entrySet()) {
+            MaterialDraw draw = draws.get(requirement.getKey());
+            if (draw == null || !draw.canConsume(requirement.getValue(), reserved)) {
+                rejectedMaterialIds.add(requirement.getKey());
+            }
+        }
+
+        if (!rejectedMaterialIds.isEmpty()) {
+            throw insufficientMaterials(rejectedMaterialIds, requirements);
+        }
+
+        requirements.forEach((materialId, requiredQuantity) -> draws.get(materialId).consume(requiredQuantity, reserved));
+        applyDraws(draws);
+    }
+
+    @Override
+    public Map<Long, String> consumeReservedMaterials(List<ProductionOrder> orders) {
+        Map<Long, BomExplosion> boms = bomCache.explodeAll(orders.stream()
+                .map(order -> order.getProduct().getIdProduct())
+                .collect(Collectors.toSet()));
+
+        Set<Long> materialIds = new HashSet<>();
+        boms.values().forEach(bom -> Arrays.stream(bom.materialIds()).forEach(materialIds::add));
+        Map<Long, MaterialDraw> draws = draws(materialIds);
+
+        Map<Long, String> rejections = new LinkedHashMap<>();
+        for (ProductionOrder order : orders) {
+            BomExplosion bom = boms.get(order.getProduct().getIdProduct());
+            boolean reserved = Boolean.TRUE.equals(order.getMaterialsReserved());
+            List<String> shortages = new ArrayList<>();
+            for (int i = 0; i < bom.size(); i++) {
+                MaterialDraw draw = draws.get(bom.materialId(i));
+                int required = bom.quantityPerUnit(i) * order.getQuantity();
+                if (draw == null) {
+                    shortages.add(String.format("material %d (need %d, available 0)", bom.materialId(i), required));
+                } else if (!draw.canConsume(required, reserved)) {
+                    shortages.add(String.format("%s (need %d, available %d)", draw.name, required, draw.available()));
+                }
+            }
+
+            if (!shortages.isEmpty()) {
+                rejections.put(order.getIdOrder(), "Insufficient materials for production: " + String.join(", ", shortages));
+                continue;
+            }
+            for (int i = 0; i < bom.size(); i++) {
+                draws.get(bom.materialId(i)).consume(bom.quantityPerUnit(i) * order.getQuantity(), reserved);
+            }
+        }
+
+        applyDraws(draws);
+        return rejections;
+    }
+
+    @Override
+    public void releaseMaterials(Long productId, Integer quantity) {
+        List<Long> unreleasedMaterialIds = new ArrayList<>();
+        requiredMaterials(productId, quantity).forEach((materialId, reservedQuantity) -> {
+            if (rawMaterialRepository.releaseReservedStock(materialId, reservedQuantity) != 1) {
+                unreleasedMaterialIds.add(materialId);
+            }
+        });
+
+        if (!unreleasedMaterialIds.isEmpty()) {
+            throw new IllegalStateException("Reserved stock is lower than the reservation being released for raw material(s): "
+                    + unreleasedMaterialIds);
+        }
+    }
+
+    /**
+     * Reads the stock rows under a write lock held until commit, so the conditional updates in
+     * {@link #applyDraws} see exactly the stock the draws were planned against.
+     */
+    private Map<Long, MaterialDraw> draws(Collection<Long> materialIds) {
+        Map<Long, MaterialDraw> draws = new LinkedHashMap<>();
+        if (!materialIds.isEmpty()) {
+            for (MaterialStockRow row : rawMaterialRepository.findStockRowsForUpdate(materialIds)) {
+                draws.put(row.getIdMaterial(), new MaterialDraw(row));
+            }
+        }
+        return draws;
+    }
+
+    private void applyDraws(Map<Long, MaterialDraw> draws) {
+        draws.forEach((materialId, draw) -> {
+            if (draw.consumed > 0 && !rawMaterialRepository.tryConsumeStock(materialId, draw.consumed, draw.consumedFromReserve)) {
+                throw new IllegalStateException("Stock of raw material '" + draw.name + "' no longer covers the planned consumption");
+            }
+        });
+    }
+
+    private Map<Long, Integer> requiredMaterials(Long productId, Integer quantity) {
+        BomExplosion bom = bomCache.explode(productId);
+        Map<Long, Integer> requirements = new LinkedHashMap<>();
+        for (int i = 0; i < bom.size(); i++) {
+            requirements.put(bom.materialId(i), bom.quantityPerUnit(i) * quantity);
+        }
+        return requirements;
+    }
+
+    private IllegalStateException insufficientMaterials(List<Long> rejectedMaterialIds, Map<Long, Integer> requirements) {
+        List<String> insufficientMaterials = new ArrayList<>();
+
+        for (RawMaterial material : rawMaterialRepository.findAllById(rejectedMaterialIds)) {
+            insufficientMaterials.add(String.format(
+                    "%s (need %d, available %d)",
+                    material.getName(),
+                    requirements.get(material.getIdMaterial()),
+                    material.getStock() - material.getReservedStock()
+            ));
+        }
+
+        return new IllegalStateException("Insufficient materials for production: " + String.join(", ", insufficientMaterials));
+    }
+
+    private static final class MaterialDraw {
+
+        private final String name;
+        private int stock;
+        private int reserved;
+        private int consumed;
+        private int consumedFromReserve;
+
+        private MaterialDraw(MaterialStockRow row) {
+            this.name = row.getName();
+            this.stock = row.getStock();
+            this.reserved = row.getReservedStock();
+        }
+
+        // An order holding a reservation draws its requirement from it; whatever the reservation no
+        // longer covers, and everything an order without a reservation needs, is charged to unreserved
+        // stock, never to the reservations of other waiting orders.
+        private boolean canConsume(int quantity, boolean reservedForOrder) {
+            return available() >= quantity - fromReserve(quantity, reservedForOrder);
+        }
+
+        private void consume(int quantity, boolean reservedForOrder) {
+            int fromReserve = fromReserve(quantity, reservedForOrder);
+            reserved -= fromReserve;
+            consumedFromReserve += fromReserve;
+            stock -= quantity;
+            consumed += quantity;
+        }
+
+        private int fromReserve(int quantity, boolean reservedForOrder) {
+            return reservedForOrder ? Math.min(quantity, reserved) : 0;
+        }
+
+        private int available() {
+            return stock - reserved;
+        }
+    }
+}
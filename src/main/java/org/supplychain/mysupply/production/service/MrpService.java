@@ -0,0 +1,194 @@
+package org.supplychain.mysupply.production.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderDTO;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderLineDTO;
+import org.supplychain.mysupply.approvisionnement.enums.SupplyOrderStatus;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.SupplyOrderLineRepository;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialPriceRow;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialStockRow;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialSupplierRow;
+import org.supplychain.mysupply.approvisionnement.service.SupplierSelector;
+import org.supplychain.mysupply.approvisionnement.service.interf.ISupplyOrderService;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.projection.QuantityRow;
+import org.supplychain.mysupply.livraison.enums.CustomerOrderStatus;
+import org.supplychain.mysupply.livraison.repository.CustomerOrderLineRepository;
+import org.supplychain.mysupply.production.dto.MrpMaterialRequirementDTO;
+import org.supplychain.mysupply.production.dto.MrpProductRequirementDTO;
+import org.supplychain.mysupply.production.dto.MrpReportDTO;
+import org.supplychain.mysupply.production.dto.MrpSupplyProposalDTO;
+import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
+import org.supplychain.mysupply.production.repository.ProductRepository;
+import org.supplychain.mysupply.production.repository.ProductionOrderRepository;
+import org.supplychain.mysupply.production.repository.projection.ProductRow;
+import org.supplychain.mysupply.production.service.interf.IMrpService;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MrpService implements IMrpService {
+
+    private static final List<CustomerOrderStatus> OPEN_CUSTOMER_ORDER_STATUSES = List.of(CustomerOrderStatus.EN_PREPARATION);
+    private static final List<ProductionOrderStatus> PENDING_PRODUCTION_STATUSES =
+            List.of(ProductionOrderStatus.EN_ATTENTE, ProductionOrderStatus.EN_PRODUCTION);
+    private static final List<SupplyOrderStatus> IN_FLIGHT_SUPPLY_STATUSES =
+            List.of(SupplyOrderStatus.EN_ATTENTE, SupplyOrderStatus.EN_COURS);
+    private static final DateTimeFormatter ORDER_NUMBER_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final ProductRepository productRepository;
+    private final ProductionOrderRepository productionOrderRepository;
+    private final CustomerOrderLineRepository customerOrderLineRepository;
+    private final RawMaterialRepository rawMaterialRepository;
+    private final SupplyOrderLineRepository supplyOrderLineRepository;
+    private final ISupplyOrderService supplyOrderService;
+    private final SupplierSelector supplierSelector;
+    private final BomCache bomCache;
+
+    @Override
+    public MrpReportDTO plan() {
+        LocalDate planDate = LocalDate.now();
+        MrpReportDTO report = new MrpReportDTO();
+        report.setPlanDate(planDate);
+
+        List<ProductRow> products = productRepository.findAllRowsOrderById();
+        Map<Long, Integer> productIndex = indexOf(products.stream().map(ProductRow::getIdProduct).toList());
+        long[] openDemand = quantities(customerOrderLineRepository.sumQuantityByProduct(OPEN_CUSTOMER_ORDER_STATUSES), productIndex);
+        long[] pendingProduction = quantities(productionOrderRepository.sumQuantityByProduct(PENDING_PRODUCTION_STATUSES), productIndex);
+
+        long[] planned = new long[products.size()];
+        List<Long> plannedProductIds = new ArrayList<>();
+        for (int p = 0; p < products.size(); p++) {
+            ProductRow product = products.get(p);
+            planned[p] = Math.max(0, (long) product.getMinimumStock() - product.getStock() - pendingProduction[p]);
+            if (planned[p] > 0) {
+                plannedProductIds.add(product.getIdProduct());
+                report.getProductRequirements().add(new MrpProductRequirementDTO(product.getIdProduct(), product.getName(),
+                        product.getStock(), product.getMinimumStock(), openDemand[p], pendingProduction[p], planned[p]));
+            }
+        }
+
+        List<MaterialStockRow> materials = rawMaterialRepository.findAllStockRows();
+        Map<Long, Integer> materialIndex = indexOf(materials.stream().map(MaterialStockRow::getIdMaterial).toList());
+        long[] gross = new long[materials.size()];
+
+        Map<Long, BomExplosion> boms = bomCache.explodeAll(plannedProductIds);
+        for (Long productId : plannedProductIds) {
+            long quantity = planned[productIndex.get(productId)];
+            BomExplosion bom = boms.get(productId);
+            for (int i = 0; i < bom.size(); i++) {
+                Integer m = materialIndex.get(bom.materialId(i));
+                if (m != null) {
+                    gross[m] += quantity * bom.quantityPerUnit(i);
+                }
+            }
+        }
+
+        long[] scheduledReceipts = quantities(supplyOrderLineRepository.sumQuantityByMaterial(IN_FLIGHT_SUPPLY_STATUSES), materialIndex);
+        long[] net = new long[materials.size()];
+        List<Long> shortMaterialIds = new ArrayList<>();
+        for (int m = 0; m < materials.size(); m++) {
+            MaterialStockRow material = materials.get(m);
+            long available = (long) material.getStock() - material.getReservedStock();
+            net[m] = Math.max(0, gross[m] + material.getStockMin() - available - scheduledReceipts[m]);
+            if (net[m] > 0) {
+                shortMaterialIds.add(material.getIdMaterial());
+            }
+        }
+
+        if (shortMaterialIds.isEmpty()) {
+            return report;
+        }
+
+        Map<Long, MaterialSupplierRow> bestSuppliers = supplierSelector.bestSuppliers(rawMaterialRepository.findSupplierRows(shortMaterialIds));
+        Map<Long, BigDecimal> lastPrices = new HashMap<>();
+        for (MaterialPriceRow row : supplyOrderLineRepository.findLastUnitPrices(shortMaterialIds)) {
+            lastPrices.put(row.getMaterialId(), row.getUnitPrice());
+        }
+
+        Map<Long, MrpSupplyProposalDTO> proposals = new LinkedHashMap<>();
+        for (Long materialId : shortMaterialIds) {
+            int m = materialIndex.get(materialId);
+            MaterialStockRow material = materials.get(m);
+            MaterialSupplierRow supplier = bestSuppliers.get(materialId);
+
+            report.getMaterialRequirements().add(new MrpMaterialRequirementDTO(materialId, material.getName(), gross[m],
+                    material.getStockMin(), material.getStock() - material.getReservedStock(), scheduledReceipts[m], net[m],
+                    supplier != null ? supplier.getIdSupplier() : null));
+
+            BigDecimal unitPrice = lastPrices.get(materialId);
+            if (supplier == null || unitPrice == null) {
+                report.getUnsourcedMaterialIds().add(materialId);
+                continue;
+            }
+            proposals.computeIfAbsent(supplier.getIdSupplier(), id -> proposal(supplier, planDate))
+                    .getOrderLines()
+                    .add(new SupplyOrderLineDTO(null, materialId, (int) Math.min(net[m], Integer.MAX_VALUE), unitPrice));
+        }
+
+        report.getSupplyProposals().addAll(proposals.values());
+        return report;
+    }
+
+    @Override
+    @Transactional
+    public BulkImportReport draftSupplyOrders() {
+        MrpReportDTO report = plan();
+        String runId = LocalDateTime.now().format(ORDER_NUMBER_FORMAT);
+
+        List<SupplyOrderDTO> supplyOrders = new ArrayList<>();
+        for (MrpSupplyProposalDTO proposal : report.getSupplyProposals()) {
+            SupplyOrderDTO supplyOrder = new SupplyOrderDTO();
+            supplyOrder.setOrderNumber("MRP-" + runId + "-" + proposal.getSupplierId());
+            supplyOrder.setSupplierId(proposal.getSupplierId());
+            supplyOrder.setOrderDate(proposal.getOrderDate());
+            supplyOrder.setStatus(SupplyOrderStatus.EN_ATTENTE);
+            supplyOrder.setOrderLines(proposal.getOrderLines());
+            supplyOrders.add(supplyOrder);
+        }
+
+        return supplyOrderService.importSupplyOrders(supplyOrders);
+    }
+
+    private MrpSupplyProposalDTO proposal(MaterialSupplierRow supplier, LocalDate planDate) {
+        MrpSupplyProposalDTO proposal = new MrpSupplyProposalDTO();
+        proposal.setSupplierId(supplier.getIdSupplier());
+        proposal.setSupplierName(supplier.getName());
+        proposal.setLeadTime(supplier.getLeadTime());
+        proposal.setOrderDate(planDate);
+        proposal.setExpectedReceiptDate(planDate.plusDays(supplier.getLeadTime() != null ? supplier.getLeadTime() : 0));
+        return proposal;
+    }
+
+    private Map<Long, Integer> indexOf(List<Long> ids) {
+        Map<Long, Integer> index = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            index.put(ids.get(i), i);
+        }
+        return index;
+    }
+
+    private long[] quantities(List<QuantityRow> rows, Map<Long, Integer> index) {
+        long[] quantities = new long[index.size()];
+        for (QuantityRow row : rows) {
+            Integer i = index.get(row.getId());
+            if (i != null) {
+                quantities[i] = row.getQuantity();
+            }
+        }
+        return quantities;
+    }
+}
@@ -5,22 +5,31 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.supplychain.mysupply.approvisionnement.dto.RawMaterialResponseDTO;
 import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
 import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.service.RawMaterialReadModel;
 import org.supplychain.mysupply.common.exception.ResourceNotFoundException;
 import org.supplychain.mysupply.common.exception.UnauthorizedException;
 import org.supplychain.mysupply.production.dto.BillOfMaterialDTO;
+import org.supplychain.mysupply.production.dto.BillOfMaterialResponseDTO;
 import org.supplychain.mysupply.production.dto.ProductDTO;
 import org.supplychain.mysupply.production.dto.ProductResponseDTO;
+import org.supplychain.mysupply.production.mapper.BillOfMaterialMapper;
 import org.supplychain.mysupply.production.mapper.ProductMapper;
 import org.supplychain.mysupply.production.model.BillOfMaterial;
 import org.supplychain.mysupply.production.model.Product;
 import org.supplychain.mysupply.production.repository.BillOfMaterialRepository;
 import org.supplychain.mysupply.production.repository.ProductRepository;
+import org.supplychain.mysupply.production.repository.projection.BillOfMaterialRow;
+import org.supplychain.mysupply.production.repository.projection.ProductRow;
 import org.supplychain.mysupply.production.service.interf.IProductService;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +40,9 @@ public class ProductService implements IProductService {
     private final BillOfMaterialRepository billOfMaterialRepository;
     private final RawMaterialRepository rawMaterialRepository;
     private final ProductMapper productMapper;
+    private final BillOfMaterialMapper billOfMaterialMapper;
+    private final RawMaterialReadModel rawMaterialReadModel;
+    private final BomCache bomCache;
 
     @Override
     public ProductResponseDTO createProduct(ProductDTO productDTO) {
@@ -44,6 +56,7 @@ public class ProductService implements IProductService {
         if (productDTO.getBillOfMaterials() != null) {
             createBillOfMaterials(savedProduct, productDTO.getBillOfMaterials());
         }
+        bomCache.evict(savedProduct.getIdProduct());
 
         return productMapper.toResponseDTO(savedProduct);
     }
@@ -82,22 +95,19 @@ public class ProductService implements IProductService {
     @Override
     @Transactional(readOnly = true)
     public Page<ProductResponseDTO> getAllProducts(Pageable pageable) {
-        return productRepository.findAll(pageable)
-                .map(productMapper::toResponseDTO);
+        return toResponsePage(productRepository.findAllRows(pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ProductResponseDTO> searchProducts(String searchTerm, Pageable pageable) {
-        return productRepository.findByNameContainingIgnoreCase(searchTerm, pageable)
-                .map(productMapper::toResponseDTO);
+        return toResponsePage(productRepository.findRowsByNameContaining(searchTerm, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<ProductResponseDTO> getLowStockProducts(Pageable pageable) {
-        return productRepository.findLowStockProducts(pageable)
-                .map(productMapper::toResponseDTO);
+        return toResponsePage(productRepository.findLowStockRows(pageable));
     }
 
     @Override
@@ -137,5 +147,35 @@ public class ProductService implements IProductService {
         }
 
         productRepository.deleteById(id);
+        bomCache.evict(id);
+    }
+
+    private Page<ProductResponseDTO> toResponsePage(Page<ProductRow> rows) {
+        Map<Long, List<BillOfMaterialResponseDTO>> billOfMaterials =
+                billOfMaterialsByProduct(rows.map(ProductRow::getIdProduct).getContent());
+
+        return rows.map(row -> {
+            ProductResponseDTO responseDTO = productMapper.toResponseDTO(row);
+            responseDTO.setBillOfMaterials(billOfMaterials.getOrDefault(row.getIdProduct(), new ArrayList<>()));
+            return responseDTO;
+        });
+    }
+
+    private Map<Long, List<BillOfMaterialResponseDTO>> billOfMaterialsByProduct(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<BillOfMaterialRow> rows = billOfMaterialRepository.findRowsByProductIdIn(productIds);
+        Map<Long, RawMaterialResponseDTO> materials = rawMaterialReadModel.findByIds(rows.stream()
+                .map(BillOfMaterialRow::getMaterialId)
+                .collect(Collectors.toSet()));
+
+        Map<Long, List<BillOfMaterialResponseDTO>> billOfMaterials = new HashMap<>();
+        for (BillOfMaterialRow row : rows) {
+            billOfMaterials.computeIfAbsent(row.getProductId(), id -> new ArrayList<>())
+                    .add(billOfMaterialMapper.toResponseDTO(row, materials.get(row.getMaterialId())));
+        }
+        return billOfMaterials;
     }
 }
\ No newline at end of file
@@ -2,29 +2,36 @@ package org.supplychain.mysupply.production.service;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
-import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
 import org.supplychain.mysupply.common.exception.ResourceNotFoundException;
 import org.supplychain.mysupply.common.exception.UnauthorizedException;
 import org.supplychain.mysupply.production.dto.ProductionOrderDTO;
 import org.supplychain.mysupply.production.dto.ProductionOrderResponseDTO;
+import org.supplychain.mysupply.production.dto.ProductionOrderTransitionReportDTO;
+import org.supplychain.mysupply.production.dto.ProductionOrderTransitionResultDTO;
+import org.supplychain.mysupply.production.dto.ScheduledProductionOrderDTO;
 import org.supplychain.mysupply.production.enums.Priority;
 import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
 import org.supplychain.mysupply.production.mapper.ProductionOrderMapper;
-import org.supplychain.mysupply.production.model.BillOfMaterial;
 import org.supplychain.mysupply.production.model.Product;
 import org.supplychain.mysupply.production.model.ProductionOrder;
-import org.supplychain.mysupply.production.repository.BillOfMaterialRepository;
 import org.supplychain.mysupply.production.repository.ProductRepository;
 import org.supplychain.mysupply.production.repository.ProductionOrderRepository;
+import org.supplychain.mysupply.production.service.interf.IMaterialReservationService;
 import org.supplychain.mysupply.production.service.interf.IProductionOrderService;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,9 +40,9 @@ public class ProductionOrderService implements IProductionOrderService {
 
     private final ProductionOrderRepository productionOrderRepository;
     private final ProductRepository productRepository;
-    private final BillOfMaterialRepository billOfMaterialRepository;
-    private final RawMaterialRepository rawMaterialRepository;
+    private final IMaterialReservationService materialReservationService;
     private final ProductionOrderMapper productionOrderMapper;
+    private final ProductionScheduler productionScheduler;
 
     @Override
     public ProductionOrderResponseDTO createProductionOrder(ProductionOrderDTO productionOrderDTO) {
@@ -46,11 +53,12 @@ public class ProductionOrderService implements IProductionOrderService {
         Product product = productRepository.findById(productionOrderDTO.getProductId())
                 .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + productionOrderDTO.getProductId()));
 
-        validateMaterialAvailability(product, productionOrderDTO.getQuantity());
+        materialReservationService.reserveMaterials(product.getIdProduct(), productionOrderDTO.getQuantity());
 
         ProductionOrder productionOrder = productionOrderMapper.toEntity(productionOrderDTO);
         productionOrder.setProduct(product);
         productionOrder.setStatus(ProductionOrderStatus.EN_ATTENTE);
+        productionOrder.setMaterialsReserved(true);
         productionOrder.setPriority(productionOrderDTO.getPriority() != null ?
                 productionOrderDTO.getPriority() : Priority.STANDARD);
 
@@ -58,32 +66,10 @@ public class ProductionOrderService implements IProductionOrderService {
         productionOrder.setEstimatedProductionTimeHours(totalProductionTime);
 
         ProductionOrder savedOrder = productionOrderRepository.save(productionOrder);
+        productionScheduler.track(ProductionQueueEntry.of(savedOrder));
         return productionOrderMapper.toResponseDTO(savedOrder);
     }
 
-    private void validateMaterialAvailability(Product product, Integer orderQuantity) {
-        List<BillOfMaterial> requiredMaterials = billOfMaterialRepository.findByProductIdProduct(product.getIdProduct());
-        List<String> insufficientMaterials = new ArrayList<>();
-
-        for (BillOfMaterial bom : requiredMaterials) {
-            int requiredQuantity = bom.getQuantity() * orderQuantity;
-            int availableStock = bom.getMaterial().getStock();
-
-            if (availableStock < requiredQuantity) {
-                insufficientMaterials.add(String.format(
-                        "%s (need %d, available %d)",
-                        bom.getMaterial().getName(),
-                        requiredQuantity,
-                        availableStock
-                ));
-            }
-        }
-
-        if (!insufficientMaterials.isEmpty()) {
-            throw new IllegalStateException("Insufficient materials for production: " + String.join(", ", insufficientMaterials));
-        }
-    }
-
     @Override
     @Transactional(readOnly = true)
     public ProductionOrderResponseDTO getProductionOrderById(Long id) {
@@ -129,37 +115,21 @@ public class ProductionOrderService implements IProductionOrderService {
             throw new UnauthorizedException("Can only start production for orders in EN_ATTENTE status");
         }
 
-        validateMaterialAvailability(productionOrder.getProduct(), productionOrder.getQuantity());
-
-        consumeMaterials(productionOrder);
+        materialReservationService.consumeReservedMaterials(
+                productionOrder.getProduct().getIdProduct(), productionOrder.getQuantity(), holdsReservation(productionOrder));
 
         productionOrder.setStatus(ProductionOrderStatus.EN_PRODUCTION);
+        productionOrder.setMaterialsReserved(false);
         productionOrder.setStartDate(LocalDate.now());
         productionOrder.setEstimatedEndDate(
-                LocalDate.now().plusDays(calculateEstimatedDays(productionOrder.getEstimatedProductionTimeHours()))
+                productionScheduler.estimateEndDate(productionOrder.getEstimatedProductionTimeHours())
         );
 
         ProductionOrder updatedOrder = productionOrderRepository.save(productionOrder);
+        productionScheduler.track(ProductionQueueEntry.of(updatedOrder));
         return productionOrderMapper.toResponseDTO(updatedOrder);
     }
 
-    private void consumeMaterials(ProductionOrder productionOrder) {
-        List<BillOfMaterial> requiredMaterials = billOfMaterialRepository
-                .findByProductIdProduct(productionOrder.getProduct().getIdProduct());
-
-        for (BillOfMaterial bom : requiredMaterials) {
-            RawMaterial material = bom.getMaterial();
-            int requiredQuantity = bom.getQuantity() * productionOrder.getQuantity();
-
-            material.setStock(material.getStock() - requiredQuantity);
-            rawMaterialRepository.save(material);
-        }
-    }
-
-    private long calculateEstimatedDays(Integer estimatedHours) {
-        return Math.max(1, Math.round(estimatedHours / 8.0));
-    }
-
     @Override
     public ProductionOrderResponseDTO completeProduction(Long id) {
         ProductionOrder productionOrder = productionOrderRepository.findById(id)
@@ -169,14 +139,13 @@ public class ProductionOrderService implements IProductionOrderService {
             throw new UnauthorizedException("Can only complete orders that are in production");
         }
 
-        Product product = productionOrder.getProduct();
-        product.setStock(product.getStock() + productionOrder.getQuantity());
-        productRepository.save(product);
+        productRepository.incrementStock(productionOrder.getProduct().getIdProduct(), productionOrder.getQuantity());
 
         productionOrder.setStatus(ProductionOrderStatus.TERMINE);
         productionOrder.setActualEndDate(LocalDate.now());
 
         ProductionOrder updatedOrder = productionOrderRepository.save(productionOrder);
+        productionScheduler.track(ProductionQueueEntry.of(updatedOrder));
         return productionOrderMapper.toResponseDTO(updatedOrder);
     }
 
@@ -190,12 +159,133 @@ public class ProductionOrderService implements IProductionOrderService {
         } else if (newStatus == ProductionOrderStatus.TERMINE) {
             return completeProduction(id);
         } else {
+            if (reservesMaterials(newStatus) && !reservesMaterials(productionOrder.getStatus())) {
+                materialReservationService.reserveMaterials(
+                        productionOrder.getProduct().getIdProduct(), productionOrder.getQuantity());
+                productionOrder.setMaterialsReserved(true);
+            } else if (holdsReservation(productionOrder) && !reservesMaterials(newStatus)) {
+                materialReservationService.releaseMaterials(
+                        productionOrder.getProduct().getIdProduct(), productionOrder.getQuantity());
+                productionOrder.setMaterialsReserved(false);
+            }
             productionOrder.setStatus(newStatus);
             ProductionOrder updatedOrder = productionOrderRepository.save(productionOrder);
+            productionScheduler.track(ProductionQueueEntry.of(updatedOrder));
             return productionOrderMapper.toResponseDTO(updatedOrder);
         }
     }
 
+    @Override
+    public ProductionOrderTransitionReportDTO transitionProductionOrders(List<Long> orderIds, ProductionOrderStatus newStatus) {
+        Map<Long, ProductionOrder> ordersById = productionOrderRepository.findAllById(new HashSet<>(orderIds)).stream()
+                .collect(Collectors.toMap(ProductionOrder::getIdOrder, Function.identity()));
+
+        ProductionOrderTransitionResultDTO[] results = new ProductionOrderTransitionResultDTO[orderIds.size()];
+        Map<Long, Integer> indexes = new LinkedHashMap<>();
+        for (int i = 0; i < orderIds.size(); i++) {
+            Long id = orderIds.get(i);
+            ProductionOrder order = ordersById.get(id);
+            if (order == null) {
+                results[i] = ProductionOrderTransitionResultDTO.rejected(i, id, null, null,
+                        "Production order not found with id: " + id);
+            } else if (indexes.containsKey(id)) {
+                results[i] = rejected(i, order, "Duplicate production order id: " + id);
+            } else if (!canTransition(order, newStatus)) {
+                results[i] = rejected(i, order, newStatus == ProductionOrderStatus.EN_PRODUCTION
+                        ? "Can only start production for orders in EN_ATTENTE status"
+                        : "Can only complete orders that are in production");
+            } else {
+                indexes.put(id, i);
+            }
+        }
+
+        Map<Long, ProductionOrderStatus> previousStatuses = indexes.keySet().stream()
+                .collect(Collectors.toMap(Function.identity(), id -> ordersById.get(id).getStatus()));
+        List<ProductionOrder> transitioned = indexes.keySet().stream().map(ordersById::get).toList();
+        if (newStatus == ProductionOrderStatus.EN_PRODUCTION) {
+            Map<Long, String> rejections = materialReservationService.consumeReservedMaterials(transitioned);
+            rejections.forEach((id, error) -> {
+                int index = indexes.remove(id);
+                results[index] = rejected(index, ordersById.get(id), error);
+            });
+            transitioned = indexes.keySet().stream().map(ordersById::get).toList();
+            startAll(transitioned);
+        } else if (newStatus == ProductionOrderStatus.TERMINE) {
+            completeAll(transitioned);
+        } else {
+            for (ProductionOrder order : List.copyOf(transitioned)) {
+                if (reservesMaterials(newStatus) && !reservesMaterials(order.getStatus())) {
+                    if (!materialReservationService.tryReserveMaterials(order.getProduct().getIdProduct(), order.getQuantity())) {
+                        int index = indexes.remove(order.getIdOrder());
+                        results[index] = rejected(index, order,
+                                "Insufficient materials to reserve for production order: " + order.getOrderNumber());
+                        continue;
+                    }
+                    order.setMaterialsReserved(true);
+                } else if (holdsReservation(order) && !reservesMaterials(newStatus)) {
+                    materialReservationService.releaseMaterials(order.getProduct().getIdProduct(), order.getQuantity());
+                    order.setMaterialsReserved(false);
+                }
+                order.setStatus(newStatus);
+            }
+            transitioned = indexes.keySet().stream().map(ordersById::get).toList();
+        }
+
+        for (ProductionOrder order : transitioned) {
+            int index = indexes.get(order.getIdOrder());
+            results[index] = ProductionOrderTransitionResultDTO.transitioned(index, order.getIdOrder(), order.getOrderNumber(),
+                    previousStatuses.get(order.getIdOrder()), order.getStatus());
+            productionScheduler.track(ProductionQueueEntry.of(order));
+        }
+        return new ProductionOrderTransitionReportDTO(newStatus, Arrays.asList(results));
+    }
+
+    private static ProductionOrderTransitionResultDTO rejected(int index, ProductionOrder order, String error) {
+        return ProductionOrderTransitionResultDTO.rejected(index, order.getIdOrder(), order.getOrderNumber(), order.getStatus(), error);
+    }
+
+    /**
+     * Only orders waiting to start hold a reservation: blocked orders give theirs back and
+     * reserve again when they are released, started orders have consumed it.
+     */
+    private static boolean reservesMaterials(ProductionOrderStatus status) {
+        return status == ProductionOrderStatus.EN_ATTENTE;
+    }
+
+    private static boolean holdsReservation(ProductionOrder order) {
+        return Boolean.TRUE.equals(order.getMaterialsReserved());
+    }
+
+    private boolean canTransition(ProductionOrder order, ProductionOrderStatus newStatus) {
+        return switch (newStatus) {
+            case EN_PRODUCTION -> order.getStatus() == ProductionOrderStatus.EN_ATTENTE;
+            case TERMINE -> order.getStatus() == ProductionOrderStatus.EN_PRODUCTION;
+            default -> true;
+        };
+    }
+
+    private void startAll(List<ProductionOrder> orders) {
+        List<LocalDate> endDates = productionScheduler.estimateEndDates(
+                orders.stream().map(ProductionOrder::getEstimatedProductionTimeHours).toList());
+        for (int i = 0; i < orders.size(); i++) {
+            ProductionOrder order = orders.get(i);
+            order.setStatus(ProductionOrderStatus.EN_PRODUCTION);
+            order.setMaterialsReserved(false);
+            order.setStartDate(LocalDate.now());
+            order.setEstimatedEndDate(endDates.get(i));
+        }
+    }
+
+    private void completeAll(List<ProductionOrder> orders) {
+        Map<Long, Integer> producedByProduct = new LinkedHashMap<>();
+        for (ProductionOrder order : orders) {
+            producedByProduct.merge(order.getProduct().getIdProduct(), order.getQuantity(), Integer::sum);
+            order.setStatus(ProductionOrderStatus.TERMINE);
+            order.setActualEndDate(LocalDate.now());
+        }
+        producedByProduct.forEach(productRepository::incrementStock);
+    }
+
     @Override
     public void deleteProductionOrder(Long id) {
         ProductionOrder productionOrder = productionOrderRepository.findById(id)
@@ -209,6 +299,45 @@ public class ProductionOrderService implements IProductionOrderService {
             throw new UnauthorizedException("Cannot delete completed production order");
         }
 
+        if (holdsReservation(productionOrder)) {
+            materialReservationService.releaseMaterials(
+                    productionOrder.getProduct().getIdProduct(), productionOrder.getQuantity());
+        }
+
         productionOrderRepository.deleteById(id);
+        productionScheduler.untrack(id);
+    }
+
+    @Override
+    public int releaseBlockedOrders(Collection<Long> materialIds) {
+        if (materialIds.isEmpty()) {
+            return 0;
+        }
+
+        int released = 0;
+        for (ProductionOrder order : productionOrderRepository.findBlockedCoveredByAvailableStock(
+                materialIds, ProductionOrderStatus.BLOQUE)) {
+            if (materialReservationService.tryReserveMaterials(order.getProduct().getIdProduct(), order.getQuantity())) {
+                order.setStatus(ProductionOrderStatus.EN_ATTENTE);
+                order.setMaterialsReserved(true);
+                productionScheduler.track(ProductionQueueEntry.of(order));
+                released++;
+            }
+        }
+        return released;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ScheduledProductionOrderDTO> getProductionSchedule(Pageable pageable) {
+        List<ProductionSlot> slots = productionScheduler.schedule().slots();
+        int from = (int) Math.min(pageable.getOffset(), slots.size());
+        int to = Math.min(from + pageable.getPageSize(), slots.size());
+
+        List<ScheduledProductionOrderDTO> content = slots.subList(from, to).stream()
+                .map(slot -> new ScheduledProductionOrderDTO(slot.idOrder(), slot.orderNumber(), slot.priority(),
+                        slot.line(), slot.plannedStartDate(), slot.plannedEndDate()))
+                .toList();
+        return new PageImpl<>(content, pageable, slots.size());
     }
-}
\ No newline at end of file
+}
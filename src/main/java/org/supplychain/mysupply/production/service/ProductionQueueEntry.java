@@ -0,0 +1,36 @@
+package org.supplychain.mysupply.production.service;
+
+import org.supplychain.mysupply.production.enums.Priority;
+import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
+import org.supplychain.mysupply.production.model.ProductionOrder;
+import org.supplychain.mysupply.production.repository.projection.ProductionOrderScheduleRow;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+public record ProductionQueueEntry(Long idOrder, String orderNumber, ProductionOrderStatus status, Priority priority,
+                                   LocalDate orderDate, LocalDate startDate, int hours) {
+
+    public static final Comparator<ProductionQueueEntry> QUEUE_ORDER = Comparator
+            .comparing(ProductionQueueEntry::priority, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ProductionQueueEntry::orderDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ProductionQueueEntry::idOrder);
+
+    public static ProductionQueueEntry of(ProductionOrder order) {
+        return new ProductionQueueEntry(order.getIdOrder(), order.getOrderNumber(), order.getStatus(), order.getPriority(),
+                order.getOrderDate(), order.getStartDate(), hoursOf(order.getEstimatedProductionTimeHours()));
+    }
+
+    public static ProductionQueueEntry of(ProductionOrderScheduleRow row) {
+        return new ProductionQueueEntry(row.getIdOrder(), row.getOrderNumber(), row.getStatus(), row.getPriority(),
+                row.getOrderDate(), row.getStartDate(), hoursOf(row.getEstimatedProductionTimeHours()));
+    }
+
+    public ProductionQueueEntry withStatus(ProductionOrderStatus newStatus) {
+        return new ProductionQueueEntry(idOrder, orderNumber, newStatus, priority, orderDate, startDate, hours);
+    }
+
+    private static int hoursOf(Integer hours) {
+        return hours != null ? Math.max(0, hours) : 0;
+    }
+}
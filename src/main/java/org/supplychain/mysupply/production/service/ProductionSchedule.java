@@ -0,0 +1,11 @@
+package org.supplychain.mysupply.production.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record ProductionSchedule(LocalDate origin, int lines, List<ProductionSlot> slots) {
+
+    public int size() {
+        return slots.size();
+    }
+}
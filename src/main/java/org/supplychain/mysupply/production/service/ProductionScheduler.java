@@ -0,0 +1,248 @@
+package org.supplychain.mysupply.production.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
+import org.supplychain.mysupply.production.repository.ProductionOrderRepository;
+import org.supplychain.mysupply.production.repository.projection.ProductionOrderScheduleRow;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+@Component
+public class ProductionScheduler {
+
+    private static final List<ProductionOrderStatus> SCHEDULED_STATUSES =
+            List.of(ProductionOrderStatus.EN_ATTENTE, ProductionOrderStatus.EN_PRODUCTION);
+    private static final Comparator<ProductionQueueEntry> RUNNING_ORDER = Comparator
+            .comparing(ProductionQueueEntry::startDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ProductionQueueEntry::idOrder);
+    private static final int CHECKPOINT_INTERVAL = 1024;
+
+    private final ProductionOrderRepository productionOrderRepository;
+    private final int lines;
+    private final int hoursPerDay;
+
+    private final NavigableSet<ProductionQueueEntry> waiting = new TreeSet<>(ProductionQueueEntry.QUEUE_ORDER);
+    private final Map<Long, ProductionQueueEntry> waitingById = new HashMap<>();
+    private final Map<Long, ProductionQueueEntry> running = new HashMap<>();
+    private boolean loaded;
+    private boolean runningChanged;
+    private ProductionQueueEntry dirtyFrom;
+    private Plan plan;
+
+    public ProductionScheduler(ProductionOrderRepository productionOrderRepository,
+                               @Value("${production-scheduling.lines:2}") int lines,
+                               @Value("${production-scheduling.hours-per-day:8}") int hoursPerDay) {
+        if (lines < 1 || hoursPerDay < 1) {
+            throw new IllegalArgumentException("Production scheduling needs at least one line and one hour per day");
+        }
+        this.productionOrderRepository = productionOrderRepository;
+        this.lines = lines;
+        this.hoursPerDay = hoursPerDay;
+    }
+
+    public synchronized ProductionSchedule schedule() {
+        ensureLoaded();
+        LocalDate today = LocalDate.now();
+
+        if (plan == null || runningChanged || !plan.origin().equals(today)) {
+            plan = replan(today, -1);
+        } else if (dirtyFrom != null) {
+            plan = replan(today, lastCheckpointBefore(dirtyFrom));
+        }
+
+        runningChanged = false;
+        dirtyFrom = null;
+        return plan.schedule();
+    }
+
+    public LocalDate estimateEndDate(Integer hours) {
+        return estimateEndDates(Collections.singletonList(hours)).get(0);
+    }
+
+    public synchronized List<LocalDate> estimateEndDates(List<Integer> hours) {
+        ensureLoaded();
+        LocalDate today = LocalDate.now();
+        long[] lineFree = runningLoad(today);
+
+        List<LocalDate> endDates = new ArrayList<>(hours.size());
+        for (Integer orderHours : hours) {
+            int line = earliestLine(lineFree);
+            long start = lineFree[line];
+            lineFree[line] = start + (orderHours != null ? Math.max(0, orderHours) : 0);
+            endDates.add(endDateOf(today, start, lineFree[line]));
+        }
+        return endDates;
+    }
+
+    public void track(ProductionQueueEntry entry) {
+        afterCommit(() -> apply(entry));
+    }
+
+    public void untrack(Long idOrder) {
+        afterCommit(() -> remove(idOrder));
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private synchronized void apply(ProductionQueueEntry entry) {
+        if (!loaded) {
+            return;
+        }
+
+        remove(entry.idOrder());
+        if (entry.status() == ProductionOrderStatus.EN_ATTENTE) {
+            waiting.add(entry);
+            waitingById.put(entry.idOrder(), entry);
+            markDirty(entry);
+        } else if (entry.status() == ProductionOrderStatus.EN_PRODUCTION) {
+            running.put(entry.idOrder(), entry);
+            runningChanged = true;
+        }
+    }
+
+    private synchronized void remove(Long idOrder) {
+        if (!loaded) {
+            return;
+        }
+
+        ProductionQueueEntry queued = waitingById.remove(idOrder);
+        if (queued != null) {
+            waiting.remove(queued);
+            markDirty(queued);
+        }
+        if (running.remove(idOrder) != null) {
+            runningChanged = true;
+        }
+    }
+
+    private void markDirty(ProductionQueueEntry entry) {
+        if (dirtyFrom == null || ProductionQueueEntry.QUEUE_ORDER.compare(entry, dirtyFrom) < 0) {
+            dirtyFrom = entry;
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+
+        for (ProductionOrderScheduleRow row : productionOrderRepository.findScheduleRows(SCHEDULED_STATUSES)) {
+            ProductionQueueEntry entry = ProductionQueueEntry.of(row);
+            if (entry.status() == ProductionOrderStatus.EN_ATTENTE) {
+                waiting.add(entry);
+                waitingById.put(entry.idOrder(), entry);
+            } else {
+                running.put(entry.idOrder(), entry);
+            }
+        }
+        loaded = true;
+    }
+
+    private int lastCheckpointBefore(ProductionQueueEntry entry) {
+        List<Checkpoint> checkpoints = plan.checkpoints();
+        int resume = -1;
+        for (int i = 0; i < checkpoints.size(); i++) {
+            if (ProductionQueueEntry.QUEUE_ORDER.compare(checkpoints.get(i).first(), entry) >= 0) {
+                break;
+            }
+            resume = i;
+        }
+        return resume;
+    }
+
+    private Plan replan(LocalDate origin, int resumeAt) {
+        List<ProductionSlot> slots = new ArrayList<>(waiting.size());
+        List<Checkpoint> checkpoints = new ArrayList<>();
+        Iterable<ProductionQueueEntry> remaining = waiting;
+        long[] lineFree;
+        int index = 0;
+
+        if (resumeAt < 0) {
+            lineFree = runningLoad(origin);
+        } else {
+            Checkpoint resume = plan.checkpoints().get(resumeAt);
+            slots.addAll(plan.schedule().slots().subList(0, resume.index()));
+            checkpoints.addAll(plan.checkpoints().subList(0, resumeAt));
+            remaining = waiting.tailSet(resume.first(), true);
+            lineFree = resume.lineFree().clone();
+            index = resume.index();
+        }
+
+        for (ProductionQueueEntry entry : remaining) {
+            if (index % CHECKPOINT_INTERVAL == 0) {
+                checkpoints.add(new Checkpoint(entry, index, lineFree.clone()));
+            }
+
+            int line = earliestLine(lineFree);
+            long start = lineFree[line];
+            long end = start + entry.hours();
+            lineFree[line] = end;
+
+            slots.add(new ProductionSlot(entry.idOrder(), entry.orderNumber(), entry.priority(), line + 1,
+                    dateOf(origin, start), endDateOf(origin, start, end)));
+            index++;
+        }
+
+        return new Plan(origin, new ProductionSchedule(origin, lines, Collections.unmodifiableList(slots)), checkpoints);
+    }
+
+    private long[] runningLoad(LocalDate origin) {
+        long[] lineFree = new long[lines];
+        running.values().stream()
+                .sorted(RUNNING_ORDER)
+                .forEach(entry -> {
+                    long elapsed = entry.startDate() != null
+                            ? Math.max(0, ChronoUnit.DAYS.between(entry.startDate(), origin)) * hoursPerDay
+                            : 0;
+                    lineFree[earliestLine(lineFree)] += Math.max(0, entry.hours() - elapsed);
+                });
+        return lineFree;
+    }
+
+    private int earliestLine(long[] lineFree) {
+        int earliest = 0;
+        for (int line = 1; line < lineFree.length; line++) {
+            if (lineFree[line] < lineFree[earliest]) {
+                earliest = line;
+            }
+        }
+        return earliest;
+    }
+
+    private LocalDate dateOf(LocalDate origin, long hour) {
+        return origin.plusDays(hour / hoursPerDay);
+    }
+
+    private LocalDate endDateOf(LocalDate origin, long start, long end) {
+        return dateOf(origin, Math.max(start, end - 1));
+    }
+
+    private record Checkpoint(ProductionQueueEntry first, int index, long[] lineFree) {
+    }
+
+    private record Plan(LocalDate origin, ProductionSchedule schedule, List<Checkpoint> checkpoints) {
+    }
+}
@@ -0,0 +1,173 @@
+package org.supplychain.mysupply.production.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialStockRow;
+import org.supplychain.mysupply.common.exception.ResourceNotFoundException;
+import org.supplychain.mysupply.production.dto.BuildableProductDTO;
+import org.supplychain.mysupply.production.dto.MaterialShortageDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationLineDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationResponseDTO;
+import org.supplychain.mysupply.production.repository.ProductRepository;
+import org.supplychain.mysupply.production.repository.projection.ProductRow;
+import org.supplychain.mysupply.production.service.interf.IProductionSimulationService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductionSimulationService implements IProductionSimulationService {
+
+    private final ProductRepository productRepository;
+    private final RawMaterialRepository rawMaterialRepository;
+    private final BomCache bomCache;
+
+    @Override
+    public ProductionSimulationResponseDTO simulate(ProductionSimulationDTO simulationDTO) {
+        Map<Long, Integer> requested = new LinkedHashMap<>();
+        for (ProductionSimulationLineDTO line : simulationDTO.getLines()) {
+            requested.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+        }
+
+        Map<Long, ProductRow> products = new HashMap<>();
+        for (ProductRow row : productRepository.findRowsByIdIn(requested.keySet())) {
+            products.put(row.getIdProduct(), row);
+        }
+        for (Long productId : requested.keySet()) {
+            if (!products.containsKey(productId)) {
+                throw new ResourceNotFoundException("Product not found with id: " + productId);
+            }
+        }
+
+        Map<Long, BomExplosion> boms = bomCache.explodeAll(requested.keySet());
+        MaterialStock stock = new MaterialStock(rawMaterialRepository.findStockRowsByIdIn(materialIds(boms.values())));
+        long[] demand = new long[stock.size()];
+
+        List<BuildableProductDTO> results = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : requested.entrySet()) {
+            BomExplosion bom = boms.get(entry.getKey());
+            BuildableProductDTO result = maxBuildable(products.get(entry.getKey()), bom, stock);
+            result.setRequestedQuantity(entry.getValue());
+            results.add(result);
+
+            for (int i = 0; i < bom.size(); i++) {
+                int index = stock.indexOf(bom.materialId(i));
+                if (index >= 0) {
+                    demand[index] += (long) bom.quantityPerUnit(i) * entry.getValue();
+                }
+            }
+        }
+
+        List<MaterialShortageDTO> shortages = new ArrayList<>();
+        for (int i = 0; i < demand.length; i++) {
+            if (demand[i] > stock.available[i]) {
+                shortages.add(new MaterialShortageDTO(stock.materialIds[i], stock.names[i],
+                        demand[i], stock.available[i], demand[i] - stock.available[i]));
+            }
+        }
+
+        return new ProductionSimulationResponseDTO(shortages.isEmpty(), results, shortages);
+    }
+
+    @Override
+    public List<BuildableProductDTO> getMaxBuildable() {
+        List<ProductRow> products = productRepository.findAllRowsOrderById();
+        List<Long> productIds = new ArrayList<>(products.size());
+        for (ProductRow product : products) {
+            productIds.add(product.getIdProduct());
+        }
+
+        Map<Long, BomExplosion> boms = bomCache.explodeAll(productIds);
+        MaterialStock stock = new MaterialStock(rawMaterialRepository.findAllStockRows());
+
+        List<BuildableProductDTO> results = new ArrayList<>(products.size());
+        for (ProductRow product : products) {
+            results.add(maxBuildable(product, boms.get(product.getIdProduct()), stock));
+        }
+        return results;
+    }
+
+    private BuildableProductDTO maxBuildable(ProductRow product, BomExplosion bom, MaterialStock stock) {
+        long maxUnits = Long.MAX_VALUE;
+        int bottleneck = -1;
+
+        for (int i = 0; i < bom.size(); i++) {
+            int perUnit = bom.quantityPerUnit(i);
+            if (perUnit <= 0) {
+                continue;
+            }
+
+            int index = stock.indexOf(bom.materialId(i));
+            long units = index < 0 ? 0 : stock.available[index] / perUnit;
+            if (units < maxUnits) {
+                maxUnits = units;
+                bottleneck = index;
+            }
+        }
+
+        BuildableProductDTO result = new BuildableProductDTO();
+        result.setProductId(product.getIdProduct());
+        result.setProductName(product.getName());
+        if (maxUnits != Long.MAX_VALUE) {
+            result.setMaxBuildable((int) Math.min(maxUnits, Integer.MAX_VALUE));
+        }
+        if (bottleneck >= 0) {
+            result.setBottleneckMaterialId(stock.materialIds[bottleneck]);
+            result.setBottleneckMaterialName(stock.names[bottleneck]);
+        }
+        return result;
+    }
+
+    private Set<Long> materialIds(Collection<BomExplosion> boms) {
+        Set<Long> materialIds = new HashSet<>();
+        for (BomExplosion bom : boms) {
+            for (long materialId : bom.materialIds()) {
+                materialIds.add(materialId);
+            }
+        }
+        return materialIds;
+    }
+
+    private static final class MaterialStock {
+
+        private final Map<Long, Integer> indexById;
+        private final long[] materialIds;
+        private final String[] names;
+        private final int[] available;
+
+        private MaterialStock(List<MaterialStockRow> rows) {
+            indexById = new HashMap<>(rows.size() * 2);
+            materialIds = new long[rows.size()];
+            names = new String[rows.size()];
+            available = new int[rows.size()];
+
+            for (int i = 0; i < rows.size(); i++) {
+                MaterialStockRow row = rows.get(i);
+                indexById.put(row.getIdMaterial(), i);
+                materialIds[i] = row.getIdMaterial();
+                names[i] = row.getName();
+                available[i] = Math.max(0, row.getStock() - row.getReservedStock());
+            }
+        }
+
+        private int size() {
+            return materialIds.length;
+        }
+
+        private int indexOf(long materialId) {
+            Integer index = indexById.get(materialId);
+            return index != null ? index : -1;
+        }
+    }
+}
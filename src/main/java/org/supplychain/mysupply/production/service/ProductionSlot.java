@@ -0,0 +1,9 @@
+package org.supplychain.mysupply.production.service;
+
+import org.supplychain.mysupply.production.enums.Priority;
+
+import java.time.LocalDate;
+
+public record ProductionSlot(Long idOrder, String orderNumber, Priority priority, int line,
+                             LocalDate plannedStartDate, LocalDate plannedEndDate) {
+}
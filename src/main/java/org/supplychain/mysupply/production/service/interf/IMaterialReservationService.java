@@ -0,0 +1,19 @@
+package org.supplychain.mysupply.production.service.interf;
+
+import org.supplychain.mysupply.production.model.ProductionOrder;
+
+import java.util.List;
+import java.util.Map;
+
+public interface IMaterialReservationService {
+
+    void reserveMaterials(Long productId, Integer quantity);
+
+    boolean tryReserveMaterials(Long productId, Integer quantity);
+
+    void consumeReservedMaterials(Long productId, Integer quantity, boolean reserved);
+
+    Map<Long, String> consumeReservedMaterials(List<ProductionOrder> orders);
+
+    void releaseMaterials(Long productId, Integer quantity);
+}
@@ -0,0 +1,11 @@
+package org.supplychain.mysupply.production.service.interf;
+
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.production.dto.MrpReportDTO;
+
+public interface IMrpService {
+
+    MrpReportDTO plan();
+
+    BulkImportReport draftSupplyOrders();
+}
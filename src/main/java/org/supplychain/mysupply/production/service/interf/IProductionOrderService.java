@@ -4,9 +4,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.supplychain.mysupply.production.dto.ProductionOrderDTO;
 import org.supplychain.mysupply.production.dto.ProductionOrderResponseDTO;
+import org.supplychain.mysupply.production.dto.ProductionOrderTransitionReportDTO;
+import org.supplychain.mysupply.production.dto.ScheduledProductionOrderDTO;
 import org.supplychain.mysupply.production.enums.Priority;
 import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface IProductionOrderService {
 
     ProductionOrderResponseDTO createProductionOrder(ProductionOrderDTO productionOrderDTO);
@@ -27,5 +32,11 @@ public interface IProductionOrderService {
 
     ProductionOrderResponseDTO updateProductionOrderStatus(Long id, ProductionOrderStatus newStatus);
 
+    ProductionOrderTransitionReportDTO transitionProductionOrders(List<Long> orderIds, ProductionOrderStatus newStatus);
+
     void deleteProductionOrder(Long id);
+
+    int releaseBlockedOrders(Collection<Long> materialIds);
+
+    Page<ScheduledProductionOrderDTO> getProductionSchedule(Pageable pageable);
 }
\ No newline at end of file
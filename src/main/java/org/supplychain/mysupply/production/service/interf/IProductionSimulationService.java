@@ -0,0 +1,14 @@
+package org.supplychain.mysupply.production.service.interf;
+
+import org.supplychain.mysupply.production.dto.BuildableProductDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationResponseDTO;
+
+import java.util.List;
+
+public interface IProductionSimulationService {
+
+    ProductionSimulationResponseDTO simulate(ProductionSimulationDTO simulationDTO);
+
+    List<BuildableProductDTO> getMaxBuildable();
+}
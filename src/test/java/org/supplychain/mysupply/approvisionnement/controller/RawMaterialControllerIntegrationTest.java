@@ -7,13 +7,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 import org.supplychain.mysupply.approvisionnement.dto.RawMaterialDTO;
 import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
+import org.supplychain.mysupply.approvisionnement.model.Supplier;
 import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.SupplierRepository;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +40,9 @@ class RawMaterialControllerIntegrationTest {
     @Autowired
     private RawMaterialRepository rawMaterialRepository;
 
+    @Autowired
+    private SupplierRepository supplierRepository;
+
     @BeforeEach
     void setUp() {
         rawMaterialRepository.deleteAll();
@@ -44,7 +54,6 @@ class RawMaterialControllerIntegrationTest {
         materialDTO.setName("Steel");
         materialDTO.setDescription("High quality steel");
         materialDTO.setStock(100);
-        materialDTO.setReservedStock(0);
         materialDTO.setStockMin(10);
         materialDTO.setUnit("kg");
 
@@ -64,7 +73,6 @@ class RawMaterialControllerIntegrationTest {
     void createRawMaterial_WhenNameMissing_ShouldReturn400() throws Exception {
         RawMaterialDTO materialDTO = new RawMaterialDTO();
         materialDTO.setStock(100);
-        materialDTO.setReservedStock(0);
         materialDTO.setStockMin(10);
         materialDTO.setUnit("kg");
 
@@ -87,7 +95,6 @@ class RawMaterialControllerIntegrationTest {
         RawMaterialDTO materialDTO = new RawMaterialDTO();
         materialDTO.setName("Aluminum");
         materialDTO.setStock(100);
-        materialDTO.setReservedStock(0);
         materialDTO.setStockMin(10);
         materialDTO.setUnit("kg");
 
@@ -147,6 +154,34 @@ class RawMaterialControllerIntegrationTest {
                 .andExpect(jsonPath("$.content[*].name", containsInAnyOrder("Steel", "Aluminum")));
     }
 
+    @Test
+    @WithMockUser(roles = "GESTIONNAIRE_APPROVISIONNEMENT")
+    void getAllRawMaterials_ShouldReturnSuppliersAndAvailableStockFromProjection() throws Exception {
+        Supplier supplier = new Supplier();
+        supplier.setName("Projection Metals");
+        supplier.setContact("Sara Idrissi");
+        supplier.setEmail("sales@projection-metals.ma");
+        supplier = supplierRepository.save(supplier);
+
+        RawMaterial material = new RawMaterial();
+        material.setName("Titanium");
+        material.setStock(80);
+        material.setReservedStock(30);
+        material.setStockMin(10);
+        material.setUnit("kg");
+        material.setSuppliers(new ArrayList<>(List.of(supplier)));
+        rawMaterialRepository.save(material);
+
+        mockMvc.perform(get("/api/raw-materials"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name").value("Titanium"))
+                .andExpect(jsonPath("$.content[0].availableStock").value(50))
+                .andExpect(jsonPath("$.content[0].lowStock").value(false))
+                .andExpect(jsonPath("$.content[0].suppliers", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].suppliers[0].name").value("Projection Metals"));
+    }
+
     @Test
     void searchRawMaterials_WhenSearchTermMatches_ShouldReturnMatchingMaterials() throws Exception {
         RawMaterial material1 = new RawMaterial();
@@ -197,6 +232,34 @@ class RawMaterialControllerIntegrationTest {
                 .andExpect(jsonPath("$.content[0].lowStock").value(true));
     }
 
+    @Test
+    @WithMockUser(roles = "GESTIONNAIRE_APPROVISIONNEMENT")
+    void getLowStockMaterials_WhenStockCrossesMinimum_ShouldReflectLatestStock() throws Exception {
+        RawMaterial material = new RawMaterial();
+        material.setName("Copper");
+        material.setStock(40);
+        material.setReservedStock(0);
+        material.setStockMin(10);
+        material.setUnit("kg");
+        RawMaterial savedMaterial = rawMaterialRepository.save(material);
+
+        assertThat(rawMaterialRepository.tryConsumeAvailableStock(savedMaterial.getIdMaterial(), 35)).isTrue();
+
+        mockMvc.perform(get("/api/raw-materials/low-stock"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name").value("Copper"))
+                .andExpect(jsonPath("$.content[0].stock").value(5));
+
+        mockMvc.perform(patch("/api/raw-materials/{id}/stock", savedMaterial.getIdMaterial())
+                        .param("newStock", "25"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/raw-materials/low-stock"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(0)));
+    }
+
     @Test
     void updateRawMaterial_WhenValidData_ShouldReturn200AndUpdatedMaterial() throws Exception {
         RawMaterial material = new RawMaterial();
@@ -211,7 +274,6 @@ class RawMaterialControllerIntegrationTest {
         updateDTO.setName("Updated Steel");
         updateDTO.setDescription("Updated description");
         updateDTO.setStock(200);
-        updateDTO.setReservedStock(10);
         updateDTO.setStockMin(20);
         updateDTO.setUnit("kg");
 
@@ -228,7 +290,6 @@ class RawMaterialControllerIntegrationTest {
         RawMaterialDTO updateDTO = new RawMaterialDTO();
         updateDTO.setName("Steel");
         updateDTO.setStock(100);
-        updateDTO.setReservedStock(0);
         updateDTO.setStockMin(10);
         updateDTO.setUnit("kg");
 
@@ -1,12 +1,14 @@
 package org.supplychain.mysupply.approvisionnement.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,12 +22,22 @@ import org.supplychain.mysupply.approvisionnement.model.SupplyOrderLine;
 import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
 import org.supplychain.mysupply.approvisionnement.repository.SupplierRepository;
 import org.supplychain.mysupply.approvisionnement.repository.SupplyOrderRepository;
+import org.supplychain.mysupply.approvisionnement.service.interf.IStockReceiptService;
+import org.supplychain.mysupply.production.enums.Priority;
+import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
+import org.supplychain.mysupply.production.model.BillOfMaterial;
+import org.supplychain.mysupply.production.model.Product;
+import org.supplychain.mysupply.production.model.ProductionOrder;
+import org.supplychain.mysupply.production.repository.BillOfMaterialRepository;
+import org.supplychain.mysupply.production.repository.ProductRepository;
+import org.supplychain.mysupply.production.repository.ProductionOrderRepository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -51,6 +63,21 @@ class SupplyOrderControllerIntegrationTest {
     @Autowired
     private RawMaterialRepository rawMaterialRepository;
 
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BillOfMaterialRepository billOfMaterialRepository;
+
+    @Autowired
+    private ProductionOrderRepository productionOrderRepository;
+
+    @Autowired
+    private IStockReceiptService stockReceiptService;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Supplier testSupplier;
     private RawMaterial testMaterial;
 
@@ -264,7 +291,8 @@ class SupplyOrderControllerIntegrationTest {
     }
 
     @Test
-    void updateSupplyOrderStatus_WhenStatusIsRECUE_ShouldUpdateMaterialStock() throws Exception {
+    @WithMockUser(roles = "GESTIONNAIRE_APPROVISIONNEMENT")
+    void updateSupplyOrderStatus_WhenStatusIsRECUE_ShouldApplyStockOnceReceiptIsProcessed() throws Exception {
         SupplyOrderLine orderLine = new SupplyOrderLine();
         orderLine.setRawMaterial(testMaterial);
         orderLine.setQuantity(50);
@@ -288,8 +316,109 @@ class SupplyOrderControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.status").value("RECUE"));
 
+        entityManager.flush();
+        entityManager.clear();
+        assertThat(rawMaterialRepository.findById(testMaterial.getIdMaterial()).orElseThrow().getStock())
+                .isEqualTo(initialStock);
+
+        assertThat(stockReceiptService.processPendingReceipts()).isEqualTo(1);
+        entityManager.clear();
+
         RawMaterial updatedMaterial = rawMaterialRepository.findById(testMaterial.getIdMaterial()).orElseThrow();
         assert updatedMaterial.getStock() == initialStock + 50;
+        assertThat(updatedMaterial.getLastRestockDate()).isEqualTo(LocalDate.now());
+        assertThat(stockReceiptService.processPendingReceipts()).isZero();
+    }
+
+    @Test
+    @WithMockUser(roles = "GESTIONNAIRE_APPROVISIONNEMENT")
+    void processPendingReceipts_WhenReceiptCoversBlockedProductionOrder_ShouldReleaseIt() throws Exception {
+        Product product = new Product();
+        product.setName("Steel Frame");
+        product.setProductionTime(2);
+        product.setCost(BigDecimal.valueOf(200));
+        product.setUnit("UNIT");
+        product = productRepository.save(product);
+        billOfMaterialRepository.save(new BillOfMaterial(null, product, testMaterial, 30));
+
+        ProductionOrder coveredOrder = blockedProductionOrder("PO-BLOCKED-1", product, 5);
+        ProductionOrder uncoveredOrder = blockedProductionOrder("PO-BLOCKED-2", product, 10);
+
+        SupplyOrderLine orderLine = new SupplyOrderLine();
+        orderLine.setRawMaterial(testMaterial);
+        orderLine.setQuantity(60);
+        orderLine.setUnitPrice(BigDecimal.TEN);
+
+        SupplyOrder order = new SupplyOrder();
+        order.setOrderNumber("ORD-002");
+        order.setSupplier(testSupplier);
+        order.setOrderDate(LocalDate.now());
+        order.setStatus(SupplyOrderStatus.EN_COURS);
+        order.setTotalAmount(BigDecimal.valueOf(600));
+        order.setOrderLines(new ArrayList<>(Arrays.asList(orderLine)));
+        orderLine.setSupplyOrder(order);
+        SupplyOrder savedOrder = supplyOrderRepository.save(order);
+
+        mockMvc.perform(patch("/api/supply-orders/{id}/status", savedOrder.getIdOrder())
+                        .param("status", "RECUE"))
+                .andExpect(status().isOk());
+
+        stockReceiptService.processPendingReceipts();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(productionOrderRepository.findById(coveredOrder.getIdOrder()).orElseThrow().getStatus())
+                .isEqualTo(ProductionOrderStatus.EN_ATTENTE);
+        assertThat(productionOrderRepository.findById(uncoveredOrder.getIdOrder()).orElseThrow().getStatus())
+                .isEqualTo(ProductionOrderStatus.BLOQUE);
+    }
+
+    @Test
+    @WithMockUser(roles = "GESTIONNAIRE_APPROVISIONNEMENT")
+    void processPendingReceipts_WhenReceiptCoversOneOfTwoBlockedOrders_ShouldReleaseHigherPriorityAndReserveIt() throws Exception {
+        testMaterial.setReservedStock(10);
+        testMaterial = rawMaterialRepository.save(testMaterial);
+        Product product = new Product();
+        product.setName("Steel Shelf");
+        product.setProductionTime(1);
+        product.setCost(BigDecimal.valueOf(80));
+        product.setUnit("UNIT");
+        product = productRepository.save(product);
+        billOfMaterialRepository.save(new BillOfMaterial(null, product, testMaterial, 30));
+
+        ProductionOrder lowOrder = blockedProductionOrder("PO-BLOCKED-LOW", product, 5, Priority.LOW);
+        ProductionOrder urgentOrder = blockedProductionOrder("PO-BLOCKED-URGENT", product, 5, Priority.URGENT);
+
+        SupplyOrderLine orderLine = new SupplyOrderLine();
+        orderLine.setRawMaterial(testMaterial);
+        orderLine.setQuantity(60);
+        orderLine.setUnitPrice(BigDecimal.TEN);
+
+        SupplyOrder order = new SupplyOrder();
+        order.setOrderNumber("ORD-003");
+        order.setSupplier(testSupplier);
+        order.setOrderDate(LocalDate.now());
+        order.setStatus(SupplyOrderStatus.EN_COURS);
+        order.setTotalAmount(BigDecimal.valueOf(600));
+        order.setOrderLines(new ArrayList<>(Arrays.asList(orderLine)));
+        orderLine.setSupplyOrder(order);
+        SupplyOrder savedOrder = supplyOrderRepository.save(order);
+
+        mockMvc.perform(patch("/api/supply-orders/{id}/status", savedOrder.getIdOrder())
+                        .param("status", "RECUE"))
+                .andExpect(status().isOk());
+
+        stockReceiptService.processPendingReceipts();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(productionOrderRepository.findById(urgentOrder.getIdOrder()).orElseThrow().getStatus())
+                .isEqualTo(ProductionOrderStatus.EN_ATTENTE);
+        assertThat(productionOrderRepository.findById(lowOrder.getIdOrder()).orElseThrow().getStatus())
+                .isEqualTo(ProductionOrderStatus.BLOQUE);
+        RawMaterial material = rawMaterialRepository.findById(testMaterial.getIdMaterial()).orElseThrow();
+        assertThat(material.getStock()).isEqualTo(160);
+        assertThat(material.getReservedStock()).isEqualTo(160);
     }
 
     @Test
@@ -341,4 +470,20 @@ class SupplyOrderControllerIntegrationTest {
         mockMvc.perform(delete("/api/supply-orders/{id}", savedOrder.getIdOrder()))
                 .andExpect(status().isForbidden());
     }
-}
\ No newline at end of file
+
+    private ProductionOrder blockedProductionOrder(String orderNumber, Product product, int quantity) {
+        return blockedProductionOrder(orderNumber, product, quantity, Priority.STANDARD);
+    }
+
+    private ProductionOrder blockedProductionOrder(String orderNumber, Product product, int quantity, Priority priority) {
+        ProductionOrder order = new ProductionOrder();
+        order.setOrderNumber(orderNumber);
+        order.setProduct(product);
+        order.setQuantity(quantity);
+        order.setStatus(ProductionOrderStatus.BLOQUE);
+        order.setPriority(priority);
+        order.setOrderDate(LocalDate.now());
+        order.setEstimatedProductionTimeHours(product.getProductionTime() * quantity);
+        return productionOrderRepository.save(order);
+    }
+}
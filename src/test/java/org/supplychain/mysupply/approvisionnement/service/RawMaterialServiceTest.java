@@ -14,6 +14,7 @@ import org.supplychain.mysupply.approvisionnement.dto.RawMaterialResponseDTO;
 import org.supplychain.mysupply.approvisionnement.mapper.RawMaterialMapper;
 import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
 import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.projection.RawMaterialRow;
 import org.supplychain.mysupply.common.exception.ResourceNotFoundException;
 import org.supplychain.mysupply.common.exception.UnauthorizedException;
 
@@ -36,6 +37,9 @@ class RawMaterialServiceTest {
     @Mock
     private RawMaterialMapper rawMaterialMapper;
 
+    @Mock
+    private RawMaterialReadModel rawMaterialReadModel;
+
     @InjectMocks
     private RawMaterialService rawMaterialService;
 
@@ -45,7 +49,6 @@ class RawMaterialServiceTest {
         inputDTO.setName("Aluminum");
         inputDTO.setDescription("High quality aluminum");
         inputDTO.setStock(50);
-        inputDTO.setReservedStock(0);
         inputDTO.setStockMin(5);
         inputDTO.setUnit("kg");
 
@@ -94,7 +97,6 @@ class RawMaterialServiceTest {
         RawMaterialDTO inputDTO = new RawMaterialDTO();
         inputDTO.setName("Steel");
         inputDTO.setStock(100);
-        inputDTO.setReservedStock(0);
         inputDTO.setStockMin(10);
         inputDTO.setUnit("kg");
 
@@ -155,16 +157,9 @@ class RawMaterialServiceTest {
     void getAllRawMaterials_ShouldReturnPageOfMaterials() {
         Pageable pageable = PageRequest.of(0, 10);
 
-        RawMaterial material1 = new RawMaterial();
-        material1.setIdMaterial(1L);
-        material1.setName("Steel");
-
-        RawMaterial material2 = new RawMaterial();
-        material2.setIdMaterial(2L);
-        material2.setName("Aluminum");
-
-        List<RawMaterial> materials = Arrays.asList(material1, material2);
-        Page<RawMaterial> materialPage = new PageImpl<>(materials, pageable, materials.size());
+        RawMaterialRow row1 = new RawMaterialRow(1L, "Steel", null, 100, 0, 10, "kg", null);
+        RawMaterialRow row2 = new RawMaterialRow(2L, "Aluminum", null, 50, 0, 5, "kg", null);
+        Page<RawMaterialRow> rowPage = new PageImpl<>(Arrays.asList(row1, row2), pageable, 2);
 
         RawMaterialResponseDTO responseDTO1 = new RawMaterialResponseDTO();
         responseDTO1.setIdMaterial(1L);
@@ -174,9 +169,10 @@ class RawMaterialServiceTest {
         responseDTO2.setIdMaterial(2L);
         responseDTO2.setName("Aluminum");
 
-        when(rawMaterialRepository.findAll(pageable)).thenReturn(materialPage);
-        when(rawMaterialMapper.toResponseDTO(material1)).thenReturn(responseDTO1);
-        when(rawMaterialMapper.toResponseDTO(material2)).thenReturn(responseDTO2);
+        Page<RawMaterialResponseDTO> responsePage = new PageImpl<>(Arrays.asList(responseDTO1, responseDTO2), pageable, 2);
+
+        when(rawMaterialRepository.findAllRows(pageable)).thenReturn(rowPage);
+        when(rawMaterialReadModel.toResponsePage(rowPage)).thenReturn(responsePage);
 
         Page<RawMaterialResponseDTO> result = rawMaterialService.getAllRawMaterials(pageable);
 
@@ -185,7 +181,8 @@ class RawMaterialServiceTest {
         assertThat(result.getContent().get(0).getName()).isEqualTo("Steel");
         assertThat(result.getContent().get(1).getName()).isEqualTo("Aluminum");
 
-        verify(rawMaterialRepository).findAll(pageable);
+        verify(rawMaterialRepository).findAllRows(pageable);
+        verify(rawMaterialRepository, never()).findAll(pageable);
     }
 
     @Test
@@ -193,19 +190,15 @@ class RawMaterialServiceTest {
         String searchTerm = "Steel";
         Pageable pageable = PageRequest.of(0, 10);
 
-        RawMaterial material = new RawMaterial();
-        material.setIdMaterial(1L);
-        material.setName("Stainless Steel");
-
-        List<RawMaterial> materials = Arrays.asList(material);
-        Page<RawMaterial> materialPage = new PageImpl<>(materials, pageable, materials.size());
+        RawMaterialRow row = new RawMaterialRow(1L, "Stainless Steel", null, 100, 0, 10, "kg", null);
+        Page<RawMaterialRow> rowPage = new PageImpl<>(List.of(row), pageable, 1);
 
         RawMaterialResponseDTO responseDTO = new RawMaterialResponseDTO();
         responseDTO.setIdMaterial(1L);
         responseDTO.setName("Stainless Steel");
 
-        when(rawMaterialRepository.findByNameContainingIgnoreCase(searchTerm, pageable)).thenReturn(materialPage);
-        when(rawMaterialMapper.toResponseDTO(material)).thenReturn(responseDTO);
+        when(rawMaterialRepository.findRowsByNameContaining(searchTerm, pageable)).thenReturn(rowPage);
+        when(rawMaterialReadModel.toResponsePage(rowPage)).thenReturn(new PageImpl<>(List.of(responseDTO), pageable, 1));
 
         Page<RawMaterialResponseDTO> result = rawMaterialService.searchRawMaterials(searchTerm, pageable);
 
@@ -213,21 +206,15 @@ class RawMaterialServiceTest {
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getName()).isEqualTo("Stainless Steel");
 
-        verify(rawMaterialRepository).findByNameContainingIgnoreCase(searchTerm, pageable);
+        verify(rawMaterialRepository).findRowsByNameContaining(searchTerm, pageable);
     }
 
     @Test
     void getLowStockMaterials_ShouldReturnMaterialsBelowMinStock() {
         Pageable pageable = PageRequest.of(0, 10);
 
-        RawMaterial lowStockMaterial = new RawMaterial();
-        lowStockMaterial.setIdMaterial(1L);
-        lowStockMaterial.setName("Steel");
-        lowStockMaterial.setStock(5);
-        lowStockMaterial.setStockMin(10);
-
-        List<RawMaterial> materials = Arrays.asList(lowStockMaterial);
-        Page<RawMaterial> materialPage = new PageImpl<>(materials, pageable, materials.size());
+        RawMaterialRow row = new RawMaterialRow(1L, "Steel", null, 5, 0, 10, "kg", null);
+        Page<RawMaterialRow> rowPage = new PageImpl<>(List.of(row), pageable, 1);
 
         RawMaterialResponseDTO responseDTO = new RawMaterialResponseDTO();
         responseDTO.setIdMaterial(1L);
@@ -235,8 +222,8 @@ class RawMaterialServiceTest {
         responseDTO.setStock(5);
         responseDTO.setLowStock(true);
 
-        when(rawMaterialRepository.findLowStockMaterials(pageable)).thenReturn(materialPage);
-        when(rawMaterialMapper.toResponseDTO(lowStockMaterial)).thenReturn(responseDTO);
+        when(rawMaterialRepository.findLowStockRows(pageable)).thenReturn(rowPage);
+        when(rawMaterialReadModel.toResponsePage(rowPage)).thenReturn(new PageImpl<>(List.of(responseDTO), pageable, 1));
 
         Page<RawMaterialResponseDTO> result = rawMaterialService.getLowStockMaterials(pageable);
 
@@ -244,7 +231,7 @@ class RawMaterialServiceTest {
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).isLowStock()).isTrue();
 
-        verify(rawMaterialRepository).findLowStockMaterials(pageable);
+        verify(rawMaterialRepository).findLowStockRows(pageable);
     }
 
     @Test
@@ -255,7 +242,6 @@ class RawMaterialServiceTest {
         updateDTO.setName("Updated Steel");
         updateDTO.setDescription("Updated description");
         updateDTO.setStock(200);
-        updateDTO.setReservedStock(10);
         updateDTO.setStockMin(20);
         updateDTO.setUnit("kg");
 
@@ -274,9 +260,10 @@ class RawMaterialServiceTest {
         responseDTO.setName("Updated Steel");
         responseDTO.setStock(200);
 
-        when(rawMaterialRepository.findById(materialId)).thenReturn(Optional.of(existingMaterial));
+        when(rawMaterialRepository.findById(materialId))
+                .thenReturn(Optional.of(existingMaterial), Optional.of(updatedMaterial));
         when(rawMaterialRepository.existsByName("Updated Steel")).thenReturn(false);
-        when(rawMaterialRepository.save(existingMaterial)).thenReturn(updatedMaterial);
+        when(rawMaterialRepository.trySetStock(materialId, 200, null)).thenReturn(true);
         when(rawMaterialMapper.toResponseDTO(updatedMaterial)).thenReturn(responseDTO);
 
         RawMaterialResponseDTO result = rawMaterialService.updateRawMaterial(materialId, updateDTO);
@@ -285,10 +272,11 @@ class RawMaterialServiceTest {
         assertThat(result.getName()).isEqualTo("Updated Steel");
         assertThat(result.getStock()).isEqualTo(200);
 
-        verify(rawMaterialRepository).findById(materialId);
+        verify(rawMaterialRepository, times(2)).findById(materialId);
         verify(rawMaterialRepository).existsByName("Updated Steel");
-        verify(rawMaterialMapper).updateEntityFromDTO(updateDTO, existingMaterial);
-        verify(rawMaterialRepository).save(existingMaterial);
+        verify(rawMaterialRepository).updateDetails(materialId, "Updated Steel", "Updated description", 20, "kg");
+        verify(rawMaterialRepository).trySetStock(materialId, 200, null);
+        verify(rawMaterialRepository, never()).save(any());
     }
 
     @Test
@@ -352,8 +340,9 @@ class RawMaterialServiceTest {
         responseDTO.setStock(newStock);
         responseDTO.setLastRestockDate(LocalDate.now());
 
-        when(rawMaterialRepository.findById(materialId)).thenReturn(Optional.of(material));
-        when(rawMaterialRepository.save(material)).thenReturn(updatedMaterial);
+        when(rawMaterialRepository.findById(materialId))
+                .thenReturn(Optional.of(material), Optional.of(updatedMaterial));
+        when(rawMaterialRepository.trySetStock(materialId, newStock, LocalDate.now())).thenReturn(true);
         when(rawMaterialMapper.toResponseDTO(updatedMaterial)).thenReturn(responseDTO);
 
         RawMaterialResponseDTO result = rawMaterialService.updateStock(materialId, newStock);
@@ -361,11 +350,31 @@ class RawMaterialServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.getStock()).isEqualTo(newStock);
         assertThat(result.getLastRestockDate()).isEqualTo(LocalDate.now());
-        assertThat(material.getStock()).isEqualTo(newStock);
-        assertThat(material.getLastRestockDate()).isEqualTo(LocalDate.now());
 
-        verify(rawMaterialRepository).findById(materialId);
-        verify(rawMaterialRepository).save(material);
+        verify(rawMaterialRepository, times(2)).findById(materialId);
+        verify(rawMaterialRepository).trySetStock(materialId, newStock, LocalDate.now());
+        verify(rawMaterialRepository, never()).save(any());
+    }
+
+    @Test
+    void updateStock_WhenBelowReservedStock_ShouldThrowException() {
+        Long materialId = 1L;
+
+        RawMaterial material = new RawMaterial();
+        material.setIdMaterial(materialId);
+        material.setName("Steel");
+        material.setStock(100);
+        material.setReservedStock(40);
+
+        when(rawMaterialRepository.findById(materialId)).thenReturn(Optional.of(material));
+        when(rawMaterialRepository.trySetStock(materialId, 30, LocalDate.now())).thenReturn(false);
+
+        assertThatThrownBy(() -> rawMaterialService.updateStock(materialId, 30))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Stock of material Steel cannot be set to 30, 40 is reserved");
+
+        verify(rawMaterialRepository, never()).save(any());
+        verifyNoInteractions(rawMaterialMapper);
     }
 
     @Test
@@ -0,0 +1,109 @@
+package org.supplychain.mysupply.approvisionnement.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.supplychain.mysupply.approvisionnement.dto.ReplenishmentRunDTO;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderDTO;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.SupplyOrderLineRepository;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialPriceRow;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialStockRow;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialSupplierRow;
+import org.supplychain.mysupply.approvisionnement.service.interf.ISupplyOrderService;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.bulk.BulkRowResult;
+import org.supplychain.mysupply.common.projection.QuantityRow;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplenishmentServiceTest {
+
+    @Mock
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Mock
+    private SupplyOrderLineRepository supplyOrderLineRepository;
+
+    @Mock
+    private ISupplyOrderService supplyOrderService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplenishmentService replenishmentService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        replenishmentService = new ReplenishmentService(rawMaterialRepository, supplyOrderLineRepository,
+                supplyOrderService, new SupplierSelector(), meterRegistry, 2);
+    }
+
+    @Test
+    void replenish_ShouldCoalesceLowStockMaterialsPerBestSupplier() {
+        when(rawMaterialRepository.findLowStockMaterialStock()).thenReturn(List.of(
+                new MaterialStockRow(1L, "Steel", 10, 0, 50),
+                new MaterialStockRow(2L, "Bolts", 40, 10, 100),
+                new MaterialStockRow(3L, "Paint", 0, 0, 20)));
+        when(supplyOrderLineRepository.sumQuantityByMaterial(anyCollection())).thenReturn(List.of(new QuantityRow(3L, 40L)));
+        when(rawMaterialRepository.findSupplierRows(anyCollection())).thenReturn(List.of(
+                new MaterialSupplierRow(1L, 7L, "Atlas Metals", "c", "atlas@metals.ma", null, 4.5, 5),
+                new MaterialSupplierRow(1L, 8L, "Slow Metals", "c", "slow@metals.ma", null, 4.9, 20),
+                new MaterialSupplierRow(2L, 7L, "Atlas Metals", "c", "atlas@metals.ma", null, 4.5, 5)));
+        when(supplyOrderLineRepository.findLastUnitPrices(anyCollection())).thenReturn(List.of(
+                new MaterialPriceRow(1L, BigDecimal.valueOf(8)),
+                new MaterialPriceRow(2L, BigDecimal.ONE)));
+        when(supplyOrderService.importSupplyOrders(anyList())).thenReturn(
+                new BulkImportReport(List.of(BulkRowResult.accepted(0, "REP", 99L))));
+
+        ReplenishmentRunDTO run = replenishmentService.replenish();
+
+        ArgumentCaptor<List<SupplyOrderDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(supplyOrderService).importSupplyOrders(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(order -> {
+            assertThat(order.getSupplierId()).isEqualTo(7L);
+            assertThat(order.getOrderLines()).extracting("rawMaterialId", "quantity")
+                    .containsExactly(tuple(1L, 90), tuple(2L, 170));
+        });
+        assertThat(run.getLowStockMaterials()).isEqualTo(3);
+        assertThat(run.getAlreadyOnOrder()).isEqualTo(1);
+        assertThat(meterRegistry.counter("replenishment.orders", "outcome", "created").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.timer("replenishment.run").count()).isEqualTo(1L);
+    }
+
+    @Test
+    void replenish_WhenMaterialHasNoPurchaseHistory_ShouldReportItAsUnsourced() {
+        when(rawMaterialRepository.findLowStockMaterialStock()).thenReturn(List.of(new MaterialStockRow(1L, "Steel", 10, 0, 50)));
+        when(supplyOrderLineRepository.sumQuantityByMaterial(anyCollection())).thenReturn(List.of());
+        when(rawMaterialRepository.findSupplierRows(anyCollection())).thenReturn(List.of(
+                new MaterialSupplierRow(1L, 7L, "Atlas Metals", "c", "atlas@metals.ma", null, 4.5, 5)));
+        when(supplyOrderLineRepository.findLastUnitPrices(anyCollection())).thenReturn(List.of());
+        when(supplyOrderService.importSupplyOrders(anyList())).thenReturn(new BulkImportReport(List.of()));
+
+        ReplenishmentRunDTO run = replenishmentService.replenish();
+
+        assertThat(run.getUnsourcedMaterialIds()).containsExactly(1L);
+        assertThat(meterRegistry.counter("replenishment.materials.unsourced").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void replenish_WhenNothingIsLowOnStock_ShouldNotCreateOrders() {
+        when(rawMaterialRepository.findLowStockMaterialStock()).thenReturn(List.of());
+
+        ReplenishmentRunDTO run = replenishmentService.replenish();
+
+        assertThat(run.getLowStockMaterials()).isZero();
+        verifyNoInteractions(supplyOrderService);
+    }
+}
@@ -0,0 +1,81 @@
+package org.supplychain.mysupply.approvisionnement.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.supplychain.mysupply.approvisionnement.model.StockReceipt;
+import org.supplychain.mysupply.approvisionnement.model.SupplyOrder;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.StockReceiptRepository;
+import org.supplychain.mysupply.approvisionnement.repository.SupplyOrderLineRepository;
+import org.supplychain.mysupply.production.service.interf.IProductionOrderService;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockReceiptServiceTest {
+
+    @Mock
+    private StockReceiptRepository stockReceiptRepository;
+
+    @Mock
+    private SupplyOrderLineRepository supplyOrderLineRepository;
+
+    @Mock
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Mock
+    private IProductionOrderService productionOrderService;
+
+    private StockReceiptService stockReceiptService;
+
+    @BeforeEach
+    void setUp() {
+        stockReceiptService = new StockReceiptService(stockReceiptRepository, supplyOrderLineRepository,
+                rawMaterialRepository, productionOrderService, 2);
+    }
+
+    @Test
+    void processPendingReceipts_ShouldApplyBatchInOneStockUpdateAndReleaseBlockedOrders() {
+        List<StockReceipt> receipts = List.of(receipt(10L), receipt(11L));
+        when(stockReceiptRepository.findPendingForUpdate(Limit.of(2))).thenReturn(receipts);
+        when(supplyOrderLineRepository.findMaterialIdsByOrderIds(List.of(10L, 11L))).thenReturn(List.of(1L, 2L, 3L));
+        when(rawMaterialRepository.receiveStock(List.of(10L, 11L), LocalDate.now())).thenReturn(3);
+        when(productionOrderService.releaseBlockedOrders(List.of(1L, 2L, 3L))).thenReturn(1);
+
+        int processed = stockReceiptService.processPendingReceipts();
+
+        assertThat(processed).isEqualTo(2);
+        verify(rawMaterialRepository).receiveStock(List.of(10L, 11L), LocalDate.now());
+        verify(stockReceiptRepository).deleteAllInBatch(receipts);
+        verify(productionOrderService).releaseBlockedOrders(List.of(1L, 2L, 3L));
+        verify(rawMaterialRepository, never()).save(any());
+    }
+
+    @Test
+    void processPendingReceipts_WhenQueueIsEmpty_ShouldDoNothing() {
+        when(stockReceiptRepository.findPendingForUpdate(Limit.of(2))).thenReturn(List.of());
+
+        int processed = stockReceiptService.processPendingReceipts();
+
+        assertThat(processed).isZero();
+        verify(rawMaterialRepository, never()).receiveStock(anyCollection(), any());
+        verify(stockReceiptRepository, never()).deleteAllInBatch(anyCollection());
+        verifyNoInteractions(productionOrderService);
+    }
+
+    private StockReceipt receipt(Long orderId) {
+        SupplyOrder order = new SupplyOrder();
+        order.setIdOrder(orderId);
+        return new StockReceipt(orderId, order);
+    }
+}
@@ -20,6 +20,7 @@ import org.supplychain.mysupply.approvisionnement.model.Supplier;
 import org.supplychain.mysupply.approvisionnement.model.SupplyOrder;
 import org.supplychain.mysupply.approvisionnement.model.SupplyOrderLine;
 import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.StockReceiptRepository;
 import org.supplychain.mysupply.approvisionnement.repository.SupplierRepository;
 import org.supplychain.mysupply.approvisionnement.repository.SupplyOrderRepository;
 import org.supplychain.mysupply.common.exception.ResourceNotFoundException;
@@ -31,6 +32,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -49,6 +51,9 @@ class SupplyOrderServiceTest {
     @Mock
     private RawMaterialRepository rawMaterialRepository;
 
+    @Mock
+    private StockReceiptRepository stockReceiptRepository;
+
     @Mock
     private SupplyOrderMapper supplyOrderMapper;
 
@@ -102,6 +107,7 @@ class SupplyOrderServiceTest {
 
         when(supplyOrderRepository.existsByOrderNumber("ORD-001")).thenReturn(false);
         when(supplierRepository.findById(1L)).thenReturn(Optional.of(supplier));
+        when(supplierRepository.findSuppliedMaterialIds(1L, Set.of(1L))).thenReturn(List.of(1L));
         when(supplyOrderMapper.toEntity(inputDTO)).thenReturn(orderEntity);
         when(rawMaterialRepository.findById(1L)).thenReturn(Optional.of(material));
         when(supplyOrderLineMapper.toEntity(lineDTO)).thenReturn(orderLine);
@@ -181,13 +187,72 @@ class SupplyOrderServiceTest {
 
         when(supplyOrderRepository.existsByOrderNumber("ORD-001")).thenReturn(false);
         when(supplierRepository.findById(1L)).thenReturn(Optional.of(supplier));
-        when(rawMaterialRepository.findById(2L)).thenReturn(Optional.of(material2));
+        when(supplierRepository.findSuppliedMaterialIds(1L, Set.of(2L))).thenReturn(List.of());
+        when(rawMaterialRepository.findAllById(Set.of(2L))).thenReturn(List.of(material2));
 
         assertThatThrownBy(() -> supplyOrderService.createSupplyOrder(inputDTO))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("Supplier 'ABC Supplies' does not provide the following material(s): Aluminum");
 
         verify(supplierRepository).findById(1L);
+        verify(rawMaterialRepository, never()).findById(any());
+        verify(supplyOrderRepository, never()).save(any());
+    }
+
+    @Test
+    void createSupplyOrder_WhenSeveralLinesUseUnsuppliedMaterials_ShouldReportAllNamesFromOneLookup() {
+        SupplyOrderDTO inputDTO = new SupplyOrderDTO();
+        inputDTO.setOrderNumber("ORD-002");
+        inputDTO.setSupplierId(1L);
+        inputDTO.setOrderDate(LocalDate.now());
+        inputDTO.setOrderLines(Arrays.asList(line(1L), line(2L), line(3L), line(2L)));
+
+        RawMaterial material2 = new RawMaterial();
+        material2.setIdMaterial(2L);
+        material2.setName("Aluminum");
+
+        RawMaterial material3 = new RawMaterial();
+        material3.setIdMaterial(3L);
+        material3.setName("Copper");
+
+        Supplier supplier = new Supplier();
+        supplier.setIdSupplier(1L);
+        supplier.setName("ABC Supplies");
+
+        when(supplyOrderRepository.existsByOrderNumber("ORD-002")).thenReturn(false);
+        when(supplierRepository.findById(1L)).thenReturn(Optional.of(supplier));
+        when(supplierRepository.findSuppliedMaterialIds(1L, Set.of(1L, 2L, 3L))).thenReturn(List.of(1L));
+        when(rawMaterialRepository.findAllById(Set.of(2L, 3L))).thenReturn(List.of(material3, material2));
+
+        assertThatThrownBy(() -> supplyOrderService.createSupplyOrder(inputDTO))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("does not provide the following material(s): Aluminum, Copper (IDs: 2, 3)");
+
+        verify(rawMaterialRepository).findAllById(Set.of(2L, 3L));
+        verify(supplyOrderRepository, never()).save(any());
+    }
+
+    @Test
+    void createSupplyOrder_WhenUnsuppliedMaterialDoesNotExist_ShouldThrowResourceNotFound() {
+        SupplyOrderDTO inputDTO = new SupplyOrderDTO();
+        inputDTO.setOrderNumber("ORD-003");
+        inputDTO.setSupplierId(1L);
+        inputDTO.setOrderDate(LocalDate.now());
+        inputDTO.setOrderLines(Arrays.asList(line(99L)));
+
+        Supplier supplier = new Supplier();
+        supplier.setIdSupplier(1L);
+        supplier.setName("ABC Supplies");
+
+        when(supplyOrderRepository.existsByOrderNumber("ORD-003")).thenReturn(false);
+        when(supplierRepository.findById(1L)).thenReturn(Optional.of(supplier));
+        when(supplierRepository.findSuppliedMaterialIds(1L, Set.of(99L))).thenReturn(List.of());
+        when(rawMaterialRepository.findAllById(Set.of(99L))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> supplyOrderService.createSupplyOrder(inputDTO))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Raw material not found with id: 99");
+
         verify(supplyOrderRepository, never()).save(any());
     }
 
@@ -358,7 +423,7 @@ class SupplyOrderServiceTest {
     }
 
     @Test
-    void updateSupplyOrderStatus_WhenStatusIsRECUE_ShouldUpdateMaterialStock() {
+    void updateSupplyOrderStatus_WhenStatusIsRECUE_ShouldQueueStockReceiptWithoutTouchingStock() {
         Long orderId = 1L;
         SupplyOrderStatus newStatus = SupplyOrderStatus.RECUE;
 
@@ -392,12 +457,12 @@ class SupplyOrderServiceTest {
         SupplyOrderResponseDTO result = supplyOrderService.updateSupplyOrderStatus(orderId, newStatus);
 
         assertThat(result).isNotNull();
-        assertThat(material.getStock()).isEqualTo(150);
-        assertThat(material.getLastRestockDate()).isEqualTo(LocalDate.now());
+        assertThat(material.getStock()).isEqualTo(100);
 
         verify(supplyOrderRepository).findById(orderId);
-        verify(rawMaterialRepository).save(material);
         verify(supplyOrderRepository).save(order);
+        verify(stockReceiptRepository).save(argThat(receipt -> receipt.getSupplyOrder() == updatedOrder));
+        verify(rawMaterialRepository, never()).save(any());
     }
 
     @Test
@@ -467,4 +532,12 @@ class SupplyOrderServiceTest {
         verify(supplyOrderRepository).findById(orderId);
         verify(supplyOrderRepository, never()).deleteById(any());
     }
-}
\ No newline at end of file
+
+    private SupplyOrderLineDTO line(Long materialId) {
+        SupplyOrderLineDTO lineDTO = new SupplyOrderLineDTO();
+        lineDTO.setRawMaterialId(materialId);
+        lineDTO.setQuantity(10);
+        lineDTO.setUnitPrice(BigDecimal.ONE);
+        return lineDTO;
+    }
+}
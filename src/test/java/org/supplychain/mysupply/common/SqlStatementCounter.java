@@ -0,0 +1,41 @@
+package org.supplychain.mysupply.common;
+
+import org.supplychain.mysupply.common.metrics.SqlStatementTracker;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class SqlStatementCounter extends SqlStatementTracker {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+        return super.inspect(sql);
+    }
+
+    public static void reset() {
+        STATEMENTS.clear();
+    }
+
+    public static long total() {
+        return STATEMENTS.size();
+    }
+
+    public static long selectsFrom(String table) {
+        return count("select", " from " + table + " ");
+    }
+
+    public static long updatesOf(String table) {
+        return count("update", "update " + table + " ");
+    }
+
+    private static long count(String prefix, String fragment) {
+        return STATEMENTS.stream()
+                .filter(sql -> sql.startsWith(prefix))
+                .filter(sql -> sql.contains(fragment))
+                .count();
+    }
+}
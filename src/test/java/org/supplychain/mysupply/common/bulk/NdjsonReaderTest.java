@@ -0,0 +1,68 @@
+package org.supplychain.mysupply.common.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.supplychain.mysupply.livraison.dto.OrderDTO;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class NdjsonReaderTest {
+
+    private final NdjsonReader ndjsonReader = new NdjsonReader(new ObjectMapper());
+
+    @Test
+    void importChunks_ShouldHandRowsToImporterInChunksAndOffsetRowIndexes() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < NdjsonReader.CHUNK_SIZE + 2; i++) {
+            body.append("{\"orderNumber\":\"CO-").append(i).append("\"}\n");
+        }
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        BulkImportReport report = ndjsonReader.importChunks(stream(body.toString()), OrderDTO.class, orders -> {
+            chunkSizes.add(orders.size());
+            return acceptAll(orders);
+        });
+
+        assertThat(chunkSizes).containsExactly(NdjsonReader.CHUNK_SIZE, 2);
+        assertThat(report.getImported()).isEqualTo(NdjsonReader.CHUNK_SIZE + 2);
+        assertThat(report.getRows().get(NdjsonReader.CHUNK_SIZE + 1))
+                .extracting(BulkRowResult::getIndex, BulkRowResult::getReference)
+                .containsExactly(NdjsonReader.CHUNK_SIZE + 1, "CO-" + (NdjsonReader.CHUNK_SIZE + 1));
+    }
+
+    @Test
+    void importChunks_WhenLineIsNotJson_ShouldRejectOnlyThatRow() {
+        String body = "{\"orderNumber\":\"CO-1\"}\n\n{\"orderNumber\":\n{\"orderNumber\":\"CO-3\"}\n";
+
+        BulkImportReport report = ndjsonReader.importChunks(stream(body), OrderDTO.class, NdjsonReaderTest::acceptAll);
+
+        assertThat(report.getRows())
+                .extracting(BulkRowResult::getIndex, BulkRowResult::getReference, BulkRowResult::isAccepted)
+                .containsExactly(
+                        tuple(0, "CO-1", true),
+                        tuple(1, null, false),
+                        tuple(2, "CO-3", true));
+        assertThat(report.getRows().get(1).getErrors()).singleElement().asString().startsWith("Invalid JSON on line 3");
+    }
+
+    private static BulkImportReport acceptAll(List<OrderDTO> orders) {
+        List<BulkRowResult> rows = new ArrayList<>();
+        for (int i = 0; i < orders.size(); i++) {
+            OrderDTO order = orders.get(i);
+            rows.add(order == null
+                    ? BulkRowResult.rejected(i, null, List.of("Order is required"))
+                    : BulkRowResult.accepted(i, order.getOrderNumber(), (long) i));
+        }
+        return new BulkImportReport(rows);
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
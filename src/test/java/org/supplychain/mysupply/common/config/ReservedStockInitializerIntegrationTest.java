@@ -0,0 +1,127 @@
+package org.supplychain.mysupply.common.config;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
+import org.supplychain.mysupply.production.model.BillOfMaterial;
+import org.supplychain.mysupply.production.model.Product;
+import org.supplychain.mysupply.production.model.ProductionOrder;
+import org.supplychain.mysupply.production.repository.BillOfMaterialRepository;
+import org.supplychain.mysupply.production.repository.ProductRepository;
+import org.supplychain.mysupply.production.repository.ProductionOrderRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ReservedStockInitializerIntegrationTest {
+
+    @Autowired
+    private ReservedStockInitializer reservedStockInitializer;
+
+    @Autowired
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BillOfMaterialRepository billOfMaterialRepository;
+
+    @Autowired
+    private ProductionOrderRepository productionOrderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private RawMaterial material;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        material = new RawMaterial();
+        material.setName("Backfill Steel");
+        material.setStock(500);
+        material.setReservedStock(0);
+        material.setStockMin(10);
+        material.setUnit("KG");
+        material = rawMaterialRepository.save(material);
+
+        product = new Product();
+        product.setName("Backfill Frame");
+        product.setProductionTime(2);
+        product.setCost(BigDecimal.TEN);
+        product.setStock(0);
+        product.setMinimumStock(5);
+        product.setUnit("UNIT");
+        product = productRepository.save(product);
+
+        BillOfMaterial bom = new BillOfMaterial();
+        bom.setProduct(product);
+        bom.setMaterial(material);
+        bom.setQuantity(3);
+        billOfMaterialRepository.save(bom);
+    }
+
+    @Test
+    void afterPropertiesSet_WhenOrdersPredateReservationTracking_ShouldBackfillFlagsAndReservedStock() {
+        ProductionOrder legacyWaiting = productionOrder("PO-BACKFILL-1", 4, ProductionOrderStatus.EN_ATTENTE, null);
+        ProductionOrder legacyStarted = productionOrder("PO-BACKFILL-2", 2, ProductionOrderStatus.EN_PRODUCTION, null);
+        productionOrder("PO-BACKFILL-3", 1, ProductionOrderStatus.EN_ATTENTE, true);
+
+        reservedStockInitializer.afterPropertiesSet();
+
+        assertThat(materialsReserved(legacyWaiting)).isTrue();
+        assertThat(materialsReserved(legacyStarted)).isFalse();
+        assertThat(reservedStock()).isEqualTo((4 + 1) * 3);
+    }
+
+    @Test
+    void afterPropertiesSet_WhenEveryOrderTracksItsReservation_ShouldLeaveReservedStockAlone() {
+        productionOrder("PO-BACKFILL-4", 4, ProductionOrderStatus.EN_ATTENTE, true);
+        jdbcTemplate.update("UPDATE raw_materials SET reserved_stock = 7 WHERE id_material = ?", material.getIdMaterial());
+
+        reservedStockInitializer.afterPropertiesSet();
+
+        assertThat(reservedStock()).isEqualTo(7);
+    }
+
+    private ProductionOrder productionOrder(String orderNumber, int quantity, ProductionOrderStatus status, Boolean materialsReserved) {
+        ProductionOrder order = new ProductionOrder();
+        order.setOrderNumber(orderNumber);
+        order.setProduct(product);
+        order.setQuantity(quantity);
+        order.setStatus(status);
+        order.setOrderDate(LocalDate.now());
+        order.setEstimatedProductionTimeHours(quantity * 2);
+        order.setMaterialsReserved(materialsReserved);
+        order = productionOrderRepository.save(order);
+        entityManager.flush();
+        return order;
+    }
+
+    private Boolean materialsReserved(ProductionOrder order) {
+        return jdbcTemplate.queryForObject("SELECT materials_reserved FROM production_orders WHERE id_order = ?",
+                Boolean.class, order.getIdOrder());
+    }
+
+    private Integer reservedStock() {
+        return jdbcTemplate.queryForObject("SELECT reserved_stock FROM raw_materials WHERE id_material = ?",
+                Integer.class, material.getIdMaterial());
+    }
+}
@@ -0,0 +1,72 @@
+package org.supplychain.mysupply.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+import org.supplychain.mysupply.common.exception.SqlBudgetExceededException;
+import org.supplychain.mysupply.livraison.model.Customer;
+import org.supplychain.mysupply.livraison.repository.CustomerRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest(properties = "sql-budget.default=0")
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+@WithMockUser(roles = "GESTIONNAIRE_COMMERCIAL")
+class SqlBudgetEnforcementIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void request_WhenEndpointExceedsItsBudget_ShouldFail() {
+        Customer customer = new Customer();
+        customer.setName("Budget Client");
+        customer.setEmail("budget@client.ma");
+        customer.setAddress("4 Budget Road");
+        customer.setCity("Rabat");
+        Long customerId = customerRepository.saveAndFlush(customer).getIdCustomer();
+        entityManager.clear();
+
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/customers/{id}", customerId)))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("endpoint GET /api/customers/{id} issued")
+                .hasMessageContaining("budget is 0");
+        assertThat(meterRegistry.get(SqlBudgetGuard.EXCEEDED)
+                .tags("scope", "endpoint", "operation", "GET /api/customers/{id}")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void request_WhenStreamedResponseExceedsItsBudget_ShouldFailOnAsyncDispatch() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/api/customer-orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThatThrownBy(() -> mockMvc.perform(asyncDispatch(asyncResult)))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("endpoint GET /api/customer-orders/export issued");
+    }
+}
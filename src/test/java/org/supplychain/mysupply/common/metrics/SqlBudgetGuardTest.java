@@ -0,0 +1,84 @@
+package org.supplychain.mysupply.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.supplychain.mysupply.common.exception.SqlBudgetExceededException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlBudgetGuardTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void check_WhenWithinBudget_ShouldNotRecordViolation() {
+        SqlBudgetGuard guard = new SqlBudgetGuard(meterRegistry, 100, true);
+
+        guard.check("endpoint", "GET /api/orders", 5, 5);
+
+        assertThat(meterRegistry.find(SqlBudgetGuard.EXCEEDED).counter()).isNull();
+    }
+
+    @Test
+    void check_WhenBudgetExceededAndEnforced_ShouldThrow() {
+        SqlBudgetGuard guard = new SqlBudgetGuard(meterRegistry, 100, true);
+
+        assertThatThrownBy(() -> guard.check("endpoint", "GET /api/orders", 12, 10))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("issued 12 SQL statements, budget is 10");
+    }
+
+    @Test
+    void check_WhenBudgetExceededAndNotEnforced_ShouldCountViolation() {
+        SqlBudgetGuard guard = new SqlBudgetGuard(meterRegistry, 100, false);
+
+        guard.check("service", "OrderService.getOrders", 12, 10);
+
+        assertThat(meterRegistry.get(SqlBudgetGuard.EXCEEDED)
+                .tags("scope", "service", "operation", "OrderService.getOrders")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void check_WhenBudgetIsUnlimited_ShouldAcceptAnyCount() {
+        SqlBudgetGuard guard = new SqlBudgetGuard(meterRegistry, 100, true);
+
+        guard.check("endpoint", "POST /api/orders/import", 10_000, SqlBudget.UNLIMITED);
+
+        assertThat(meterRegistry.find(SqlBudgetGuard.EXCEEDED).counter()).isNull();
+    }
+
+    @Test
+    void endpointBudget_ShouldPreferMethodThenClassThenDefault() throws Exception {
+        SqlBudgetGuard guard = new SqlBudgetGuard(meterRegistry, 100, true);
+
+        assertThat(guard.endpointBudget(BudgetedEndpoints.class.getMethod("single"))).isEqualTo(3);
+        assertThat(guard.endpointBudget(BudgetedEndpoints.class.getMethod("page"))).isEqualTo(20);
+        assertThat(guard.endpointBudget(UnbudgetedEndpoints.class.getMethod("list"))).isEqualTo(100);
+    }
+
+    @SqlBudget(20)
+    static class BudgetedEndpoints {
+
+        @SqlBudget(3)
+        public void single() {
+        }
+
+        public void page() {
+        }
+    }
+
+    static class UnbudgetedEndpoints {
+
+        public void list() {
+        }
+    }
+}
@@ -0,0 +1,512 @@
+package org.supplychain.mysupply.livraison.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.supplychain.mysupply.common.SqlStatementCounter;
+import org.supplychain.mysupply.common.metrics.ServiceMetricsAspect;
+import org.supplychain.mysupply.common.metrics.SqlStatementMetricsFilter;
+import org.supplychain.mysupply.livraison.dto.OrderDTO;
+import org.supplychain.mysupply.livraison.dto.OrderLineDTO;
+import org.supplychain.mysupply.livraison.enums.CustomerOrderStatus;
+import org.supplychain.mysupply.livraison.model.Customer;
+import org.supplychain.mysupply.livraison.model.CustomerOrder;
+import org.supplychain.mysupply.livraison.model.CustomerOrderLine;
+import org.supplychain.mysupply.livraison.repository.CustomerOrderRepository;
+import org.supplychain.mysupply.livraison.repository.CustomerRepository;
+import org.supplychain.mysupply.production.model.Product;
+import org.supplychain.mysupply.production.repository.ProductRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+@WithMockUser(roles = "GESTIONNAIRE_COMMERCIAL")
+class CustomerOrderControllerIntegrationTest {
+
+    private static final int LINE_COUNT = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private CustomerOrderRepository customerOrderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Customer testCustomer;
+    private List<Product> testProducts;
+
+    @BeforeEach
+    void setUp() {
+        testCustomer = new Customer();
+        testCustomer.setName("B2B Client");
+        testCustomer.setEmail("orders@b2bclient.ma");
+        testCustomer.setAddress("1 Industrial Zone");
+        testCustomer.setCity("Casablanca");
+        testCustomer = customerRepository.save(testCustomer);
+
+        testProducts = new ArrayList<>();
+        for (int i = 0; i < LINE_COUNT; i++) {
+            Product product = new Product();
+            product.setName("Order Test Product " + i);
+            product.setProductionTime(2);
+            product.setCost(BigDecimal.valueOf(10));
+            product.setStock(100);
+            product.setMinimumStock(5);
+            product.setUnit("UNIT");
+            testProducts.add(productRepository.save(product));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void createOrder_WhenValidData_ShouldReturn201AndCreatedOrder() throws Exception {
+        OrderDTO orderDTO = buildOrder("CO-TEST-001", testProducts.subList(0, 2), 3);
+
+        mockMvc.perform(post("/api/customer-orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.idOrder").exists())
+                .andExpect(jsonPath("$.orderNumber").value("CO-TEST-001"))
+                .andExpect(jsonPath("$.status").value("EN_PREPARATION"))
+                .andExpect(jsonPath("$.totalAmount").value(90.00))
+                .andExpect(jsonPath("$.orderLines", hasSize(2)));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(productRepository.findById(testProducts.get(0).getIdProduct()).orElseThrow().getStock()).isEqualTo(97);
+        assertThat(productRepository.findById(testProducts.get(1).getIdProduct()).orElseThrow().getStock()).isEqualTo(97);
+    }
+
+    @Test
+    void createOrder_WhenSameProductOnSeveralLines_ShouldValidateCombinedQuantity() throws Exception {
+        Product product = testProducts.get(0);
+        OrderDTO orderDTO = buildOrder("CO-TEST-002", List.of(product, product), 60);
+
+        mockMvc.perform(post("/api/customer-orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderDTO)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", containsString("need 120, available 100")));
+    }
+
+    @Test
+    void deleteOrder_ShouldRestoreProductStock() throws Exception {
+        OrderDTO orderDTO = buildOrder("CO-TEST-005", testProducts.subList(0, 1), 10);
+
+        String response = mockMvc.perform(post("/api/customer-orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderDTO)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long orderId = objectMapper.readTree(response).get("idOrder").asLong();
+
+        mockMvc.perform(delete("/api/customer-orders/{id}", orderId))
+                .andExpect(status().isNoContent());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(productRepository.findById(testProducts.get(0).getIdProduct()).orElseThrow().getStock()).isEqualTo(100);
+    }
+
+    @Test
+    void createOrder_WhenProductNotFound_ShouldReturn404() throws Exception {
+        Product missing = new Product();
+        missing.setIdProduct(999_999L);
+        OrderDTO orderDTO = buildOrder("CO-TEST-003", List.of(testProducts.get(0), missing), 1);
+
+        mockMvc.perform(post("/api/customer-orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderDTO)))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void createOrder_WithManyLines_ShouldLoadProductsInOneQueryAndDecrementEachProductAtomically() throws Exception {
+        OrderDTO orderDTO = buildOrder("CO-TEST-004", testProducts, 1);
+
+        SqlStatementCounter.reset();
+
+        mockMvc.perform(post("/api/customer-orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderDTO)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.orderLines", hasSize(LINE_COUNT)));
+
+        entityManager.flush();
+
+        assertThat(SqlStatementCounter.selectsFrom("products")).isEqualTo(1);
+        assertThat(SqlStatementCounter.updatesOf("products")).isEqualTo(LINE_COUNT);
+    }
+
+    @Test
+    void createOrder_ShouldRecordServiceTimerAndSqlStatementsPerRequest() throws Exception {
+        OrderDTO orderDTO = buildOrder("CO-TEST-006", testProducts.subList(0, 3), 1);
+
+        mockMvc.perform(post("/api/customer-orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderDTO)))
+                .andExpect(status().isCreated());
+
+        assertThat(meterRegistry.get(ServiceMetricsAspect.TIMER)
+                .tags("class", "CustomerOrderService", "method", "createOrder", "outcome", "success")
+                .timer().count()).isPositive();
+        assertThat(meterRegistry.get(ServiceMetricsAspect.SQL_STATEMENTS)
+                .tags("class", "CustomerOrderService", "method", "createOrder")
+                .summary().totalAmount()).isPositive();
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.SQL_STATEMENTS)
+                .tags("method", "POST", "uri", "/api/customer-orders")
+                .summary().totalAmount()).isPositive();
+    }
+
+    @Test
+    void createOrder_WhenProductNotFound_ShouldCountServiceError() throws Exception {
+        Product missing = new Product();
+        missing.setIdProduct(999_998L);
+        OrderDTO orderDTO = buildOrder("CO-TEST-007", List.of(missing), 1);
+
+        mockMvc.perform(post("/api/customer-orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orderDTO)))
+                .andExpect(status().isNotFound());
+
+        assertThat(meterRegistry.get(ServiceMetricsAspect.ERRORS)
+                .tags("class", "CustomerOrderService", "method", "createOrder", "exception", "ResourceNotFoundException")
+                .counter().count()).isPositive();
+    }
+
+    @Test
+    void getOrdersByCustomer_ShouldLoadPageInConstantNumberOfQueries() throws Exception {
+        for (int i = 0; i < 30; i++) {
+            CustomerOrder order = new CustomerOrder();
+            order.setOrderNumber("CO-PAGE-" + i);
+            order.setCustomer(testCustomer);
+            order.setOrderDate(LocalDate.now());
+            order.setTotalAmount(BigDecimal.valueOf(30));
+            for (int j = 0; j < 2; j++) {
+                CustomerOrderLine line = new CustomerOrderLine();
+                line.setCustomerOrder(order);
+                line.setProduct(testProducts.get((i * 2 + j) % LINE_COUNT));
+                line.setQuantity(1);
+                line.setUnitPrice(BigDecimal.valueOf(15));
+                line.setTotalPrice(BigDecimal.valueOf(15));
+                order.getOrderLines().add(line);
+            }
+            customerOrderRepository.save(order);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        long smallPageStatements = countStatementsForCustomerOrdersPage(5);
+        long largePageStatements = countStatementsForCustomerOrdersPage(25);
+
+        assertThat(largePageStatements).isEqualTo(smallPageStatements);
+        assertThat(largePageStatements).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    void seekOrdersByStatus_ShouldVisitEveryOrderOnceInDateOrder() throws Exception {
+        Set<Long> createdIds = new HashSet<>();
+        for (int i = 0; i < 12; i++) {
+            CustomerOrder order = new CustomerOrder();
+            order.setOrderNumber("CO-SEEK-" + i);
+            order.setCustomer(testCustomer);
+            order.setOrderDate(LocalDate.now().minusDays(i % 4));
+            order.setTotalAmount(BigDecimal.valueOf(15));
+            order.setStatus(CustomerOrderStatus.EN_ROUTE);
+            createdIds.add(customerOrderRepository.save(order).getIdOrder());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Long> visitedIds = new ArrayList<>();
+        LocalDate previousDate = LocalDate.MIN;
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = get("/api/customer-orders/status/{status}/seek", CustomerOrderStatus.EN_ROUTE)
+                    .param("size", "5");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+
+            String response = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.totalElements").doesNotExist())
+                    .andReturn().getResponse().getContentAsString();
+
+            JsonNode page = objectMapper.readTree(response);
+            for (JsonNode order : page.get("content")) {
+                LocalDate orderDate = LocalDate.parse(order.get("orderDate").asText());
+                assertThat(orderDate).isAfterOrEqualTo(previousDate);
+                previousDate = orderDate;
+                visitedIds.add(order.get("idOrder").asLong());
+            }
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        assertThat(visitedIds).doesNotHaveDuplicates();
+        assertThat(visitedIds).containsAll(createdIds);
+    }
+
+    @Test
+    void seekOrdersByStatus_WhenCursorIsMalformed_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/customer-orders/status/{status}/seek", CustomerOrderStatus.EN_ROUTE)
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importOrders_ShouldPersistValidRowsAndReportRejectedOnes() throws Exception {
+        Product missing = new Product();
+        missing.setIdProduct(999_999L);
+
+        List<OrderDTO> orders = List.of(
+                buildOrder("CO-IMPORT-001", testProducts.subList(0, 2), 40),
+                buildOrder("CO-IMPORT-001", testProducts.subList(2, 3), 1),
+                buildOrder("CO-IMPORT-002", List.of(testProducts.get(3), missing), 1),
+                buildOrder("CO-IMPORT-003", testProducts.subList(0, 1), 70),
+                buildOrder("CO-IMPORT-004", testProducts.subList(0, 1), 60)
+        );
+
+        String response = mockMvc.perform(post("/api/customer-orders/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orders)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(5))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.rows[0].accepted").value(true))
+                .andExpect(jsonPath("$.rows[1].errors[0]").value("Order number already exists: CO-IMPORT-001"))
+                .andExpect(jsonPath("$.rows[2].errors[0]").value("Product not found with id: 999999"))
+                .andExpect(jsonPath("$.rows[3].errors[0]", containsString("need 70, available 60")))
+                .andExpect(jsonPath("$.rows[4].accepted").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        Long importedId = objectMapper.readTree(response).get("rows").get(0).get("id").asLong();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        CustomerOrder imported = customerOrderRepository.fetchOrderLines(List.of(importedId)).get(0);
+        assertThat(imported.getOrderLines()).hasSize(2);
+        assertThat(imported.getTotalAmount()).isEqualByComparingTo("1200.00");
+        assertThat(productRepository.findById(testProducts.get(0).getIdProduct()).orElseThrow().getStock()).isZero();
+        assertThat(productRepository.findById(testProducts.get(1).getIdProduct()).orElseThrow().getStock()).isEqualTo(60);
+        assertThat(customerOrderRepository.existsByOrderNumber("CO-IMPORT-003")).isFalse();
+    }
+
+    @Test
+    void importOrders_WhenRowIsNull_ShouldRejectItByIndex() throws Exception {
+        List<OrderDTO> orders = new ArrayList<>();
+        orders.add(buildOrder("CO-IMPORT-010", testProducts.subList(0, 1), 1));
+        orders.add(null);
+
+        mockMvc.perform(post("/api/customer-orders/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orders)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rows[0].accepted").value(true))
+                .andExpect(jsonPath("$.rows[1].errors[0]").value("Order is required"));
+    }
+
+    @Test
+    void importOrdersNdjson_WhenLineIsMalformed_ShouldImportTheOtherLines() throws Exception {
+        String body = objectMapper.writeValueAsString(buildOrder("CO-IMPORT-020", testProducts.subList(0, 1), 1)) + "\n"
+                + "{\"orderNumber\":\n"
+                + "null\n";
+
+        mockMvc.perform(post("/api/customer-orders/import")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rows[1].errors[0]", startsWith("Invalid JSON on line 2")))
+                .andExpect(jsonPath("$.rows[2].errors[0]").value("Order is required"));
+
+        assertThat(customerOrderRepository.existsByOrderNumber("CO-IMPORT-020")).isTrue();
+    }
+
+    @Test
+    void exportOrders_ShouldStreamOneNdjsonRecordPerOrderLine() throws Exception {
+        CustomerOrder exported = commitExportFixture("CO-EXPORT-001");
+        try {
+            MvcResult asyncResult = mockMvc.perform(get("/api/customer-orders/export"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            String body = mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-ndjson"))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<JsonNode> records = new ArrayList<>();
+            for (String line : body.lines().toList()) {
+                records.add(objectMapper.readTree(line));
+            }
+
+            assertThat(records).isNotEmpty();
+            assertThat(records).filteredOn(record -> record.get("orderNumber").asText().equals("CO-EXPORT-001"))
+                    .hasSize(2)
+                    .allSatisfy(record -> assertThat(record.get("productName").asText()).isNotEmpty());
+            assertThat(meterRegistry.get(SqlStatementMetricsFilter.SQL_STATEMENTS)
+                    .tags("method", "GET", "uri", "/api/customer-orders/export")
+                    .summary().totalAmount()).isPositive();
+        } finally {
+            deleteExportFixture(exported);
+        }
+    }
+
+    @Test
+    void exportOrders_WhenCsvRequested_ShouldWriteHeaderThenRows() throws Exception {
+        CustomerOrder exported = commitExportFixture("CO-EXPORT-002");
+        try {
+            MvcResult asyncResult = mockMvc.perform(get("/api/customer-orders/export").param("format", "CSV"))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            String body = mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Disposition", "attachment; filename=customer-orders.csv"))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<String> lines = body.lines().toList();
+            assertThat(lines.get(0)).startsWith("idOrder,orderNumber,orderDate,status,totalAmount");
+            assertThat(lines).anyMatch(line -> line.contains(",CO-EXPORT-002,"));
+        } finally {
+            deleteExportFixture(exported);
+        }
+    }
+
+    /**
+     * The export streams from its own read-only transaction on the async thread, so its
+     * fixture has to be committed rather than written through the test transaction.
+     */
+    private CustomerOrder commitExportFixture(String orderNumber) {
+        return newTransaction().execute(status -> {
+            Customer customer = new Customer();
+            customer.setName("Export Client " + orderNumber);
+            customer.setEmail(orderNumber.toLowerCase() + "@export.ma");
+            customer.setAddress("3 Export Street");
+            customer.setCity("Casablanca");
+            customer = customerRepository.save(customer);
+
+            CustomerOrder order = new CustomerOrder();
+            order.setOrderNumber(orderNumber);
+            order.setCustomer(customer);
+            order.setOrderDate(LocalDate.now());
+            order.setStatus(CustomerOrderStatus.EN_PREPARATION);
+            order.setTotalAmount(BigDecimal.valueOf(60));
+            for (int i = 0; i < 2; i++) {
+                Product product = new Product();
+                product.setName("Export Product " + orderNumber + "-" + i);
+                product.setProductionTime(1);
+                product.setCost(BigDecimal.TEN);
+                product.setStock(10);
+                product.setMinimumStock(0);
+                product.setUnit("UNIT");
+                order.getOrderLines().add(new CustomerOrderLine(null, order, productRepository.save(product), 3,
+                        BigDecimal.TEN, BigDecimal.valueOf(30)));
+            }
+            return customerOrderRepository.save(order);
+        });
+    }
+
+    private void deleteExportFixture(CustomerOrder order) {
+        newTransaction().executeWithoutResult(status -> {
+            customerOrderRepository.deleteById(order.getIdOrder());
+            order.getOrderLines().forEach(line -> productRepository.deleteById(line.getProduct().getIdProduct()));
+            customerRepository.deleteById(order.getCustomer().getIdCustomer());
+        });
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private long countStatementsForCustomerOrdersPage(int size) throws Exception {
+        SqlStatementCounter.reset();
+
+        mockMvc.perform(get("/api/customer-orders/customer/{customerId}", testCustomer.getIdCustomer())
+                        .param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(size)))
+                .andExpect(jsonPath("$.content[0].orderLines", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].customer.totalOrders").value(30));
+
+        long statements = SqlStatementCounter.total();
+        entityManager.clear();
+        return statements;
+    }
+
+    private OrderDTO buildOrder(String orderNumber, List<Product> products, int quantity) {
+        List<OrderLineDTO> lines = new ArrayList<>();
+        for (Product product : products) {
+            OrderLineDTO lineDTO = new OrderLineDTO();
+            lineDTO.setProductId(product.getIdProduct());
+            lineDTO.setQuantity(quantity);
+            lineDTO.setUnitPrice(BigDecimal.valueOf(15));
+            lines.add(lineDTO);
+        }
+
+        OrderDTO orderDTO = new OrderDTO();
+        orderDTO.setOrderNumber(orderNumber);
+        orderDTO.setCustomerId(testCustomer.getIdCustomer());
+        orderDTO.setOrderDate(LocalDate.now().toString());
+        orderDTO.setOrderLines(lines);
+        return orderDTO;
+    }
+}
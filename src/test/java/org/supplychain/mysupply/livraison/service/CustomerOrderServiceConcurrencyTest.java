@@ -0,0 +1,129 @@
+package org.supplychain.mysupply.livraison.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.supplychain.mysupply.livraison.dto.OrderDTO;
+import org.supplychain.mysupply.livraison.dto.OrderLineDTO;
+import org.supplychain.mysupply.livraison.dto.OrderResponseDTO;
+import org.supplychain.mysupply.livraison.model.Customer;
+import org.supplychain.mysupply.livraison.repository.CustomerOrderRepository;
+import org.supplychain.mysupply.livraison.repository.CustomerRepository;
+import org.supplychain.mysupply.production.model.Product;
+import org.supplychain.mysupply.production.repository.ProductRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CustomerOrderServiceConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 100;
+    private static final int CONCURRENT_ORDERS = 300;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private CustomerOrderService customerOrderService;
+
+    @Autowired
+    private CustomerOrderRepository customerOrderRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Customer testCustomer;
+    private Product testProduct;
+    private final ConcurrentLinkedQueue<Long> createdOrderIds = new ConcurrentLinkedQueue<>();
+
+    @BeforeEach
+    void setUp() {
+        testCustomer = new Customer();
+        testCustomer.setName("Concurrent Client");
+        testCustomer.setEmail("concurrent@client.ma");
+        testCustomer.setAddress("2 Harbour Road");
+        testCustomer = customerRepository.save(testCustomer);
+
+        testProduct = new Product();
+        testProduct.setName("Contended Product");
+        testProduct.setProductionTime(1);
+        testProduct.setCost(BigDecimal.TEN);
+        testProduct.setStock(INITIAL_STOCK);
+        testProduct.setMinimumStock(0);
+        testProduct.setUnit("UNIT");
+        testProduct = productRepository.save(testProduct);
+    }
+
+    @AfterEach
+    void tearDown() {
+        customerOrderRepository.deleteAllById(createdOrderIds);
+        productRepository.deleteById(testProduct.getIdProduct());
+        customerRepository.deleteById(testCustomer.getIdCustomer());
+    }
+
+    @Test
+    void createOrder_WhenCalledConcurrently_ShouldNeverOversellStock() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENT_ORDERS; i++) {
+            String orderNumber = "CO-CONC-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    OrderResponseDTO order = customerOrderService.createOrder(buildOrder(orderNumber));
+                    createdOrderIds.add(order.getIdOrder());
+                } catch (IllegalStateException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        int finalStock = productRepository.findById(testProduct.getIdProduct()).orElseThrow().getStock();
+
+        assertThat(createdOrderIds).hasSize(INITIAL_STOCK);
+        assertThat(rejected.get()).isEqualTo(CONCURRENT_ORDERS - INITIAL_STOCK);
+        assertThat(finalStock).isZero();
+        assertThat(finalStock).isEqualTo(INITIAL_STOCK - createdOrderIds.size());
+    }
+
+    private OrderDTO buildOrder(String orderNumber) {
+        OrderLineDTO lineDTO = new OrderLineDTO();
+        lineDTO.setProductId(testProduct.getIdProduct());
+        lineDTO.setQuantity(1);
+        lineDTO.setUnitPrice(BigDecimal.TEN);
+
+        OrderDTO orderDTO = new OrderDTO();
+        orderDTO.setOrderNumber(orderNumber);
+        orderDTO.setCustomerId(testCustomer.getIdCustomer());
+        orderDTO.setOrderDate(LocalDate.now().toString());
+        orderDTO.setOrderLines(List.of(lineDTO));
+        return orderDTO;
+    }
+}
@@ -0,0 +1,136 @@
+package org.supplychain.mysupply.livraison.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.supplychain.mysupply.common.bulk.BulkImportReport;
+import org.supplychain.mysupply.common.bulk.BulkRowResult;
+import org.supplychain.mysupply.livraison.dto.BulkDeliveryRequestDTO;
+import org.supplychain.mysupply.livraison.enums.CustomerOrderStatus;
+import org.supplychain.mysupply.livraison.enums.DeliveryStatus;
+import org.supplychain.mysupply.livraison.mapper.CustomerOrderMapper;
+import org.supplychain.mysupply.livraison.mapper.DeliveryMapper;
+import org.supplychain.mysupply.livraison.model.Customer;
+import org.supplychain.mysupply.livraison.model.CustomerOrder;
+import org.supplychain.mysupply.livraison.model.Delivery;
+import org.supplychain.mysupply.livraison.repository.CustomerOrderRepository;
+import org.supplychain.mysupply.livraison.repository.DeliveryRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryServiceTest {
+
+    @Mock
+    private DeliveryRepository deliveryRepository;
+
+    @Mock
+    private CustomerOrderRepository customerOrderRepository;
+
+    @Mock
+    private DeliveryMapper deliveryMapper;
+
+    @Mock
+    private CustomerOrderMapper customerOrderMapper;
+
+    @Mock
+    private DispatchPlanner dispatchPlanner;
+
+    @Mock
+    private TrackingNumberGenerator trackingNumberGenerator;
+
+    @Mock
+    private TrackingLookupCache trackingLookupCache;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private DeliveryService deliveryService;
+
+    @BeforeEach
+    void setUp() {
+        deliveryService = new DeliveryService(deliveryRepository, customerOrderRepository, deliveryMapper,
+                customerOrderMapper, dispatchPlanner, trackingNumberGenerator, trackingLookupCache, entityManager, 100);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createPendingDeliveries_ShouldCreateDeliveriesFromCustomerAddresses() {
+        when(customerOrderRepository.findShippableOrders(CustomerOrderStatus.EN_PREPARATION, Limit.of(100)))
+                .thenReturn(List.of(order(1L, "CO-1", "1 Harbour Road"), order(2L, "CO-2", " ")));
+        List<Delivery> saved = new ArrayList<>();
+        when(deliveryRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Delivery> deliveries = (List<Delivery>) invocation.getArgument(0);
+            deliveries.forEach(delivery -> delivery.setIdDelivery(100 + delivery.getCustomerOrder().getIdOrder()));
+            saved.addAll(deliveries);
+            return deliveries;
+        });
+        when(trackingNumberGenerator.next()).thenReturn("TRK-01J9Z3K8M000");
+        LocalDate scheduledDate = LocalDate.now().plusDays(1);
+
+        BulkImportReport report = deliveryService.createPendingDeliveries(
+                new BulkDeliveryRequestDTO(scheduledDate, new BigDecimal("25.00"), null, false));
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getRows())
+                .extracting(BulkRowResult::getReference, BulkRowResult::getId, BulkRowResult::isAccepted)
+                .containsExactly(tuple("CO-1", 101L, true), tuple("CO-2", null, false));
+        assertThat(saved)
+                .extracting(Delivery::getDeliveryAddress, Delivery::getCity, Delivery::getStatus,
+                        Delivery::getScheduledDate, Delivery::getDeliveryCost)
+                .containsExactly(tuple("1 Harbour Road", "Casablanca", DeliveryStatus.PLANIFIEE,
+                        scheduledDate, new BigDecimal("25.00")));
+        assertThat(saved.get(0).getTrackingNumber()).isEqualTo("TRK-01J9Z3K8M000");
+        verify(entityManager).flush();
+    }
+
+    @Test
+    void createPendingDeliveries_WhenDryRun_ShouldReportEligibleOrdersWithoutPersisting() {
+        when(customerOrderRepository.findShippableOrders(CustomerOrderStatus.EN_PREPARATION, Limit.of(100)))
+                .thenReturn(List.of(order(1L, "CO-1", "1 Harbour Road"), order(2L, "CO-2", "2 Harbour Road")));
+
+        BulkImportReport report = deliveryService.createPendingDeliveries(new BulkDeliveryRequestDTO(null, null, 500, true));
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getRows()).extracting(BulkRowResult::getId).containsOnlyNulls();
+        verify(deliveryRepository, never()).saveAll(any());
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    void createPendingDeliveries_WhenMaxOrdersBelowCap_ShouldLimitSelection() {
+        when(customerOrderRepository.findShippableOrders(CustomerOrderStatus.EN_PREPARATION, Limit.of(10)))
+                .thenReturn(List.of());
+
+        BulkImportReport report = deliveryService.createPendingDeliveries(new BulkDeliveryRequestDTO(null, null, 10, false));
+
+        assertThat(report.getTotal()).isZero();
+        verify(deliveryRepository, never()).saveAll(any());
+    }
+
+    private static CustomerOrder order(Long id, String orderNumber, String address) {
+        Customer customer = new Customer();
+        customer.setName("Customer " + id);
+        customer.setAddress(address);
+        customer.setCity("Casablanca");
+
+        CustomerOrder customerOrder = new CustomerOrder();
+        customerOrder.setIdOrder(id);
+        customerOrder.setOrderNumber(orderNumber);
+        customerOrder.setStatus(CustomerOrderStatus.EN_PREPARATION);
+        customerOrder.setCustomer(customer);
+        return customerOrder;
+    }
+}
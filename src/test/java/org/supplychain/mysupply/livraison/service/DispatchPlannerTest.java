@@ -0,0 +1,115 @@
+package org.supplychain.mysupply.livraison.service;
+
+import org.junit.jupiter.api.Test;
+import org.supplychain.mysupply.livraison.dto.DispatchVehicleDTO;
+import org.supplychain.mysupply.livraison.repository.projection.DispatchStopRow;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class DispatchPlannerTest {
+
+    private final DispatchPlanner planner = new DispatchPlanner("Casablanca");
+
+    @Test
+    void plan_WhenStopsSpanCities_ShouldRouteEachCityOnItsOwnVehicle() {
+        List<DispatchStopRow> stops = List.of(
+                stop(1L, "Casablanca", "20000"),
+                stop(2L, "Rabat", "10000"),
+                stop(3L, "Casablanca", "20050"),
+                stop(4L, "Rabat", "10020"),
+                stop(5L, "casablanca ", "20000"),
+                stop(6L, "Rabat", "10000"));
+
+        DispatchPlan plan = planner.plan(stops, List.of(vehicle("Driver A", "Truck-A", 3), vehicle("Driver B", "Truck-B", 3)));
+
+        assertThat(plan.unassigned()).isEmpty();
+        assertThat(plan.routes()).hasSize(2);
+        assertThat(plan.routes())
+                .allSatisfy(route -> assertThat(route.stops())
+                        .extracting(stop -> stop.getCity().trim().toLowerCase())
+                        .containsOnly(route.stops().get(0).getCity().trim().toLowerCase()));
+    }
+
+    @Test
+    void plan_WhenPostalCodesDiffer_ShouldVisitNeighbouringZonesConsecutively() {
+        List<DispatchStopRow> stops = List.of(
+                stop(1L, "Casablanca", "20000"),
+                stop(2L, "Casablanca", "20400"),
+                stop(3L, "Casablanca", "20050"),
+                stop(4L, "Casablanca", "20000"));
+
+        DispatchPlan plan = planner.plan(stops, List.of(vehicle("Driver A", "Truck-A", 10)));
+
+        List<String> postalCodes = plan.routes().get(0).stops().stream().map(DispatchStopRow::getPostalCode).toList();
+        assertThat(postalCodes).hasSize(4);
+        assertThat(List.of(postalCodes.get(0), postalCodes.get(3))).contains("20400");
+        assertThat(postalCodes.indexOf("20000")).isEqualTo(postalCodes.lastIndexOf("20000") - 1);
+    }
+
+    @Test
+    void plan_WhenRouteExceedsSmallerVehicle_ShouldSplitItAcrossTheFleet() {
+        List<DispatchStopRow> stops = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            stops.add(stop(id, "Casablanca", "20000"));
+        }
+
+        DispatchPlan plan = planner.plan(stops, List.of(vehicle("Driver A", "Van-A", 2), vehicle("Driver B", "Truck-B", 4)));
+
+        assertThat(plan.unassigned()).isEmpty();
+        assertThat(plan.routes())
+                .extracting(route -> route.vehicle().getVehicle(), route -> route.stops().size())
+                .containsExactly(
+                        tuple("Truck-B", 4),
+                        tuple("Van-A", 2));
+    }
+
+    @Test
+    void plan_WhenFleetCapacityIsExceeded_ShouldReportUnassignedStops() {
+        List<DispatchStopRow> stops = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            stops.add(stop(id, "Rabat", "10000"));
+        }
+
+        DispatchPlan plan = planner.plan(stops, List.of(vehicle("Driver A", "Truck-A", 3)));
+
+        assertThat(plan.assignedCount()).isEqualTo(3);
+        assertThat(plan.unassigned()).extracting(DispatchStopRow::getIdDelivery).hasSize(2);
+        assertThat(plan.routes().get(0).distanceKm()).isEqualTo(2 * DispatchPlanner.OTHER_CITY_KM + 2 * DispatchPlanner.SAME_ZONE_KM);
+    }
+
+    @Test
+    void plan_WhenThousandsOfStops_ShouldAssignEveryStopWithinVehicleCapacity() {
+        Random random = new Random(11);
+        List<DispatchStopRow> stops = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            int city = random.nextInt(40);
+            stops.add(stop(id, "City " + city, String.valueOf(10000 + city * 1000 + random.nextInt(60) * 10)));
+        }
+        List<DispatchVehicleDTO> fleet = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            fleet.add(vehicle("Driver " + i, "Truck-" + i, 80 + (i % 3) * 20));
+        }
+
+        DispatchPlan plan = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> planner.plan(stops, fleet));
+
+        assertThat(plan.unassigned()).isEmpty();
+        assertThat(plan.routes()).allSatisfy(route -> assertThat(route.stops()).hasSizeLessThanOrEqualTo(route.vehicle().getCapacity()));
+        assertThat(plan.routes().stream().flatMap(route -> route.stops().stream()).map(DispatchStopRow::getIdDelivery).distinct())
+                .hasSize(stops.size());
+    }
+
+    private static DispatchStopRow stop(Long id, String city, String postalCode) {
+        return new DispatchStopRow(id, "TRK-" + id, id + " Main Street", city, postalCode);
+    }
+
+    private static DispatchVehicleDTO vehicle(String driver, String vehicle, int capacity) {
+        return new DispatchVehicleDTO(driver, vehicle, capacity);
+    }
+}
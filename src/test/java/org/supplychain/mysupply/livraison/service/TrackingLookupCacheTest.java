@@ -0,0 +1,86 @@
+package org.supplychain.mysupply.livraison.service;
+
+import org.junit.jupiter.api.Test;
+import org.supplychain.mysupply.livraison.dto.DeliveryResponseDTO;
+import org.supplychain.mysupply.livraison.enums.DeliveryStatus;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrackingLookupCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void get_ShouldServeRepeatedLookupsFromMemory() {
+        TrackingLookupCache cache = new TrackingLookupCache(10, Duration.ofMinutes(1));
+
+        cache.get("TRK-1", this::load);
+        Optional<DeliveryResponseDTO> delivery = cache.get("TRK-1", this::load);
+
+        assertThat(delivery).map(DeliveryResponseDTO::getTrackingNumber).contains("TRK-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_WhenEvicted_ShouldReloadDelivery() {
+        TrackingLookupCache cache = new TrackingLookupCache(10, Duration.ofMinutes(1));
+
+        cache.get("TRK-1", this::load);
+        cache.evict("TRK-1");
+        cache.get("TRK-1", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_WhenEvictedDuringLoad_ShouldNotCacheStaleDelivery() {
+        TrackingLookupCache cache = new TrackingLookupCache(10, Duration.ofMinutes(1));
+
+        cache.get("TRK-1", key -> {
+            cache.evict(key);
+            return load(key);
+        });
+        cache.get("TRK-1", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_WhenFull_ShouldDropOldestEntries() {
+        TrackingLookupCache cache = new TrackingLookupCache(2, Duration.ofMinutes(1));
+
+        cache.get("TRK-1", this::load);
+        cache.get("TRK-2", this::load);
+        cache.get("TRK-3", this::load);
+        cache.get("TRK-3", this::load);
+        cache.get("TRK-1", this::load);
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void get_WhenTrackingNumberUnknown_ShouldNotCacheMiss() {
+        TrackingLookupCache cache = new TrackingLookupCache(10, Duration.ofMinutes(1));
+
+        cache.get("TRK-404", key -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        Optional<DeliveryResponseDTO> delivery = cache.get("TRK-404", this::load);
+
+        assertThat(delivery).isPresent();
+        assertThat(loads).hasValue(2);
+    }
+
+    private Optional<DeliveryResponseDTO> load(String trackingNumber) {
+        loads.incrementAndGet();
+        DeliveryResponseDTO delivery = new DeliveryResponseDTO();
+        delivery.setTrackingNumber(trackingNumber);
+        delivery.setStatus(DeliveryStatus.PLANIFIEE);
+        return Optional.of(delivery);
+    }
+}
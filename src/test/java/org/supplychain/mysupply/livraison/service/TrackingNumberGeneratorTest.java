@@ -0,0 +1,75 @@
+package org.supplychain.mysupply.livraison.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrackingNumberGeneratorTest {
+
+    @Test
+    void next_ShouldProduceFixedLengthBase32NumbersInIncreasingOrder() {
+        TrackingNumberGenerator generator = new TrackingNumberGenerator(7);
+
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            numbers.add(generator.next());
+        }
+
+        assertThat(numbers).allMatch(number -> number.matches("TRK-[0-9A-HJKMNP-TV-Z]{12}"));
+        assertThat(numbers).isSorted();
+        assertThat(new HashSet<>(numbers)).hasSize(numbers.size());
+    }
+
+    @Test
+    void next_WhenCalledConcurrently_ShouldNeverRepeat() throws Exception {
+        TrackingNumberGenerator generator = new TrackingNumberGenerator(1);
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < 8; thread++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    numbers.add(generator.next());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(numbers).hasSize(160_000);
+    }
+
+    @Test
+    void next_WhenNodesDiffer_ShouldNotCollide() {
+        TrackingNumberGenerator first = new TrackingNumberGenerator(1);
+        TrackingNumberGenerator second = new TrackingNumberGenerator(2);
+
+        Set<String> numbers = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(first.next());
+            numbers.add(second.next());
+        }
+
+        assertThat(numbers).hasSize(20_000);
+    }
+
+    @Test
+    void constructor_WhenNodeIdOutOfRange_ShouldThrowException() {
+        assertThatThrownBy(() -> new TrackingNumberGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,66 @@
+package org.supplychain.mysupply.production.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.supplychain.mysupply.production.repository.BillOfMaterialRepository;
+import org.supplychain.mysupply.production.repository.projection.BillOfMaterialRow;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BomCacheTest {
+
+    @Mock
+    private BillOfMaterialRepository billOfMaterialRepository;
+
+    @InjectMocks
+    private BomCache bomCache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(billOfMaterialRepository.findRowsByProductIdIn(List.of(10L))).thenReturn(List.of(
+                new BillOfMaterialRow(10L, 100L, 1L, 5),
+                new BillOfMaterialRow(10L, 101L, 2L, 3)));
+    }
+
+    @Test
+    void explode_WhenCalledTwice_ShouldLoadStructureOnce() {
+        BomExplosion first = bomCache.explode(10L);
+        BomExplosion second = bomCache.explode(10L);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.materialIds()).containsExactly(1L, 2L);
+        assertThat(first.quantitiesPerUnit()).containsExactly(5, 3);
+        verify(billOfMaterialRepository, times(1)).findRowsByProductIdIn(anyCollection());
+    }
+
+    @Test
+    void explode_WhenEvicted_ShouldReloadStructure() {
+        bomCache.explode(10L);
+        bomCache.evict(10L);
+        bomCache.explode(10L);
+
+        verify(billOfMaterialRepository, times(2)).findRowsByProductIdIn(List.of(10L));
+    }
+
+    @Test
+    void explodeAll_WhenSomeProductsCached_ShouldOnlyLoadMissingOnes() {
+        when(billOfMaterialRepository.findRowsByProductIdIn(List.of(20L))).thenReturn(List.of());
+        bomCache.explode(10L);
+
+        Map<Long, BomExplosion> explosions = bomCache.explodeAll(List.of(10L, 20L));
+
+        assertThat(explosions.get(10L).size()).isEqualTo(2);
+        assertThat(explosions.get(20L).isEmpty()).isTrue();
+        verify(billOfMaterialRepository).findRowsByProductIdIn(List.of(20L));
+    }
+}
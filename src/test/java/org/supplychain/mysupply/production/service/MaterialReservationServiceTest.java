@@ -0,0 +1,185 @@
+package org.supplychain.mysupply.production.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialStockRow;
+import org.supplychain.mysupply.production.model.Product;
+import org.supplychain.mysupply.production.model.ProductionOrder;
+import org.supplychain.mysupply.production.repository.BillOfMaterialRepository;
+import org.supplychain.mysupply.production.repository.projection.BillOfMaterialRow;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MaterialReservationServiceTest {
+
+    @Mock
+    private BillOfMaterialRepository billOfMaterialRepository;
+
+    @Mock
+    private RawMaterialRepository rawMaterialRepository;
+
+    private MaterialReservationService materialReservationService;
+
+    private RawMaterial steel;
+    private RawMaterial plastic;
+
+    @BeforeEach
+    void setUp() {
+        steel = new RawMaterial();
+        steel.setIdMaterial(1L);
+        steel.setName("Steel");
+        steel.setStock(100);
+        steel.setReservedStock(90);
+
+        plastic = new RawMaterial();
+        plastic.setIdMaterial(2L);
+        plastic.setName("Plastic");
+        plastic.setStock(500);
+        plastic.setReservedStock(0);
+
+        when(billOfMaterialRepository.findRowsByProductIdIn(List.of(10L))).thenReturn(List.of(
+                new BillOfMaterialRow(10L, 100L, 1L, 5),
+                new BillOfMaterialRow(10L, 101L, 2L, 3)));
+
+        materialReservationService = new MaterialReservationService(new BomCache(billOfMaterialRepository), rawMaterialRepository);
+    }
+
+    @Test
+    void reserveMaterials_WhenEnoughAvailable_ShouldReserveEveryBomLine() {
+        when(rawMaterialRepository.tryReserveStock(1L, 10)).thenReturn(true);
+        when(rawMaterialRepository.tryReserveStock(2L, 6)).thenReturn(true);
+
+        materialReservationService.reserveMaterials(10L, 2);
+
+        verify(rawMaterialRepository).tryReserveStock(1L, 10);
+        verify(rawMaterialRepository).tryReserveStock(2L, 6);
+        verify(rawMaterialRepository, never()).findAllById(anyList());
+    }
+
+    @Test
+    void reserveMaterials_WhenMaterialAlreadyReserved_ShouldThrowWithAvailableToPromise() {
+        when(rawMaterialRepository.tryReserveStock(1L, 20)).thenReturn(false);
+        when(rawMaterialRepository.tryReserveStock(2L, 12)).thenReturn(true);
+        when(rawMaterialRepository.findAllById(List.of(1L))).thenReturn(List.of(steel));
+
+        assertThatThrownBy(() -> materialReservationService.reserveMaterials(10L, 4))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Steel (need 20, available 10)");
+    }
+
+    @Test
+    void consumeReservedMaterials_ShouldDrawOwnReservationAndChargeShortfallToUnreservedStock() {
+        when(rawMaterialRepository.findStockRowsForUpdate(anyCollection())).thenReturn(List.of(
+                new MaterialStockRow(1L, "Steel", 100, 90, 10),
+                new MaterialStockRow(2L, "Plastic", 500, 1, 10)));
+        when(rawMaterialRepository.tryConsumeStock(1L, 5, 5)).thenReturn(true);
+        when(rawMaterialRepository.tryConsumeStock(2L, 3, 1)).thenReturn(true);
+
+        materialReservationService.consumeReservedMaterials(10L, 1, true);
+
+        verify(rawMaterialRepository).tryConsumeStock(1L, 5, 5);
+        verify(rawMaterialRepository).tryConsumeStock(2L, 3, 1);
+    }
+
+    @Test
+    void consumeReservedMaterials_WhenOrderHoldsNoReservation_ShouldLeaveOtherReservationsUntouched() {
+        when(rawMaterialRepository.findStockRowsForUpdate(anyCollection())).thenReturn(List.of(
+                new MaterialStockRow(1L, "Steel", 100, 90, 10),
+                new MaterialStockRow(2L, "Plastic", 500, 1, 10)));
+        when(rawMaterialRepository.tryConsumeStock(1L, 5, 0)).thenReturn(true);
+        when(rawMaterialRepository.tryConsumeStock(2L, 3, 0)).thenReturn(true);
+
+        materialReservationService.consumeReservedMaterials(10L, 1, false);
+
+        verify(rawMaterialRepository).tryConsumeStock(1L, 5, 0);
+        verify(rawMaterialRepository).tryConsumeStock(2L, 3, 0);
+    }
+
+    @Test
+    void consumeReservedMaterials_WhenShortfallExceedsUnreservedStock_ShouldRejectWithoutConsuming() {
+        when(rawMaterialRepository.findStockRowsForUpdate(anyCollection())).thenReturn(List.of(
+                new MaterialStockRow(1L, "Steel", 100, 10, 10),
+                new MaterialStockRow(2L, "Plastic", 500, 0, 10)));
+        when(rawMaterialRepository.findAllById(List.of(1L))).thenReturn(List.of(steel));
+
+        assertThatThrownBy(() -> materialReservationService.consumeReservedMaterials(10L, 24, true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Steel (need 120");
+        verify(rawMaterialRepository, never()).tryConsumeStock(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void consumeReservedMaterials_WhenBulk_ShouldAggregateConsumptionPerMaterialAndRejectShortOrders() {
+        when(rawMaterialRepository.findStockRowsForUpdate(anyCollection())).thenReturn(List.of(
+                new MaterialStockRow(1L, "Steel", 100, 90, 10),
+                new MaterialStockRow(2L, "Plastic", 500, 0, 10)));
+        when(rawMaterialRepository.tryConsumeStock(1L, 50, 50)).thenReturn(true);
+        when(rawMaterialRepository.tryConsumeStock(2L, 30, 0)).thenReturn(true);
+
+        Map<Long, String> rejections = materialReservationService.consumeReservedMaterials(List.of(
+                productionOrder(1L, 2), productionOrder(2L, 20), productionOrder(3L, 8)));
+
+        assertThat(rejections).containsOnlyKeys(2L);
+        assertThat(rejections.get(2L)).contains("Steel (need 100, available 10)");
+        verify(rawMaterialRepository).tryConsumeStock(1L, 50, 50);
+        verify(rawMaterialRepository).tryConsumeStock(2L, 30, 0);
+    }
+
+    @Test
+    void consumeReservedMaterials_WhenConditionalUpdateMisses_ShouldFailWholeBatch() {
+        when(rawMaterialRepository.findStockRowsForUpdate(anyCollection())).thenReturn(List.of(
+                new MaterialStockRow(1L, "Steel", 100, 90, 10),
+                new MaterialStockRow(2L, "Plastic", 500, 0, 10)));
+        when(rawMaterialRepository.tryConsumeStock(1L, 10, 10)).thenReturn(false);
+
+        assertThatThrownBy(() -> materialReservationService.consumeReservedMaterials(List.of(productionOrder(1L, 2))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Steel");
+    }
+
+    @Test
+    void releaseMaterials_ShouldReleaseEveryBomLine() {
+        when(rawMaterialRepository.releaseReservedStock(1L, 15)).thenReturn(1);
+        when(rawMaterialRepository.releaseReservedStock(2L, 9)).thenReturn(1);
+
+        materialReservationService.releaseMaterials(10L, 3);
+
+        verify(rawMaterialRepository).releaseReservedStock(1L, 15);
+        verify(rawMaterialRepository).releaseReservedStock(2L, 9);
+    }
+
+    @Test
+    void releaseMaterials_WhenReservedStockIsLowerThanReservation_ShouldThrow() {
+        when(rawMaterialRepository.releaseReservedStock(1L, 15)).thenReturn(0);
+        when(rawMaterialRepository.releaseReservedStock(2L, 9)).thenReturn(1);
+
+        assertThatThrownBy(() -> materialReservationService.releaseMaterials(10L, 3))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("[1]");
+    }
+
+    private ProductionOrder productionOrder(Long id, int quantity) {
+        Product product = new Product();
+        product.setIdProduct(10L);
+
+        ProductionOrder order = new ProductionOrder();
+        order.setIdOrder(id);
+        order.setProduct(product);
+        order.setQuantity(quantity);
+        order.setMaterialsReserved(true);
+        return order;
+    }
+}
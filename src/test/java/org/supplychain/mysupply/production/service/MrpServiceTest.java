@@ -0,0 +1,142 @@
+package org.supplychain.mysupply.production.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.supplychain.mysupply.approvisionnement.dto.SupplyOrderDTO;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.SupplyOrderLineRepository;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialPriceRow;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialStockRow;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialSupplierRow;
+import org.supplychain.mysupply.approvisionnement.service.SupplierSelector;
+import org.supplychain.mysupply.approvisionnement.service.interf.ISupplyOrderService;
+import org.supplychain.mysupply.common.projection.QuantityRow;
+import org.supplychain.mysupply.livraison.repository.CustomerOrderLineRepository;
+import org.supplychain.mysupply.production.dto.MrpMaterialRequirementDTO;
+import org.supplychain.mysupply.production.dto.MrpReportDTO;
+import org.supplychain.mysupply.production.dto.MrpSupplyProposalDTO;
+import org.supplychain.mysupply.production.repository.BillOfMaterialRepository;
+import org.supplychain.mysupply.production.repository.ProductRepository;
+import org.supplychain.mysupply.production.repository.ProductionOrderRepository;
+import org.supplychain.mysupply.production.repository.projection.BillOfMaterialRow;
+import org.supplychain.mysupply.production.repository.projection.ProductRow;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MrpServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductionOrderRepository productionOrderRepository;
+
+    @Mock
+    private CustomerOrderLineRepository customerOrderLineRepository;
+
+    @Mock
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Mock
+    private SupplyOrderLineRepository supplyOrderLineRepository;
+
+    @Mock
+    private ISupplyOrderService supplyOrderService;
+
+    @Mock
+    private BillOfMaterialRepository billOfMaterialRepository;
+
+    private MrpService mrpService;
+
+    @BeforeEach
+    void setUp() {
+        when(productRepository.findAllRowsOrderById()).thenReturn(List.of(
+                new ProductRow(10L, "Chair", null, 2, BigDecimal.TEN, 5, 50, "UNIT"),
+                new ProductRow(20L, "Table", null, 4, BigDecimal.TEN, 80, 20, "UNIT")));
+        when(customerOrderLineRepository.sumQuantityByProduct(anyCollection())).thenReturn(List.of(new QuantityRow(10L, 12L)));
+        when(productionOrderRepository.sumQuantityByProduct(anyCollection())).thenReturn(List.of(new QuantityRow(10L, 15L)));
+        when(billOfMaterialRepository.findRowsByProductIdIn(List.of(10L))).thenReturn(List.of(
+                new BillOfMaterialRow(10L, 100L, 1L, 4),
+                new BillOfMaterialRow(10L, 101L, 2L, 2)));
+        when(rawMaterialRepository.findAllStockRows()).thenReturn(List.of(
+                new MaterialStockRow(1L, "Wood", 100, 20, 10),
+                new MaterialStockRow(2L, "Screws", 500, 0, 50)));
+        when(supplyOrderLineRepository.sumQuantityByMaterial(anyCollection())).thenReturn(List.of(new QuantityRow(1L, 30L)));
+        when(rawMaterialRepository.findSupplierRows(List.of(1L))).thenReturn(List.of(
+                new MaterialSupplierRow(1L, 7L, "Slow Timber", "c", "slow@timber.ma", null, 4.9, 12),
+                new MaterialSupplierRow(1L, 8L, "Fast Timber", "c", "fast@timber.ma", null, 4.1, 3)));
+        when(supplyOrderLineRepository.findLastUnitPrices(List.of(1L))).thenReturn(List.of(new MaterialPriceRow(1L, BigDecimal.valueOf(12))));
+
+        mrpService = new MrpService(productRepository, productionOrderRepository, customerOrderLineRepository,
+                rawMaterialRepository, supplyOrderLineRepository, supplyOrderService, new SupplierSelector(),
+                new BomCache(billOfMaterialRepository));
+    }
+
+    @Test
+    void plan_ShouldNetRequirementsAgainstStockReservationsAndScheduledReceipts() {
+        MrpReportDTO report = mrpService.plan();
+
+        assertThat(report.getProductRequirements()).hasSize(1);
+        assertThat(report.getProductRequirements().get(0).getPlannedQuantity()).isEqualTo(30L);
+        assertThat(report.getProductRequirements().get(0).getOpenCustomerDemand()).isEqualTo(12L);
+
+        assertThat(report.getMaterialRequirements()).hasSize(1);
+        MrpMaterialRequirementDTO wood = report.getMaterialRequirements().get(0);
+        assertThat(wood.getGrossRequirement()).isEqualTo(120L);
+        assertThat(wood.getNetRequirement()).isEqualTo(20L);
+        assertThat(wood.getSupplierId()).isEqualTo(8L);
+    }
+
+    @Test
+    void plan_ShouldGroupProposalsBySupplierWithLeadTime() {
+        MrpReportDTO report = mrpService.plan();
+
+        assertThat(report.getSupplyProposals()).hasSize(1);
+        MrpSupplyProposalDTO proposal = report.getSupplyProposals().get(0);
+        assertThat(proposal.getSupplierName()).isEqualTo("Fast Timber");
+        assertThat(proposal.getExpectedReceiptDate()).isEqualTo(proposal.getOrderDate().plusDays(3));
+        assertThat(proposal.getOrderLines()).singleElement()
+                .satisfies(line -> {
+                    assertThat(line.getRawMaterialId()).isEqualTo(1L);
+                    assertThat(line.getQuantity()).isEqualTo(20);
+                    assertThat(line.getUnitPrice()).isEqualByComparingTo("12");
+                });
+    }
+
+    @Test
+    void plan_WhenShortMaterialWasNeverPurchased_ShouldReportItAsUnsourced() {
+        when(supplyOrderLineRepository.findLastUnitPrices(List.of(1L))).thenReturn(List.of());
+
+        MrpReportDTO report = mrpService.plan();
+
+        assertThat(report.getMaterialRequirements()).singleElement()
+                .satisfies(wood -> assertThat(wood.getSupplierId()).isEqualTo(8L));
+        assertThat(report.getSupplyProposals()).isEmpty();
+        assertThat(report.getUnsourcedMaterialIds()).containsExactly(1L);
+    }
+
+    @Test
+    void draftSupplyOrders_ShouldImportOneSupplyOrderPerProposal() {
+        ArgumentCaptor<List<SupplyOrderDTO>> captor = ArgumentCaptor.forClass(List.class);
+
+        mrpService.draftSupplyOrders();
+
+        verify(supplyOrderService).importSupplyOrders(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(order -> {
+                    assertThat(order.getSupplierId()).isEqualTo(8L);
+                    assertThat(order.getOrderNumber()).startsWith("MRP-").endsWith("-8");
+                    assertThat(order.getOrderLines()).hasSize(1);
+                });
+    }
+}
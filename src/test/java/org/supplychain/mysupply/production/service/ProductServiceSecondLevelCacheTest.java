@@ -0,0 +1,106 @@
+package org.supplychain.mysupply.production.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.supplychain.mysupply.approvisionnement.model.RawMaterial;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.common.SqlStatementCounter;
+import org.supplychain.mysupply.production.dto.ProductResponseDTO;
+import org.supplychain.mysupply.production.model.BillOfMaterial;
+import org.supplychain.mysupply.production.model.Product;
+import org.supplychain.mysupply.production.repository.BillOfMaterialRepository;
+import org.supplychain.mysupply.production.repository.ProductRepository;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductServiceSecondLevelCacheTest {
+
+    private static final int INITIAL_STOCK = 50;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Autowired
+    private BillOfMaterialRepository billOfMaterialRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private RawMaterial testMaterial;
+    private Product testProduct;
+    private BillOfMaterial testBom;
+
+    @BeforeEach
+    void setUp() {
+        testMaterial = new RawMaterial();
+        testMaterial.setName("Cached Steel");
+        testMaterial.setStock(500);
+        testMaterial.setReservedStock(0);
+        testMaterial.setStockMin(10);
+        testMaterial.setUnit("KG");
+        testMaterial = rawMaterialRepository.save(testMaterial);
+
+        testProduct = new Product();
+        testProduct.setName("Cached Frame");
+        testProduct.setProductionTime(2);
+        testProduct.setCost(BigDecimal.TEN);
+        testProduct.setStock(INITIAL_STOCK);
+        testProduct.setMinimumStock(5);
+        testProduct.setUnit("UNIT");
+        testProduct = productRepository.save(testProduct);
+
+        testBom = new BillOfMaterial();
+        testBom.setProduct(testProduct);
+        testBom.setMaterial(testMaterial);
+        testBom.setQuantity(3);
+        testBom = billOfMaterialRepository.save(testBom);
+    }
+
+    @AfterEach
+    void tearDown() {
+        billOfMaterialRepository.deleteById(testBom.getIdBOM());
+        productRepository.deleteById(testProduct.getIdProduct());
+        rawMaterialRepository.deleteById(testMaterial.getIdMaterial());
+    }
+
+    @Test
+    void getProductById_WhenReadTwice_ShouldServeBomFromSecondLevelCacheAndStockFromDatabase() {
+        productService.getProductById(testProduct.getIdProduct());
+
+        SqlStatementCounter.reset();
+        ProductResponseDTO product = productService.getProductById(testProduct.getIdProduct());
+
+        assertThat(product.getBillOfMaterials()).hasSize(1);
+        assertThat(SqlStatementCounter.selectsFrom("bill_of_materials")).isZero();
+        assertThat(SqlStatementCounter.selectsFrom("products")).isEqualTo(1);
+        assertThat(SqlStatementCounter.selectsFrom("raw_materials")).isEqualTo(1);
+    }
+
+    @Test
+    void getProductById_AfterAtomicStockDecrement_ShouldReturnCurrentStockAndKeepBomCached() {
+        productService.getProductById(testProduct.getIdProduct());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                assertThat(productRepository.tryDecrementStock(testProduct.getIdProduct(), 4)).isTrue());
+
+        SqlStatementCounter.reset();
+        assertThat(productService.getProductById(testProduct.getIdProduct()).getStock()).isEqualTo(INITIAL_STOCK - 4);
+        assertThat(SqlStatementCounter.selectsFrom("bill_of_materials")).isZero();
+    }
+}
@@ -0,0 +1,158 @@
+package org.supplychain.mysupply.production.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.supplychain.mysupply.production.dto.ProductionOrderTransitionReportDTO;
+import org.supplychain.mysupply.production.dto.ProductionOrderTransitionResultDTO;
+import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
+import org.supplychain.mysupply.production.mapper.ProductionOrderMapper;
+import org.supplychain.mysupply.production.model.Product;
+import org.supplychain.mysupply.production.model.ProductionOrder;
+import org.supplychain.mysupply.production.repository.ProductRepository;
+import org.supplychain.mysupply.production.repository.ProductionOrderRepository;
+import org.supplychain.mysupply.production.service.interf.IMaterialReservationService;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductionOrderServiceTest {
+
+    @Mock
+    private ProductionOrderRepository productionOrderRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private IMaterialReservationService materialReservationService;
+
+    @Mock
+    private ProductionOrderMapper productionOrderMapper;
+
+    @Mock
+    private ProductionScheduler productionScheduler;
+
+    @InjectMocks
+    private ProductionOrderService productionOrderService;
+
+    @Test
+    void transitionProductionOrders_WhenCompleting_ShouldIncrementStockOncePerProduct() {
+        ProductionOrder first = order(1L, 10L, 5, ProductionOrderStatus.EN_PRODUCTION);
+        ProductionOrder second = order(2L, 10L, 3, ProductionOrderStatus.EN_PRODUCTION);
+        ProductionOrder other = order(3L, 20L, 4, ProductionOrderStatus.EN_PRODUCTION);
+        ProductionOrder waiting = order(4L, 10L, 1, ProductionOrderStatus.EN_ATTENTE);
+        when(productionOrderRepository.findAllById(Set.of(1L, 2L, 3L, 4L, 99L)))
+                .thenReturn(List.of(first, second, other, waiting));
+
+        ProductionOrderTransitionReportDTO report = productionOrderService.transitionProductionOrders(
+                List.of(1L, 2L, 4L, 99L, 3L, 1L), ProductionOrderStatus.TERMINE);
+
+        assertThat(report.getTargetStatus()).isEqualTo(ProductionOrderStatus.TERMINE);
+        assertThat(report.getTransitioned()).isEqualTo(3);
+        assertThat(report.getRejected()).isEqualTo(3);
+        assertThat(report.getOrders())
+                .extracting(ProductionOrderTransitionResultDTO::getIndex, ProductionOrderTransitionResultDTO::getOrderId,
+                        ProductionOrderTransitionResultDTO::getOrderNumber, ProductionOrderTransitionResultDTO::getStatus,
+                        ProductionOrderTransitionResultDTO::isTransitioned)
+                .containsExactly(
+                        tuple(0, 1L, "PO-1", ProductionOrderStatus.TERMINE, true),
+                        tuple(1, 2L, "PO-2", ProductionOrderStatus.TERMINE, true),
+                        tuple(2, 4L, "PO-4", ProductionOrderStatus.EN_ATTENTE, false),
+                        tuple(3, 99L, null, null, false),
+                        tuple(4, 3L, "PO-3", ProductionOrderStatus.TERMINE, true),
+                        tuple(5, 1L, "PO-1", ProductionOrderStatus.EN_PRODUCTION, false));
+        assertThat(report.getOrders().get(0).getPreviousStatus()).isEqualTo(ProductionOrderStatus.EN_PRODUCTION);
+        assertThat(report.getOrders().get(2).getErrors()).containsExactly("Can only complete orders that are in production");
+        assertThat(first.getStatus()).isEqualTo(ProductionOrderStatus.TERMINE);
+        assertThat(first.getActualEndDate()).isEqualTo(LocalDate.now());
+        assertThat(waiting.getStatus()).isEqualTo(ProductionOrderStatus.EN_ATTENTE);
+
+        verify(productRepository).incrementStock(10L, 8);
+        verify(productRepository).incrementStock(20L, 4);
+        verifyNoMoreInteractions(productRepository);
+        verify(productionScheduler, times(3)).track(any());
+        verify(productionOrderRepository, never()).save(any());
+    }
+
+    @Test
+    void transitionProductionOrders_WhenStarting_ShouldConsumeMaterialsOnceAndReportShortages() {
+        ProductionOrder first = order(1L, 10L, 5, ProductionOrderStatus.EN_ATTENTE);
+        ProductionOrder second = order(2L, 10L, 50, ProductionOrderStatus.EN_ATTENTE);
+        when(productionOrderRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(materialReservationService.consumeReservedMaterials(List.of(first, second)))
+                .thenReturn(Map.of(2L, "Insufficient materials for production: Steel (need 250, available 40)"));
+        when(productionScheduler.estimateEndDates(List.of(40))).thenReturn(List.of(LocalDate.now().plusDays(4)));
+
+        ProductionOrderTransitionReportDTO report = productionOrderService.transitionProductionOrders(
+                List.of(1L, 2L), ProductionOrderStatus.EN_PRODUCTION);
+
+        assertThat(report.getOrders())
+                .extracting(ProductionOrderTransitionResultDTO::isTransitioned, ProductionOrderTransitionResultDTO::getStatus)
+                .containsExactly(
+                        tuple(true, ProductionOrderStatus.EN_PRODUCTION),
+                        tuple(false, ProductionOrderStatus.EN_ATTENTE));
+        assertThat(report.getOrders().get(1).getErrors()).singleElement().asString().contains("Steel");
+        assertThat(first.getStatus()).isEqualTo(ProductionOrderStatus.EN_PRODUCTION);
+        assertThat(first.getStartDate()).isEqualTo(LocalDate.now());
+        assertThat(first.getEstimatedEndDate()).isEqualTo(LocalDate.now().plusDays(4));
+        assertThat(first.getMaterialsReserved()).isFalse();
+        assertThat(second.getStatus()).isEqualTo(ProductionOrderStatus.EN_ATTENTE);
+        assertThat(second.getMaterialsReserved()).isTrue();
+
+        verify(materialReservationService, never()).consumeReservedMaterials(anyLong(), anyInt(), anyBoolean());
+        verify(productionScheduler, times(1)).track(any());
+    }
+
+    @Test
+    void deleteProductionOrder_WhenWaitingOrderHoldsNoReservation_ShouldNotReleaseMaterials() {
+        ProductionOrder legacy = order(1L, 10L, 5, ProductionOrderStatus.EN_ATTENTE);
+        legacy.setMaterialsReserved(false);
+        when(productionOrderRepository.findById(1L)).thenReturn(Optional.of(legacy));
+
+        productionOrderService.deleteProductionOrder(1L);
+
+        verify(materialReservationService, never()).releaseMaterials(anyLong(), anyInt());
+        verify(productionOrderRepository).deleteById(1L);
+    }
+
+    @Test
+    void deleteProductionOrder_WhenWaitingOrderHoldsReservation_ShouldReleaseIt() {
+        ProductionOrder waiting = order(1L, 10L, 5, ProductionOrderStatus.EN_ATTENTE);
+        waiting.setMaterialsReserved(true);
+        when(productionOrderRepository.findById(1L)).thenReturn(Optional.of(waiting));
+
+        productionOrderService.deleteProductionOrder(1L);
+
+        verify(materialReservationService).releaseMaterials(10L, 5);
+    }
+
+    private ProductionOrder order(Long id, Long productId, int quantity, ProductionOrderStatus status) {
+        Product product = new Product();
+        product.setIdProduct(productId);
+
+        ProductionOrder order = new ProductionOrder();
+        order.setIdOrder(id);
+        order.setOrderNumber("PO-" + id);
+        order.setProduct(product);
+        order.setQuantity(quantity);
+        order.setStatus(status);
+        order.setMaterialsReserved(status == ProductionOrderStatus.EN_ATTENTE);
+        order.setEstimatedProductionTimeHours(quantity * 8);
+        return order;
+    }
+}
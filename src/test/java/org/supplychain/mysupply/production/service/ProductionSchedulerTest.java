@@ -0,0 +1,135 @@
+package org.supplychain.mysupply.production.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.supplychain.mysupply.production.enums.Priority;
+import org.supplychain.mysupply.production.enums.ProductionOrderStatus;
+import org.supplychain.mysupply.production.repository.ProductionOrderRepository;
+import org.supplychain.mysupply.production.repository.projection.ProductionOrderScheduleRow;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductionSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Mock
+    private ProductionOrderRepository productionOrderRepository;
+
+    private ProductionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ProductionScheduler(productionOrderRepository, 2, 8);
+    }
+
+    @Test
+    void schedule_ShouldAssignOrdersByPriorityThenDateToEarliestFreeLine() {
+        when(productionOrderRepository.findScheduleRows(anyCollection())).thenReturn(List.of(
+                waiting(1L, Priority.STANDARD, TODAY.minusDays(2), 8),
+                waiting(2L, Priority.URGENT, TODAY, 16),
+                waiting(3L, Priority.STANDARD, TODAY, 8),
+                waiting(4L, Priority.LOW, TODAY.minusDays(10), 8)));
+
+        ProductionSchedule schedule = scheduler.schedule();
+
+        assertThat(schedule.slots())
+                .extracting(ProductionSlot::idOrder, ProductionSlot::line, ProductionSlot::plannedStartDate, ProductionSlot::plannedEndDate)
+                .containsExactly(
+                        tuple(2L, 1, TODAY, TODAY.plusDays(1)),
+                        tuple(1L, 2, TODAY, TODAY),
+                        tuple(3L, 2, TODAY.plusDays(1), TODAY.plusDays(1)),
+                        tuple(4L, 1, TODAY.plusDays(2), TODAY.plusDays(2)));
+    }
+
+    @Test
+    void schedule_ShouldQueueBehindRemainingWorkOfRunningOrders() {
+        when(productionOrderRepository.findScheduleRows(anyCollection())).thenReturn(List.of(
+                running(10L, TODAY.minusDays(1), 40),
+                running(11L, TODAY, 4),
+                waiting(1L, Priority.HIGH, TODAY, 8)));
+
+        ProductionSchedule schedule = scheduler.schedule();
+
+        assertThat(schedule.slots()).singleElement().satisfies(slot -> {
+            assertThat(slot.line()).isEqualTo(2);
+            assertThat(slot.plannedStartDate()).isEqualTo(TODAY);
+            assertThat(slot.plannedEndDate()).isEqualTo(TODAY.plusDays(1));
+        });
+        assertThat(scheduler.estimateEndDate(8)).isEqualTo(TODAY.plusDays(1));
+    }
+
+    @Test
+    void track_ShouldRescheduleInMemoryWithoutReloading() {
+        when(productionOrderRepository.findScheduleRows(anyCollection())).thenReturn(List.of(
+                waiting(1L, Priority.STANDARD, TODAY, 8),
+                waiting(2L, Priority.LOW, TODAY, 8)));
+        scheduler.schedule();
+
+        scheduler.track(entry(3L, ProductionOrderStatus.EN_ATTENTE, Priority.URGENT, TODAY, 8));
+        scheduler.track(entry(1L, ProductionOrderStatus.EN_PRODUCTION, Priority.STANDARD, TODAY, 8));
+        scheduler.untrack(2L);
+
+        assertThat(scheduler.schedule().slots())
+                .extracting(ProductionSlot::idOrder, ProductionSlot::line)
+                .containsExactly(tuple(3L, 2));
+
+        scheduler.track(entry(1L, ProductionOrderStatus.TERMINE, Priority.STANDARD, TODAY, 8));
+
+        assertThat(scheduler.schedule().slots())
+                .extracting(ProductionSlot::idOrder, ProductionSlot::line)
+                .containsExactly(tuple(3L, 1));
+        verify(productionOrderRepository, times(1)).findScheduleRows(anyCollection());
+    }
+
+    @Test
+    void schedule_WhenOrderInsertedDeepInQueue_ShouldMatchFullReplan() {
+        Random random = new Random(42);
+        List<ProductionOrderScheduleRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            rows.add(waiting(id, Priority.values()[random.nextInt(Priority.values().length)],
+                    TODAY.minusDays(random.nextInt(30)), 1 + random.nextInt(24)));
+        }
+        when(productionOrderRepository.findScheduleRows(anyCollection())).thenReturn(rows);
+        scheduler.schedule();
+
+        ProductionOrderScheduleRow added = waiting(9999L, Priority.LOW, TODAY.minusDays(15), 12);
+        scheduler.track(ProductionQueueEntry.of(added));
+        scheduler.untrack(4000L);
+
+        List<ProductionOrderScheduleRow> expectedRows = new ArrayList<>(rows);
+        expectedRows.removeIf(row -> row.getIdOrder() == 4000L);
+        expectedRows.add(added);
+        ProductionOrderRepository freshRepository = mock(ProductionOrderRepository.class);
+        when(freshRepository.findScheduleRows(anyCollection())).thenReturn(expectedRows);
+
+        assertThat(scheduler.schedule().slots())
+                .isEqualTo(new ProductionScheduler(freshRepository, 2, 8).schedule().slots());
+    }
+
+    private ProductionOrderScheduleRow waiting(Long id, Priority priority, LocalDate orderDate, int hours) {
+        return new ProductionOrderScheduleRow(id, "PO-" + id, ProductionOrderStatus.EN_ATTENTE, priority, orderDate, null, hours);
+    }
+
+    private ProductionOrderScheduleRow running(Long id, LocalDate startDate, int hours) {
+        return new ProductionOrderScheduleRow(id, "PO-" + id, ProductionOrderStatus.EN_PRODUCTION, Priority.STANDARD,
+                startDate, startDate, hours);
+    }
+
+    private ProductionQueueEntry entry(Long id, ProductionOrderStatus status, Priority priority, LocalDate orderDate, int hours) {
+        return new ProductionQueueEntry(id, "PO-" + id, status, priority, orderDate,
+                status == ProductionOrderStatus.EN_PRODUCTION ? TODAY : null, hours);
+    }
+}
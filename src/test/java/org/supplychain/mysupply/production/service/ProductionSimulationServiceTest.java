@@ -0,0 +1,105 @@
+package org.supplychain.mysupply.production.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.supplychain.mysupply.approvisionnement.repository.RawMaterialRepository;
+import org.supplychain.mysupply.approvisionnement.repository.projection.MaterialStockRow;
+import org.supplychain.mysupply.common.exception.ResourceNotFoundException;
+import org.supplychain.mysupply.production.dto.BuildableProductDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationLineDTO;
+import org.supplychain.mysupply.production.dto.ProductionSimulationResponseDTO;
+import org.supplychain.mysupply.production.repository.BillOfMaterialRepository;
+import org.supplychain.mysupply.production.repository.ProductRepository;
+import org.supplychain.mysupply.production.repository.projection.BillOfMaterialRow;
+import org.supplychain.mysupply.production.repository.projection.ProductRow;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductionSimulationServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private RawMaterialRepository rawMaterialRepository;
+
+    @Mock
+    private BillOfMaterialRepository billOfMaterialRepository;
+
+    private ProductionSimulationService productionSimulationService;
+
+    private ProductRow chair;
+    private ProductRow table;
+
+    @BeforeEach
+    void setUp() {
+        chair = new ProductRow(10L, "Chair", null, 2, BigDecimal.TEN, 0, 0, "UNIT");
+        table = new ProductRow(20L, "Table", null, 4, BigDecimal.TEN, 0, 0, "UNIT");
+
+        lenient().when(billOfMaterialRepository.findRowsByProductIdIn(anyCollection())).thenReturn(List.of(
+                new BillOfMaterialRow(10L, 100L, 1L, 4),
+                new BillOfMaterialRow(10L, 101L, 2L, 1),
+                new BillOfMaterialRow(20L, 200L, 1L, 10)));
+
+        productionSimulationService = new ProductionSimulationService(
+                productRepository, rawMaterialRepository, new BomCache(billOfMaterialRepository));
+    }
+
+    @Test
+    void getMaxBuildable_ShouldReportBottleneckMaterialPerProduct() {
+        when(productRepository.findAllRowsOrderById()).thenReturn(List.of(chair, table));
+        when(rawMaterialRepository.findAllStockRows()).thenReturn(List.of(
+                new MaterialStockRow(1L, "Wood", 100, 20, 10),
+                new MaterialStockRow(2L, "Screws", 15, 0, 5)));
+
+        List<BuildableProductDTO> products = productionSimulationService.getMaxBuildable();
+
+        assertThat(products).hasSize(2);
+        assertThat(products.get(0).getMaxBuildable()).isEqualTo(15);
+        assertThat(products.get(0).getBottleneckMaterialName()).isEqualTo("Screws");
+        assertThat(products.get(1).getMaxBuildable()).isEqualTo(8);
+        assertThat(products.get(1).getBottleneckMaterialName()).isEqualTo("Wood");
+    }
+
+    @Test
+    void simulate_WhenCombinedDemandExceedsStock_ShouldReportShortages() {
+        when(productRepository.findRowsByIdIn(anyCollection())).thenReturn(List.of(chair, table));
+        when(rawMaterialRepository.findStockRowsByIdIn(anyCollection())).thenReturn(List.of(
+                new MaterialStockRow(1L, "Wood", 100, 20, 10),
+                new MaterialStockRow(2L, "Screws", 15, 0, 5)));
+
+        ProductionSimulationResponseDTO simulation = productionSimulationService.simulate(new ProductionSimulationDTO(List.of(
+                new ProductionSimulationLineDTO(10L, 10),
+                new ProductionSimulationLineDTO(20L, 5))));
+
+        assertThat(simulation.isFeasible()).isFalse();
+        assertThat(simulation.getProducts()).extracting(BuildableProductDTO::getRequestedQuantity).containsExactly(10, 5);
+        assertThat(simulation.getShortages()).hasSize(1);
+        assertThat(simulation.getShortages().get(0).getMaterialName()).isEqualTo("Wood");
+        assertThat(simulation.getShortages().get(0).getRequired()).isEqualTo(90L);
+        assertThat(simulation.getShortages().get(0).getShortage()).isEqualTo(10L);
+        verify(rawMaterialRepository, never()).tryReserveStock(anyLong(), anyInt());
+    }
+
+    @Test
+    void simulate_WhenProductDoesNotExist_ShouldThrowResourceNotFound() {
+        when(productRepository.findRowsByIdIn(anyCollection())).thenReturn(List.of(chair));
+
+        assertThatThrownBy(() -> productionSimulationService.simulate(new ProductionSimulationDTO(List.of(
+                new ProductionSimulationLineDTO(10L, 1),
+                new ProductionSimulationLineDTO(99L, 1)))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+}